@@ -37,6 +37,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns the occurrence of {@code event} which the filtered list of events shows it for */
+    Event getShownOccurrence(Event event);
+
     /**
      * Returns the user prefs' NUScheduler file path.
      */
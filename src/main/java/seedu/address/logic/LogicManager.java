@@ -70,6 +70,11 @@ public class LogicManager implements Logic {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public Event getShownOccurrence(Event event) {
+        return model.getShownOccurrence(event);
+    }
+
     @Override
     public Path getNuSchedulerFilePath() {
         return model.getNuSchedulerFilePath();
@@ -1,17 +1,22 @@
 package seedu.address.logic.commands.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 
 /**
  * Adds an event to the NUScheduler.
@@ -26,7 +31,9 @@ public class AddEventCommand extends EventCommand {
             + PREFIX_NAME + "TITLE "
             + PREFIX_START_DATE + "START "
             + PREFIX_END_DATE + "END "
-            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_REPEAT + "weekly|biweekly " + PREFIX_UNTIL + "UNTIL|" + PREFIX_COUNT + "TIMES "
+            + "[" + PREFIX_EXCEPT + "EXCEPTION_DATE]...]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
             + PREFIX_NAME + "Formal Dinner "
             + PREFIX_START_DATE + "20/04/2022 08:00 "
@@ -41,7 +48,9 @@ public class AddEventCommand extends EventCommand {
             + PREFIX_NAME + "TITLE "
             + PREFIX_START_DATE + "START "
             + PREFIX_END_DATE + "END "
-            + "[" + PREFIX_TAG + "TAG]...";
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_REPEAT + "weekly|biweekly " + PREFIX_UNTIL + "UNTIL|" + PREFIX_COUNT + "TIMES "
+            + "[" + PREFIX_EXCEPT + "EXCEPTION_DATE]...]";
 
     private final Event toAdd;
 
@@ -69,6 +78,10 @@ public class AddEventCommand extends EventCommand {
             throw new CommandException(Messages.MESSAGE_EVENTS_INVALID_START_END);
         }
 
+        if (!toAdd.isValidRecurrence()) {
+            throw new CommandException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
         model.addEvent(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
@@ -78,14 +78,16 @@ public class AddProfilesToEventCommand extends EventCommand {
             profilesToAdd.add(p);
         }
 
-        Event eventCopy = new Event(event.getTitle(), event.getStartDateTime(), event.getEndDateTime(),
-                event.getTags(), event.getAttendees());
+        String clashes = checkClashes(model, event, profilesToAdd);
+
+        Event eventCopy = new Event(event.getId(), event.getTitle(), event.getStartDateTime(),
+                event.getEndDateTime(), event.getTags(), event.getAttendees(), event.getRecurrence());
 
         model.addEventToAttendees(eventCopy, profilesToAdd);
         model.addEventAttendees(eventCopy, profilesToAdd);
         model.setEvent(event, eventCopy);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_ATTENDEES_SUCCESS, event));
+        return new CommandResult(String.format(MESSAGE_EDIT_ATTENDEES_SUCCESS, event) + clashes);
     }
 
     @Override
@@ -76,8 +76,8 @@ public class DeleteProfilesFromEventCommand extends EventCommand {
             profilesToDelete.add(p);
         }
 
-        Event eventCopy = new Event(event.getTitle(), event.getStartDateTime(), event.getEndDateTime(),
-                event.getTags(), event.getAttendees());
+        Event eventCopy = new Event(event.getId(), event.getTitle(), event.getStartDateTime(),
+                event.getEndDateTime(), event.getTags(), event.getAttendees(), event.getRecurrence());
 
         model.removeEventFromAttendees(event, profilesToDelete);
         model.deleteEventAttendees(eventCopy, profilesToDelete);
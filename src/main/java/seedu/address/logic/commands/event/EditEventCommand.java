@@ -23,6 +23,7 @@ import seedu.address.model.Model;
 import seedu.address.model.event.Attendees;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Title;
 import seedu.address.model.tag.Tag;
 
@@ -82,7 +83,7 @@ public class EditEventCommand extends EventCommand {
         Event eventToEdit = lastShownList.get(index.getZeroBased());
         Event editedEvent = createEditedEvent(eventToEdit, editEventDescriptor);
 
-        if (!eventToEdit.isSameEvent(editedEvent) && model.hasEvent(editedEvent)) {
+        if (model.hasEvent(editedEvent, eventToEdit)) {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
@@ -94,9 +95,15 @@ public class EditEventCommand extends EventCommand {
             throw new CommandException(Messages.MESSAGE_EVENTS_INVALID_START_END);
         }
 
+        if (!editedEvent.isValidRecurrence()) {
+            throw new CommandException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
+        String clashes = checkClashes(model, editedEvent, editedEvent.getAttendeesList());
+
         model.setEventForAttendees(eventToEdit, editedEvent);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent));
+        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent) + clashes);
     }
 
     /**
@@ -112,7 +119,8 @@ public class EditEventCommand extends EventCommand {
         Set<Tag> updatedTags = editEventDescriptor.getTags().orElse(eventToEdit.getTags());
         Attendees currentAttendees = editEventDescriptor.getAttendees().orElse(eventToEdit.getAttendees());
 
-        return new Event(updatedTitle, updatedStartDateTime, updatedEndDateTime, updatedTags, currentAttendees);
+        return new Event(eventToEdit.getId(), updatedTitle, updatedStartDateTime, updatedEndDateTime, updatedTags,
+                currentAttendees, eventToEdit.getRecurrence());
     }
 
     @Override
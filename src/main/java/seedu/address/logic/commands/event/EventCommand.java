@@ -2,7 +2,15 @@ package seedu.address.logic.commands.event;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.profile.Profile;
 
 /**
  * Represents a Event command with hidden internal logic and the ability to be executed.
@@ -20,6 +28,7 @@ public abstract class EventCommand extends Command {
             + PREFIX_OPTION + DeleteEventCommand.COMMAND_OPTION + ", "
             + PREFIX_OPTION + EditEventCommand.COMMAND_OPTION + ", "
             + PREFIX_OPTION + FindEventCommand.COMMAND_OPTION + ", "
+            + PREFIX_OPTION + FindFreeSlotsCommand.COMMAND_OPTION + ", "
             + PREFIX_OPTION + ViewUpcomingEventsCommand.COMMAND_OPTION + ", "
             + PREFIX_OPTION + ViewEventsCommand.COMMAND_OPTION + ".";
 
@@ -32,4 +41,43 @@ public abstract class EventCommand extends Command {
     public static final String OPTION_WRONG_ORDER_NO_MULTIPLE =
             "Only one option flag should be specified in front.\n" + EVENT_FORMAT;
 
+    public static final String MESSAGE_CLASHES = "Note: these attendees have clashing events:\n%1$s";
+
+    public static final String MESSAGE_CLASHES_REJECTED =
+            "These attendees have clashing events, so no changes were made:\n%1$s";
+
+    /**
+     * Checks whether any of {@code attendees} attends other events which clash with {@code event}.
+     * Each attendee's events are looked up from their own index of events by start, so checking A attendees
+     * attending E events takes O(A log E) time, besides the clashing events found.
+     *
+     * @return a note listing the clashing events of each attendee, to be added to the feedback of the command,
+     *     or an empty string if there are no clashes.
+     * @throws CommandException if there are clashes, and the user prefers commands causing clashes to be rejected.
+     */
+    protected static String checkClashes(Model model, Event event, Collection<Profile> attendees)
+            throws CommandException {
+        StringBuilder clashes = new StringBuilder();
+        for (Profile attendee : attendees) {
+            List<Event> clashingEvents = attendee.getEventsToAttend().getEventsClashingWith(event);
+            if (clashingEvents.isEmpty()) {
+                continue;
+            }
+            clashes.append(clashes.length() == 0 ? "" : "\n")
+                    .append(attendee.getName()).append(": ")
+                    .append(clashingEvents.stream()
+                            .map(clashingEvent -> clashingEvent.getTitle() + " (" + clashingEvent.getDateTimeString()
+                                    + ")")
+                            .collect(Collectors.joining(", ")));
+        }
+
+        if (clashes.length() == 0) {
+            return "";
+        }
+        if (model.getUserPrefs().isRejectingClashes()) {
+            throw new CommandException(String.format(MESSAGE_CLASHES_REJECTED, clashes));
+        }
+        return "\n" + String.format(MESSAGE_CLASHES, clashes);
+    }
+
 }
@@ -2,19 +2,27 @@ package seedu.address.logic.commands.event;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventTagsMatchPredicate;
 import seedu.address.model.event.StartDateTimeContainsDatePredicate;
 import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
 
 /**
  * Finds and lists all events in NUScheduler whose title contains any of the argument keywords, or if
- * inputs are dates, it will match the start dates equal to the input dates.
+ * inputs are dates, it will match the start dates equal to the input dates. If tags are given, it will match the
+ * events whose tags match every group of tags. If a query is given, it will match the events matching the query.
  * Keyword matching is case-insensitive.
  */
 public class FindEventCommand extends EventCommand {
@@ -29,27 +37,67 @@ public class FindEventCommand extends EventCommand {
             + "contains any of the specified keywords (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD_OR_DATE [MORE_KEYWORDS_OR_DATES]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " 11/10 12/10";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " 11/10 12/10\n"
+            + "Alternatively, finds all events with at least one tag from every " + PREFIX_TAG + " group.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [MORE_TAGS]... [" + PREFIX_TAG + "TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
+            + PREFIX_TAG + "CS2103T CS2101 " + PREFIX_TAG + "lecture\n"
+            + "Alternatively, finds all events matching a query of title:KEYWORD, tag:TAG, date:DATE, "
+            + "date:DATE..DATE and attendee:KEYWORD terms combined with AND, OR, NOT and parentheses.\n"
+            + "Parameters: " + PREFIX_QUERY + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
+            + PREFIX_QUERY + "(tag:CS2103T OR tag:CS2101) AND date:10/10..16/10 AND NOT attendee:alice";
 
     public static final String MESSAGE_HELP = "Finds all events matching the dates or keywords.\n"
             + "Keywords are case-insensitive and will return partial matches.\n"
             + "Format: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION
-            + " KEYWORDS_OR_DATE [MORE_KEYWORDS_OR_DATES]";
+            + " KEYWORDS_OR_DATE [MORE_KEYWORDS_OR_DATES]\n"
+            + "Or: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " " + PREFIX_TAG + "TAGS ["
+            + PREFIX_TAG + "MORE TAGS]...\n"
+            + "Or: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " " + PREFIX_QUERY + "QUERY";
 
     private final Predicate<Event> predicate;
+    private final Function<Model, List<Event>> matchingEventsFinder;
 
+    /**
+     * Creates a FindEventCommand to find the events whose title matches {@code predicate}.
+     */
     public FindEventCommand(TitleContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.matchingEventsFinder = model -> model.getEventsWithTitleContaining(predicate.getKeywords());
     }
 
+    /**
+     * Creates a FindEventCommand to find the events whose start date matches {@code predicate}.
+     */
     public FindEventCommand(StartDateTimeContainsDatePredicate predicate) {
         this.predicate = predicate;
+        this.matchingEventsFinder = model -> predicate.getDates().stream()
+                .flatMap(date -> model.getEventsStartingOn(date).stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a FindEventCommand to find the events whose tags match {@code predicate}.
+     */
+    public FindEventCommand(EventTagsMatchPredicate predicate) {
+        this.predicate = predicate;
+        this.matchingEventsFinder = model -> model.getEventsWithTags(predicate.getTagGroups());
+    }
+
+    /**
+     * Creates a FindEventCommand to find the events matching {@code query}.
+     */
+    public FindEventCommand(Query<Event> query) {
+        this.predicate = query;
+        this.matchingEventsFinder = model -> query.findMatches(model, model.getNuScheduler().getEventList());
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        // the matching events are looked up in the model's indexes, instead of testing every event
+        model.updateFilteredEventList(predicate, matchingEventsFinder.apply(model));
         int size = model.getFilteredEventList().size();
         switch (size) {
         case 0:
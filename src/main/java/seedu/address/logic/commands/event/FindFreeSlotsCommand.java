@@ -0,0 +1,132 @@
+package seedu.address.logic.commands.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROFILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.profile.FreeSlotFinder;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds the slots of time in which none of the given profiles attends an event in NUScheduler.
+ */
+public class FindFreeSlotsCommand extends EventCommand {
+
+    public static final String COMMAND_OPTION = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION
+            + ": Finds the common free slots of the profiles in the displayed profile list identified by the "
+            + "index numbers, and of the profiles with any of the tags, within the range from START to END, "
+            + "lasting at least the given number of minutes.\n"
+            + "Parameters: [" + PREFIX_PROFILE + "PROFILE_INDEX]... [" + PREFIX_TAG + "TAG]... "
+            + PREFIX_START_DATE + "START " + PREFIX_END_DATE + "END " + PREFIX_DURATION + "MINUTES\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
+            + PREFIX_PROFILE + "1 " + PREFIX_PROFILE + "3 " + PREFIX_TAG + "CS2103T "
+            + PREFIX_START_DATE + "24/10/2022 09:00 " + PREFIX_END_DATE + "24/10/2022 18:00 "
+            + PREFIX_DURATION + "60";
+
+    public static final String MESSAGE_HELP = "Finds the common free slots of a group of profiles in NUScheduler.\n"
+            + "Format: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " [" + PREFIX_PROFILE
+            + "PROFILE_INDEX]... [" + PREFIX_TAG + "TAG]... " + PREFIX_START_DATE + "START "
+            + PREFIX_END_DATE + "END " + PREFIX_DURATION + "MINUTES";
+
+    public static final String MESSAGE_NO_PROFILES = "At least one profile index or tag must be specified.";
+    public static final String MESSAGE_NO_PROFILES_FOUND = "There are no profiles with the tags specified.";
+    public static final String MESSAGE_FREE_SLOTS_FOUND = "%1$d common free slot(s) found for %2$d profile(s):";
+    public static final String MESSAGE_NO_FREE_SLOTS = "There are no common free slots for %1$d profile(s).";
+
+    private final Set<Index> profileIndexes;
+    private final Set<Tag> tags;
+    private final DateTime start;
+    private final DateTime end;
+    private final int minimumMinutes;
+
+    /**
+     * @param profileIndexes indexes of the profiles in the filtered profile list to find free slots of
+     * @param tags tags of the profiles to find free slots of
+     * @param start start of the range to find free slots within
+     * @param end end of the range to find free slots within
+     * @param minimumMinutes minimum number of minutes a free slot lasts
+     */
+    public FindFreeSlotsCommand(Set<Index> profileIndexes, Set<Tag> tags, DateTime start, DateTime end,
+            int minimumMinutes) {
+        requireAllNonNull(profileIndexes, tags, start, end);
+        this.profileIndexes = profileIndexes;
+        this.tags = tags;
+        this.start = start;
+        this.end = end;
+        this.minimumMinutes = minimumMinutes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Profile> lastShownProfileList = model.getFilteredProfileList();
+        Set<Profile> profiles = new LinkedHashSet<>();
+
+        for (Index profileIndex : profileIndexes) {
+            if (profileIndex.getZeroBased() >= lastShownProfileList.size()) {
+                throw new CommandException(Messages.MESSAGE_MULTIPLE_INVALID_PROFILE_DISPLAYED_INDEX);
+            }
+            profiles.add(lastShownProfileList.get(profileIndex.getZeroBased()));
+        }
+
+        if (!tags.isEmpty()) {
+            profiles.addAll(model.getProfilesWithTags(List.of(tags)));
+        }
+
+        if (profiles.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PROFILES_FOUND);
+        }
+
+        List<TimeSlot> freeSlots = FreeSlotFinder.findCommonFreeSlots(profiles, start, end, minimumMinutes);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, profiles.size()));
+        }
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_FREE_SLOTS_FOUND, freeSlots.size(), profiles.size()));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            feedback.append('\n').append(i + 1).append(". ").append(freeSlots.get(i));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindFreeSlotsCommand)) {
+            return false;
+        }
+
+        // state check
+        FindFreeSlotsCommand f = (FindFreeSlotsCommand) other;
+        return profileIndexes.equals(f.profileIndexes)
+                && tags.equals(f.tags)
+                && start.equals(f.start)
+                && end.equals(f.end)
+                && minimumMinutes == f.minimumMinutes;
+    }
+}
@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.StartDateWithinTimeFramePredicate;
 
 /**
@@ -33,7 +36,7 @@ public class ViewUpcomingEventsCommand extends EventCommand {
     public static final String MESSAGE_USAGE = COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION
             + ": Lists the upcoming events that starts in the next specified number of days, "
             + "i.e. Events starting today will not be included.\n"
-            + "Parameters: DAYS (must be a positive integer less than 10000)\n"
+            + "Parameters: DAYS (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " 5";
 
 
@@ -57,7 +60,12 @@ public class ViewUpcomingEventsCommand extends EventCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredEventList(new StartDateWithinTimeFramePredicate(currentDate, endDate));
+        // the upcoming events are looked up in the model's index of event starts, instead of testing every event,
+        // so the time taken depends on the number of upcoming events rather than the number of days
+        DateTime from = new DateTime(currentDate.plusDays(1), Optional.empty());
+        DateTime to = new DateTime(endDate, Optional.of(LocalTime.MAX));
+        model.updateFilteredEventList(new StartDateWithinTimeFramePredicate(currentDate, endDate),
+                model.getEventsStartingWithin(from, to));
 
         int numberOfEvents = model.getFilteredEventList().size();
         String messageNumberOfEvents = MESSAGE_SUCCESS_NO_EVENTS;
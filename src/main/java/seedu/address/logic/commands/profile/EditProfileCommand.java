@@ -126,8 +126,8 @@ public class EditProfileCommand extends ProfileCommand {
         EventsAttending updatedEventsToAttend = editProfileDescriptor.getEventsToAttend()
                 .orElse(profileToEdit.getEventsToAttend());
 
-        return new Profile(updatedName, updatedPhone, updatedEmail, updatedTelegram, updatedTags,
-                updatedEventsToAttend);
+        return new Profile(profileToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedTelegram,
+                updatedTags, updatedEventsToAttend);
     }
 
     @Override
@@ -2,14 +2,24 @@ package seedu.address.logic.commands.profile;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.ProfileTagsMatchPredicate;
+import seedu.address.model.query.Query;
 
 /**
- * Finds and lists all profiles in NUScheduler whose name contains any of the argument keywords.
+ * Finds and lists all profiles in NUScheduler whose name contains any of the argument keywords, or if
+ * tags are given, whose tags match every group of tags, or if a query is given, which match the query.
  * Keyword matching is case insensitive.
  */
 public class FindProfileCommand extends ProfileCommand {
@@ -22,22 +32,56 @@ public class FindProfileCommand extends ProfileCommand {
             + ": Finds all profiles whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " alice bob charlie\n"
+            + "Alternatively, finds all profiles with at least one tag from every " + PREFIX_TAG + " group.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [MORE_TAGS]... [" + PREFIX_TAG + "TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
+            + PREFIX_TAG + "CS2103T CS2101 " + PREFIX_TAG + "Y2\n"
+            + "Alternatively, finds all profiles matching a query of name:KEYWORD, tag:TAG, email:DOMAIN and "
+            + "attending:KEYWORD terms combined with AND, OR, NOT and parentheses.\n"
+            + "Parameters: " + PREFIX_QUERY + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " "
+            + PREFIX_QUERY + "tag:CS2103T AND NOT email:u.nus.edu AND attending:lecture";
 
     public static final String MESSAGE_HELP = "Finds profiles matching the keywords. "
             + "Case insensitive and will return partial matches.\n"
-            + "Format: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " KEYWORDS [MORE KEYWORDS]";
+            + "Format: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " KEYWORDS [MORE KEYWORDS]\n"
+            + "Or: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " " + PREFIX_TAG + "TAGS ["
+            + PREFIX_TAG + "MORE TAGS]...\n"
+            + "Or: " + COMMAND_WORD + " " + PREFIX_OPTION + COMMAND_OPTION + " " + PREFIX_QUERY + "QUERY";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Profile> predicate;
+    private final Function<Model, List<Profile>> matchingProfilesFinder;
 
+    /**
+     * Creates a FindProfileCommand to find the profiles whose name matches {@code predicate}.
+     */
     public FindProfileCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.matchingProfilesFinder = model -> model.getProfilesWithNameContaining(predicate.getKeywords());
+    }
+
+    /**
+     * Creates a FindProfileCommand to find the profiles whose tags match {@code predicate}.
+     */
+    public FindProfileCommand(ProfileTagsMatchPredicate predicate) {
+        this.predicate = predicate;
+        this.matchingProfilesFinder = model -> model.getProfilesWithTags(predicate.getTagGroups());
+    }
+
+    /**
+     * Creates a FindProfileCommand to find the profiles matching {@code query}.
+     */
+    public FindProfileCommand(Query<Profile> query) {
+        this.predicate = query;
+        this.matchingProfilesFinder = model -> query.findMatches(model, model.getNuScheduler().getProfileList());
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredProfileList(predicate);
+        // the matching profiles are looked up in the model's indexes, instead of testing every profile
+        model.updateFilteredProfileList(predicate, matchingProfilesFinder.apply(model));
         int size = model.getFilteredProfileList().size();
         switch (size) {
         case 0:
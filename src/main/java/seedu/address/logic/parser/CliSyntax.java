@@ -15,5 +15,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_DATE = new Prefix("s/");
     public static final Prefix PREFIX_END_DATE = new Prefix("e/");
     public static final Prefix PREFIX_PROFILE = new Prefix("pr/");
+    public static final Prefix PREFIX_DURATION = new Prefix("d/");
+    public static final Prefix PREFIX_REPEAT = new Prefix("r/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("u/");
+    public static final Prefix PREFIX_COUNT = new Prefix("c/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("x/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
 
 }
@@ -2,32 +2,41 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.Recurrence.Frequency;
 import seedu.address.model.event.Title;
 import seedu.address.model.profile.Email;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Phone;
 import seedu.address.model.profile.Telegram;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
  */
 public class ParserUtil {
     public static final int MAX_INDEX = 1000;
-    public static final int MAX_DAYS = 9999;
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INDEX_GREATER_THAN_MAX = "Index provided is greater than max value allowed.";
     public static final String MESSAGE_INVALID_DAYS = "Days provided is not a non-zero unsigned integer.";
-    public static final String MESSAGE_DAYS_GREATER_THAN_MAX = "Days provided is greater than max value allowed.";
+    public static final int MAX_MINUTES = 9999 * DateTime.MINUTES_PER_DAY;
+    public static final String MESSAGE_INVALID_MINUTES = "Minutes provided is not a non-zero unsigned integer.";
+    public static final String MESSAGE_MINUTES_GREATER_THAN_MAX = "Minutes provided is greater than max value allowed.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -170,13 +179,29 @@ public class ParserUtil {
             throw new ParseException(MESSAGE_INVALID_DAYS);
         }
 
-        int index = Integer.parseInt(trimmedDays);
+        return Integer.parseInt(trimmedDays);
+    }
+
+    /**
+     * Parses a {@code String minutes} into an int.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code minutes} is invalid.
+     */
+    public static int parseMinutes(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)) {
+            throw new ParseException(MESSAGE_INVALID_MINUTES);
+        }
 
-        // limits days to 9999
-        if (index > MAX_DAYS) {
-            throw new ParseException(MESSAGE_DAYS_GREATER_THAN_MAX);
+        int parsedMinutes = Integer.parseInt(trimmedMinutes);
+
+        // limits minutes to the number of minutes in 9999 days
+        if (parsedMinutes > MAX_MINUTES) {
+            throw new ParseException(MESSAGE_MINUTES_GREATER_THAN_MAX);
         }
-        return index;
+        return parsedMinutes;
     }
 
     /**
@@ -191,7 +216,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagRegistry.getTag(trimmedTag);
     }
 
     /**
@@ -205,4 +230,59 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses {@code Collection<String> tagGroups} into a {@code List<Set<Tag>>}.
+     * Each group is a whitespace-separated list of tags.
+     *
+     * @throws ParseException if any of the tags is invalid.
+     */
+    public static List<Set<Tag>> parseTagGroups(Collection<String> tagGroups) throws ParseException {
+        requireNonNull(tagGroups);
+        final List<Set<Tag>> tagGroupList = new ArrayList<>();
+        for (String tagGroup : tagGroups) {
+            tagGroupList.add(parseTags(Arrays.asList(tagGroup.trim().split("\\s+"))));
+        }
+        return tagGroupList;
+    }
+
+    /**
+     * Parses the details of how an event repeats into a {@code Recurrence}.
+     * Exactly one of {@code until} and {@code count} must be present. Leading and trailing whitespaces will be
+     * trimmed, and only the dates of {@code until} and {@code exceptions} are kept.
+     *
+     * @throws ParseException if any of the details is invalid, or both or neither of {@code until} and
+     *     {@code count} are present.
+     */
+    public static Recurrence parseRecurrence(String frequency, Optional<String> until, Optional<String> count,
+            Collection<String> exceptions) throws ParseException {
+        requireNonNull(frequency);
+        requireNonNull(until);
+        requireNonNull(count);
+        requireNonNull(exceptions);
+        String trimmedFrequency = frequency.trim();
+        if (!Frequency.isValidFrequency(trimmedFrequency)) {
+            throw new ParseException(Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+        }
+        if (until.isPresent() == count.isPresent()) {
+            throw new ParseException(Recurrence.MESSAGE_END_CONSTRAINTS);
+        }
+
+        Set<LocalDate> exceptionDates = new HashSet<>();
+        for (String exception : exceptions) {
+            exceptionDates.add(parseDateTime(exception).getDate());
+        }
+
+        if (until.isPresent()) {
+            return new Recurrence(Frequency.of(trimmedFrequency), parseDateTime(until.get()).getDate(),
+                    exceptionDates);
+        }
+
+        String trimmedCount = count.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)
+                || !Recurrence.isValidCount(Integer.parseInt(trimmedCount))) {
+            throw new ParseException(Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        }
+        return new Recurrence(Frequency.of(trimmedFrequency), Integer.parseInt(trimmedCount), exceptionDates);
+    }
 }
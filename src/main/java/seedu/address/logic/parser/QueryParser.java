@@ -0,0 +1,170 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses a query over the elements of type {@code T}, made of terms of the form {@code FIELD:VALUE} combined with
+ * {@code AND}, {@code OR}, {@code NOT} and parentheses.
+ * {@code NOT} binds tightest and {@code OR} loosest, and the operators and fields are case-insensitive.
+ */
+public class QueryParser<T> {
+
+    /**
+     * Parses the value of a term into a query.
+     */
+    @FunctionalInterface
+    public interface TermParser<T> {
+        Query<T> parse(String value) throws ParseException;
+    }
+
+    public static final String MESSAGE_EMPTY_QUERY = "Query should not be empty.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in query.";
+    public static final String MESSAGE_UNEXPECTED_END = "Query ended unexpectedly.";
+    public static final String MESSAGE_INVALID_TERM = "Term %1$s should be of the form FIELD:VALUE.";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field %1$s, the fields are: %2$s.";
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private final Map<String, TermParser<T>> termParsers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Constructs a {@code QueryParser} which parses the terms of each field with its parser in {@code termParsers}.
+     */
+    public QueryParser(Map<String, TermParser<T>> termParsers) {
+        requireNonNull(termParsers);
+        this.termParsers.putAll(termParsers);
+    }
+
+    /**
+     * Parses {@code query} into a {@code Query}.
+     *
+     * @throws ParseException if {@code query} is empty, is not well formed, or has a term which cannot be parsed.
+     */
+    public Query<T> parse(String query) throws ParseException {
+        requireNonNull(query);
+        Tokens tokens = new Tokens(tokenize(query));
+        if (!tokens.hasNext()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+        Query<T> result = parseOr(tokens);
+        if (tokens.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.next()));
+        }
+        return result;
+    }
+
+    /**
+     * Splits {@code query} into words and parentheses.
+     */
+    private static List<String> tokenize(String query) {
+        String spaced = query.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        return spaced.isEmpty() ? List.of() : List.of(spaced.split("\\s+"));
+    }
+
+    private Query<T> parseOr(Tokens tokens) throws ParseException {
+        List<Query<T>> queries = new ArrayList<>();
+        queries.add(parseAnd(tokens));
+        while (tokens.skipIf(OPERATOR_OR)) {
+            queries.add(parseAnd(tokens));
+        }
+        return queries.size() == 1 ? queries.get(0) : Query.or(queries);
+    }
+
+    private Query<T> parseAnd(Tokens tokens) throws ParseException {
+        List<Query<T>> queries = new ArrayList<>();
+        queries.add(parseNot(tokens));
+        while (tokens.skipIf(OPERATOR_AND)) {
+            queries.add(parseNot(tokens));
+        }
+        return queries.size() == 1 ? queries.get(0) : Query.and(queries);
+    }
+
+    private Query<T> parseNot(Tokens tokens) throws ParseException {
+        if (tokens.skipIf(OPERATOR_NOT)) {
+            return Query.not(parseNot(tokens));
+        }
+        return parsePrimary(tokens);
+    }
+
+    private Query<T> parsePrimary(Tokens tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+        if (tokens.skipIf(OPEN_PARENTHESIS)) {
+            Query<T> query = parseOr(tokens);
+            if (!tokens.skipIf(CLOSE_PARENTHESIS)) {
+                throw new ParseException(tokens.hasNext()
+                        ? String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.next())
+                        : MESSAGE_UNEXPECTED_END);
+            }
+            return query;
+        }
+
+        String term = tokens.next();
+        if (isReserved(term)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, term));
+        }
+        int separatorIndex = term.indexOf(FIELD_SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == term.length() - 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_TERM, term));
+        }
+        String field = term.substring(0, separatorIndex);
+        TermParser<T> termParser = termParsers.get(field);
+        if (termParser == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, field,
+                    String.join(", ", termParsers.keySet())));
+        }
+        return termParser.parse(term.substring(separatorIndex + 1));
+    }
+
+    private static boolean isReserved(String token) {
+        return token.equalsIgnoreCase(OPERATOR_AND) || token.equalsIgnoreCase(OPERATOR_OR)
+                || token.equalsIgnoreCase(OPERATOR_NOT) || token.equals(CLOSE_PARENTHESIS);
+    }
+
+    /**
+     * The tokens of a query, read from first to last.
+     */
+    private static class Tokens {
+        private final List<String> tokens;
+        private int position = 0;
+
+        Tokens(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        /**
+         * Skips the next token and returns true if it is {@code expected}, ignoring case.
+         */
+        boolean skipIf(String expected) {
+            if (hasNext() && tokens.get(position).equalsIgnoreCase(expected)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
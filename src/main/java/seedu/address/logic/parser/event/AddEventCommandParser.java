@@ -1,12 +1,17 @@
 package seedu.address.logic.parser.event;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -17,8 +22,10 @@ import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Attendees;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Title;
 import seedu.address.model.tag.Tag;
 
@@ -35,7 +42,8 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
     public AddEventCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args,
-                        PREFIX_OPTION, PREFIX_NAME, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_TAG);
+                        PREFIX_OPTION, PREFIX_NAME, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_TAG,
+                        PREFIX_REPEAT, PREFIX_UNTIL, PREFIX_COUNT, PREFIX_EXCEPT);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_START_DATE, PREFIX_END_DATE)
                 || !argMultimap.getPreamble().isEmpty() || !argMultimap.getOptionArgs().isEmpty()) {
@@ -46,12 +54,32 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         DateTime startDate = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_DATE).get());
         DateTime endDate = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATE).get());
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Optional<Recurrence> recurrence = parseRecurrence(argMultimap);
 
-        Event event = new Event(title, startDate, endDate, tagList);
+        Event event = new Event(title, startDate, endDate, tagList, new Attendees(), recurrence);
 
         return new AddEventCommand(event);
     }
 
+    /**
+     * Parses how the event repeats, if {@code PREFIX_REPEAT} is given.
+     *
+     * @throws ParseException if the details are invalid, or are given without {@code PREFIX_REPEAT}.
+     */
+    private static Optional<Recurrence> parseRecurrence(ArgumentMultimap argMultimap) throws ParseException {
+        if (argMultimap.getValue(PREFIX_REPEAT).isEmpty()) {
+            if (argMultimap.getValue(PREFIX_UNTIL).isPresent() || argMultimap.getValue(PREFIX_COUNT).isPresent()
+                    || argMultimap.getValue(PREFIX_EXCEPT).isPresent()) {
+                throw new ParseException(Recurrence.MESSAGE_NOT_REPEATING);
+            }
+            return Optional.empty();
+        }
+
+        return Optional.of(ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_REPEAT).get(),
+                argMultimap.getValue(PREFIX_UNTIL), argMultimap.getValue(PREFIX_COUNT),
+                argMultimap.getAllValues(PREFIX_EXCEPT)));
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
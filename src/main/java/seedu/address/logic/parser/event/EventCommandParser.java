@@ -14,6 +14,7 @@ import seedu.address.logic.commands.event.DeleteProfilesFromEventCommand;
 import seedu.address.logic.commands.event.EditEventCommand;
 import seedu.address.logic.commands.event.EventCommand;
 import seedu.address.logic.commands.event.FindEventCommand;
+import seedu.address.logic.commands.event.FindFreeSlotsCommand;
 import seedu.address.logic.commands.event.ViewEventsCommand;
 import seedu.address.logic.commands.event.ViewUpcomingEventsCommand;
 import seedu.address.logic.parser.CliSyntax;
@@ -72,6 +73,8 @@ public class EventCommandParser implements Parser<EventCommand> {
             return new AddProfilesToEventCommandParser().parse(args);
         case DeleteProfilesFromEventCommand.COMMAND_OPTION:
             return new DeleteProfilesFromEventCommandParser().parse(args);
+        case FindFreeSlotsCommand.COMMAND_OPTION:
+            return new FindFreeSlotsCommandParser().parse(args);
         default:
             throw new ParseException(EventCommand.OPTION_UNKNOWN + EventCommand.VALID_FLAGS);
         }
@@ -95,6 +98,8 @@ public class EventCommandParser implements Parser<EventCommand> {
                         EditEventCommand.MESSAGE_HELP);
                 put(EventCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_OPTION + FindEventCommand.COMMAND_OPTION,
                         FindEventCommand.MESSAGE_HELP);
+                put(EventCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_OPTION + FindFreeSlotsCommand.COMMAND_OPTION,
+                        FindFreeSlotsCommand.MESSAGE_HELP);
                 put(EventCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_OPTION + ViewEventsCommand.COMMAND_OPTION,
                         ViewEventsCommand.MESSAGE_HELP);
                 put(EventCommand.COMMAND_WORD + " " + CliSyntax.PREFIX_OPTION
@@ -1,19 +1,32 @@
 package seedu.address.logic.parser.event;
 
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.event.FindEventCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.QueryParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventTagsMatchPredicate;
 import seedu.address.model.event.StartDateTimeContainsDatePredicate;
 import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.model.query.EventQueries;
+import seedu.address.model.query.Query;
 
 /**
  * Parses input arguments and creates a new FindEventCommand object
@@ -21,6 +34,16 @@ import seedu.address.model.event.TitleContainsKeywordsPredicate;
 public class FindEventCommandParser implements Parser<FindEventCommand> {
 
     public static final String MESSAGE_MISSING_ARGS = "Provide at least one keyword or date.\n";
+    public static final String MESSAGE_INVALID_DATE_RANGE =
+            "Date range should be of the form DATE or DATE..DATE, with the first date not after the last.";
+
+    private static final String DATE_RANGE_SEPARATOR = "..";
+
+    private static final QueryParser<Event> QUERY_PARSER = new QueryParser<>(Map.of(
+            "title", EventQueries::title,
+            "tag", value -> EventQueries.tag(ParserUtil.parseTag(value)),
+            "date", FindEventCommandParser::parseDateQuery,
+            "attendee", EventQueries::attendee));
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindEventCommand
@@ -28,8 +51,26 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindEventCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OPTION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OPTION, PREFIX_TAG, PREFIX_QUERY);
         String trimmedArgs = argMultimap.getOptionArgs();
+        List<String> tagGroups = argMultimap.getAllValues(PREFIX_TAG);
+        Optional<String> query = argMultimap.getValue(PREFIX_QUERY);
+
+        if (query.isPresent()) {
+            if (!trimmedArgs.isEmpty() || !tagGroups.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+            }
+            return new FindEventCommand(QUERY_PARSER.parse(query.get()));
+        }
+
+        if (!tagGroups.isEmpty()) {
+            if (!trimmedArgs.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+            }
+            return new FindEventCommand(new EventTagsMatchPredicate(ParserUtil.parseTagGroups(tagGroups)));
+        }
 
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -49,4 +90,21 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
         }
     }
 
+    /**
+     * Parses a date, or a range of dates of the form {@code DATE..DATE}, into a query term matching the events
+     * which start within it.
+     */
+    private static Query<Event> parseDateQuery(String value) throws ParseException {
+        String[] dates = value.split(Pattern.quote(DATE_RANGE_SEPARATOR), -1);
+        if (dates.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        LocalDate firstDate = ParserUtil.parseDateTime(dates[0]).getDate();
+        LocalDate lastDate = dates.length == 1 ? firstDate : ParserUtil.parseDateTime(dates[1]).getDate();
+        if (firstDate.isAfter(lastDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return EventQueries.date(firstDate, lastDate);
+    }
+
 }
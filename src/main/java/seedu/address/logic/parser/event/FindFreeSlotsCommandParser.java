@@ -0,0 +1,75 @@
+package seedu.address.logic.parser.event;
+
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_INVALID_START_END;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROFILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.event.FindFreeSlotsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FindFreeSlotsCommand object
+ */
+public class FindFreeSlotsCommandParser implements Parser<FindFreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFreeSlotsCommand
+     * and returns a FindFreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFreeSlotsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OPTION, PREFIX_PROFILE, PREFIX_TAG,
+                PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_DURATION);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty() || !argMultimap.getOptionArgs().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindFreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        Set<Index> profileIndexes;
+        try {
+            profileIndexes = ParserUtil.parseIndexes(argMultimap.getAllValues(PREFIX_PROFILE));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindFreeSlotsCommand.MESSAGE_USAGE), pe);
+        }
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (profileIndexes.isEmpty() && tags.isEmpty()) {
+            throw new ParseException(FindFreeSlotsCommand.MESSAGE_NO_PROFILES);
+        }
+
+        DateTime start = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_DATE).get());
+        DateTime end = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATE).get());
+        if (start.getEpochMinutes() >= end.getEndEpochMinutes()) {
+            throw new ParseException(MESSAGE_EVENTS_INVALID_START_END);
+        }
+        int minimumMinutes = ParserUtil.parseMinutes(argMultimap.getValue(PREFIX_DURATION).get());
+
+        return new FindFreeSlotsCommand(profileIndexes, tags, start, end, minimumMinutes);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
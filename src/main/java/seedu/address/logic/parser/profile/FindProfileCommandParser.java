@@ -1,15 +1,26 @@
 package seedu.address.logic.parser.profile;
 
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_OPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.logic.commands.profile.FindProfileCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.QueryParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.ProfileTagsMatchPredicate;
+import seedu.address.model.query.ProfileQueries;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -18,6 +29,12 @@ public class FindProfileCommandParser implements Parser<FindProfileCommand> {
 
     public static final String MESSAGE_MISSING_KEYWORDS = "Provide at least one keyword.\n";
 
+    private static final QueryParser<Profile> QUERY_PARSER = new QueryParser<>(Map.of(
+            "name", ProfileQueries::name,
+            "tag", value -> ProfileQueries.tag(ParserUtil.parseTag(value)),
+            "email", ProfileQueries::emailDomain,
+            "attending", ProfileQueries::attending));
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -26,8 +43,26 @@ public class FindProfileCommandParser implements Parser<FindProfileCommand> {
     public FindProfileCommand parse(String args) throws ParseException {
         assert args != null;
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OPTION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OPTION, PREFIX_TAG, PREFIX_QUERY);
         String trimmedArgs = argMultimap.getOptionArgs();
+        List<String> tagGroups = argMultimap.getAllValues(PREFIX_TAG);
+        Optional<String> query = argMultimap.getValue(PREFIX_QUERY);
+
+        if (query.isPresent()) {
+            if (!trimmedArgs.isEmpty() || !tagGroups.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProfileCommand.MESSAGE_USAGE));
+            }
+            return new FindProfileCommand(QUERY_PARSER.parse(query.get()));
+        }
+
+        if (!tagGroups.isEmpty()) {
+            if (!trimmedArgs.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProfileCommand.MESSAGE_USAGE));
+            }
+            return new FindProfileCommand(new ProfileTagsMatchPredicate(ParserUtil.parseTagGroups(tagGroups)));
+        }
 
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -0,0 +1,355 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of a source list, which can be shown either the elements passing a predicate or an explicit
+ * set of matching elements, such as the result of an index lookup.
+ *
+ * Unlike {@code FilteredList}, showing a set of matches does not test every element of the source: each match is
+ * located with {@code indexOf} on the source, which a {@code SortedTreeList} answers by reference in O(log n) time,
+ * so showing {@code k} matches out of {@code n} elements takes O(min(k log n, n)) time on such a source. The view
+ * keeps the elements it shows alongside their source indexes, so reading the view does not go back to the source.
+ * Only the elements which enter or leave the view are reported to listeners.
+ * Changes to the source are applied incrementally: an added element is shown if it was already shown before it was
+ * moved or replaced, or otherwise if it passes the predicate, and removed or updated elements keep their membership.
+ */
+class IndexedFilteredList<T> extends TransformationList<T, T> {
+
+    private Predicate<? super T> predicate = unused -> true;
+    // Indexes in the source of the elements in this view, in increasing order, and the elements themselves;
+    // only the first size of each are used
+    private int[] filtered = new int[0];
+    private Object[] shown = new Object[0];
+    private int size = 0;
+    // Elements in this view, compared by reference as the source holds the elements themselves
+    private Set<T> members = newIdentitySet();
+
+    // Elements removed from this view during the source change being applied, and those of them added back
+    private final Set<T> pendingRemoved = newIdentitySet();
+    private final Set<T> addedBack = newIdentitySet();
+
+    /**
+     * Constructs a view of {@code source} showing every element.
+     */
+    IndexedFilteredList(ObservableList<T> source) {
+        super(source);
+        setPredicate(predicate);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Shows the elements of the source which pass {@code predicate}, testing every element.
+     * Elements later added to the source are shown if they pass {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<? extends T> source = getSource();
+        int[] newFiltered = new int[source.size()];
+        Object[] newShown = new Object[source.size()];
+        Set<T> newMembers = newIdentitySet();
+        int newSize = 0;
+        // iterated rather than indexed, as indexing a tree-backed source takes O(log n) time
+        int i = 0;
+        for (T element : source) {
+            if (predicate.test(element)) {
+                newFiltered[newSize] = i;
+                newShown[newSize++] = element;
+                newMembers.add(element);
+            }
+            i++;
+        }
+        show(newFiltered, newShown, newSize, newMembers);
+    }
+
+    /**
+     * Shows the elements of the source which are in {@code matches}, without testing any element.
+     * Elements later added to the source are shown if they pass {@code predicate}.
+     * Elements of {@code matches} which are not in the source are ignored.
+     */
+    public void setMatches(Predicate<? super T> predicate, Collection<? extends T> matches) {
+        requireAllNonNull(predicate, matches);
+        this.predicate = predicate;
+        List<? extends T> source = getSource();
+        int searchCost = matches.size() * (Integer.SIZE - Integer.numberOfLeadingZeros(source.size()));
+        if (searchCost > source.size()) {
+            // it is cheaper to look every element up in the matches than to search for every match
+            Set<T> matchSet = newIdentitySet();
+            matchSet.addAll(matches);
+            int[] newFiltered = new int[matchSet.size()];
+            Object[] newShown = new Object[matchSet.size()];
+            Set<T> newMembers = newIdentitySet();
+            int newSize = 0;
+            int i = 0;
+            for (Iterator<? extends T> elements = source.iterator(); elements.hasNext() && newSize < newFiltered.length;
+                    i++) {
+                T element = elements.next();
+                if (matchSet.contains(element)) {
+                    newFiltered[newSize] = i;
+                    newShown[newSize++] = element;
+                    newMembers.add(element);
+                }
+            }
+            show(newFiltered, newShown, newSize, newMembers);
+            return;
+        }
+
+        int[] sourceIndexes = new int[matches.size()];
+        Object[] found = new Object[matches.size()];
+        Set<T> newMembers = newIdentitySet();
+        int foundCount = 0;
+        for (T match : matches) {
+            int sourceIndex = findInSource(match);
+            if (sourceIndex >= 0 && newMembers.add(match)) {
+                sourceIndexes[foundCount] = sourceIndex;
+                found[foundCount++] = match;
+            }
+        }
+        // the view follows the order of the source, so the matches are sorted by their source indexes
+        Integer[] order = new Integer[foundCount];
+        for (int i = 0; i < foundCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(position -> sourceIndexes[position]));
+        int[] newFiltered = new int[foundCount];
+        Object[] newShown = new Object[foundCount];
+        for (int i = 0; i < foundCount; i++) {
+            newFiltered[i] = sourceIndexes[order[i]];
+            newShown[i] = found[order[i]];
+        }
+        show(newFiltered, newShown, foundCount, newMembers);
+    }
+
+    /**
+     * Reports each element in this view which passes {@code isChanged} as replaced by itself, so that it is shown
+     * again, such as when how an element is shown depends on the predicate. The elements in this view are unchanged.
+     */
+    public void refresh(Predicate<? super T> isChanged) {
+        requireNonNull(isChanged);
+        beginChange();
+        for (int position = 0; position < size; position++) {
+            T element = elementAt(position);
+            if (isChanged.test(element)) {
+                nextReplace(position, position + 1, List.of(element));
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the index of {@code element} in the source, or -1 if it is not in the source.
+     */
+    private int findInSource(T element) {
+        List<? extends T> source = getSource();
+        int index = source.indexOf(element);
+        // indexOf compares by equality, but the view holds the element itself
+        return index >= 0 && source.get(index) == element ? index : -1;
+    }
+
+    /**
+     * Replaces the elements in this view with {@code newShown}, at {@code newFiltered} in the source, reporting only
+     * the elements which leave or enter the view.
+     */
+    private void show(int[] newFiltered, Object[] newShown, int newSize, Set<T> newMembers) {
+        beginChange();
+        int oldPosition = 0;
+        int newPosition = 0;
+        while (oldPosition < size || newPosition < newSize) {
+            if (newPosition == newSize
+                    || (oldPosition < size && filtered[oldPosition] < newFiltered[newPosition])) {
+                List<T> removed = new ArrayList<>();
+                while (oldPosition < size
+                        && (newPosition == newSize || filtered[oldPosition] < newFiltered[newPosition])) {
+                    removed.add(elementAt(oldPosition++));
+                }
+                nextRemove(newPosition, removed);
+            } else if (oldPosition == size || newFiltered[newPosition] < filtered[oldPosition]) {
+                int addedFrom = newPosition;
+                while (newPosition < newSize
+                        && (oldPosition == size || newFiltered[newPosition] < filtered[oldPosition])) {
+                    newPosition++;
+                }
+                nextAdd(addedFrom, newPosition);
+            } else {
+                oldPosition++;
+                newPosition++;
+            }
+        }
+        filtered = newFiltered;
+        shown = newShown;
+        size = newSize;
+        members = newMembers;
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        // elements removed and not added back within the change have left the source
+        pendingRemoved.stream().filter(element -> !addedBack.contains(element)).forEach(members::remove);
+        pendingRemoved.clear();
+        addedBack.clear();
+        endChange();
+    }
+
+    private void permute(ListChangeListener.Change<? extends T> c) {
+        int from = findPosition(c.getFrom());
+        int to = findPosition(c.getTo());
+        if (to == from) {
+            return;
+        }
+        Integer[] positions = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            filtered[i] = c.getPermutation(filtered[i]);
+            positions[i - from] = i;
+        }
+        // the view follows the order of the source, so the permuted part is sorted by its new source indexes
+        Arrays.sort(positions, Comparator.comparingInt(position -> filtered[position]));
+        int[] permutation = new int[to - from];
+        int[] permuted = new int[to - from];
+        Object[] permutedShown = new Object[to - from];
+        for (int i = 0; i < positions.length; i++) {
+            permutation[positions[i] - from] = from + i;
+            permuted[i] = filtered[positions[i]];
+            permutedShown[i] = shown[positions[i]];
+        }
+        System.arraycopy(permuted, 0, filtered, from, permuted.length);
+        System.arraycopy(permutedShown, 0, shown, from, permutedShown.length);
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(ListChangeListener.Change<? extends T> c) {
+        for (int position = findPosition(c.getFrom()); position < size && filtered[position] < c.getTo();
+                position++) {
+            nextUpdate(position);
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends T> c) {
+        int from = c.getFrom();
+        int removedSize = c.getRemovedSize();
+        int addedSize = c.getAddedSize();
+        int position = findPosition(from);
+
+        int removedEnd = findPosition(from + removedSize);
+        if (removedEnd > position) {
+            List<T> removed = new ArrayList<>(removedEnd - position);
+            for (int i = position; i < removedEnd; i++) {
+                removed.add(elementAt(i));
+            }
+            pendingRemoved.addAll(removed);
+            nextRemove(position, removed);
+        }
+
+        int[] added = new int[addedSize];
+        Object[] addedShown = new Object[addedSize];
+        int addedCount = 0;
+        int sourceIndex = from;
+        for (T element : c.getAddedSubList()) {
+            if (members.contains(element)) {
+                addedBack.add(element);
+                added[addedCount] = sourceIndex;
+                addedShown[addedCount++] = element;
+            } else if (predicate.test(element)) {
+                members.add(element);
+                added[addedCount] = sourceIndex;
+                addedShown[addedCount++] = element;
+            }
+            sourceIndex++;
+        }
+
+        int newSize = size - (removedEnd - position) + addedCount;
+        int[] newFiltered = filtered;
+        Object[] newShown = shown;
+        if (newSize > filtered.length) {
+            newFiltered = new int[Math.max(newSize, filtered.length * 2)];
+            newShown = new Object[newFiltered.length];
+            System.arraycopy(filtered, 0, newFiltered, 0, position);
+            System.arraycopy(shown, 0, newShown, 0, position);
+        }
+        System.arraycopy(filtered, removedEnd, newFiltered, position + addedCount, size - removedEnd);
+        System.arraycopy(shown, removedEnd, newShown, position + addedCount, size - removedEnd);
+        System.arraycopy(added, 0, newFiltered, position, addedCount);
+        System.arraycopy(addedShown, 0, newShown, position, addedCount);
+        for (int i = position + addedCount; i < newSize; i++) {
+            newFiltered[i] += addedSize - removedSize;
+        }
+        // elements past the end are no longer shown, so they are not kept alive by the view
+        Arrays.fill(newShown, newSize, Math.max(size, newSize), null);
+        filtered = newFiltered;
+        shown = newShown;
+        size = newSize;
+        if (addedCount > 0) {
+            nextAdd(position, position + addedCount);
+        }
+    }
+
+    /**
+     * Returns the position in this view of the first element at or after {@code sourceIndex} in the source.
+     */
+    private int findPosition(int sourceIndex) {
+        int index = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int position) {
+        return (T) shown[position];
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return elementAt(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position >= 0 ? position : -1;
+    }
+}
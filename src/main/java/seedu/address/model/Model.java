@@ -1,14 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
 import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -73,6 +78,18 @@ public interface Model {
      */
     boolean hasTelegram(Profile profile);
 
+    /**
+     * Returns the profiles in the NUScheduler whose name contains any of {@code keywords}, ignoring case.
+     * This is answered from an index over the profiles' names, without scanning every profile.
+     */
+    List<Profile> getProfilesWithNameContaining(List<String> keywords);
+
+    /**
+     * Returns the profiles in the NUScheduler which, for every group in {@code tagGroups}, have at least one tag of
+     * that group. This is answered from an index over the profiles' tags, without scanning every profile.
+     */
+    List<Profile> getProfilesWithTags(List<Set<Tag>> tagGroups);
+
     /**
      * Deletes the given profile.
      * The profile must exist in the NUScheduler.
@@ -112,10 +129,26 @@ public interface Model {
     void updateFilteredProfileList(Predicate<Profile> predicate);
 
     /**
-     * Returns true if an event with the same identity as {@code event} exists in the NUScheduler.
+     * Updates the filter of the filtered profile list to filter by the given {@code predicate}, where
+     * {@code matchingProfiles} are exactly the profiles currently in the NUScheduler which satisfy it.
+     * The current profiles are filtered by {@code matchingProfiles} instead of being tested with {@code predicate},
+     * while profiles which are added or replaced later are still tested with {@code predicate}.
+     * @throws NullPointerException if {@code predicate} or {@code matchingProfiles} is null.
+     */
+    void updateFilteredProfileList(Predicate<Profile> predicate, Collection<Profile> matchingProfiles);
+
+    /**
+     * Returns true if an event with the same identity as {@code event}, or which shares an occurrence with it,
+     * exists in the NUScheduler.
      */
     boolean hasEvent(Event event);
 
+    /**
+     * Returns true if an event other than {@code excludedEvent}, with the same identity as {@code event} or which
+     * shares an occurrence with it, exists in the NUScheduler.
+     */
+    boolean hasEvent(Event event, Event excludedEvent);
+
     /**
      * Deletes the given event.
      * The event must exist in the NUScheduler.
@@ -165,11 +198,42 @@ public interface Model {
     void removeEventFromAttendees(Event target, List<Profile> profilesToEdit);
 
     /**
-     * Replaces the events in {@code eventsToRefresh} with another copy
-     * to refresh the UI.
+     * Notifies the UI that the events in {@code eventsToRefresh} have changed, so that they are shown again.
      */
     void refreshEvents(EventsAttending eventsToRefresh);
 
+    /**
+     * Returns the events in the NUScheduler which overlap the range from {@code from} to {@code to},
+     * both inclusive, in order of start, then end.
+     * This is answered from an index over the events' start and end, without scanning every event.
+     */
+    List<Event> getEventsOverlapping(DateTime from, DateTime to);
+
+    /**
+     * Returns the events in the NUScheduler which start within the range from {@code from} to {@code to},
+     * both inclusive, in order of start, then end.
+     * This is answered from an index over the events' start and end, without scanning every event.
+     */
+    List<Event> getEventsStartingWithin(DateTime from, DateTime to);
+
+    /**
+     * Returns the events in the NUScheduler which start on {@code date}, in sorted order.
+     * This is looked up directly from an index of the events by start date.
+     */
+    List<Event> getEventsStartingOn(LocalDate date);
+
+    /**
+     * Returns the events in the NUScheduler whose title contains any of {@code keywords}, ignoring case.
+     * This is answered from an index over the events' titles, without scanning every event.
+     */
+    List<Event> getEventsWithTitleContaining(List<String> keywords);
+
+    /**
+     * Returns the events in the NUScheduler which, for every group in {@code tagGroups}, have at least one tag of
+     * that group. This is answered from an index over the events' tags, without scanning every event.
+     */
+    List<Event> getEventsWithTags(List<Set<Tag>> tagGroups);
+
     /** Returns an unmodifiable view of the filtered event list */
     ObservableList<Event> getFilteredEventList();
 
@@ -178,4 +242,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEventList(Predicate<Event> predicate);
+
+    /**
+     * Updates the filter of the filtered event list to filter by the given {@code predicate}, where
+     * {@code matchingEvents} are exactly the events currently in the NUScheduler which satisfy it.
+     * The current events are filtered by {@code matchingEvents} instead of being tested with {@code predicate},
+     * while events which are added or replaced later are still tested with {@code predicate}.
+     * @throws NullPointerException if {@code predicate} or {@code matchingEvents} is null.
+     */
+    void updateFilteredEventList(Predicate<Event> predicate, Collection<Event> matchingEvents);
+
+    /**
+     * Returns the occurrence of {@code event} which the filtered event list shows it for. This is the first occurrence
+     * matching the filter if the filter is an {@code OccurrencePredicate}, or otherwise {@code event} itself.
+     * @throws NullPointerException if {@code event} is null.
+     */
+    Event getShownOccurrence(Event event);
 }
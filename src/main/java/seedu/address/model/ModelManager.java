@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.OccurrencePredicate;
 import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the NUScheduler data.
@@ -24,8 +29,9 @@ public class ModelManager implements Model {
 
     private final NuScheduler nuScheduler;
     private final UserPrefs userPrefs;
-    private final FilteredList<Profile> filteredProfiles;
-    private final FilteredList<Event> filteredEvents;
+    private final IndexedFilteredList<Profile> filteredProfiles;
+    private final IndexedFilteredList<Event> filteredEvents;
+    private Predicate<Event> eventPredicate = PREDICATE_SHOW_ALL_EVENTS;
 
     /**
      * Initializes a ModelManager with the given nuScheduler and userPrefs.
@@ -37,8 +43,8 @@ public class ModelManager implements Model {
 
         this.nuScheduler = new NuScheduler(nuScheduler);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredProfiles = new FilteredList<>(this.nuScheduler.getProfileList());
-        filteredEvents = new FilteredList<>(this.nuScheduler.getEventList());
+        filteredProfiles = new IndexedFilteredList<>(this.nuScheduler.getProfileList());
+        filteredEvents = new IndexedFilteredList<>(this.nuScheduler.getEventList());
     }
 
     public ModelManager() {
@@ -112,6 +118,18 @@ public class ModelManager implements Model {
         return nuScheduler.hasTelegram(profile);
     }
 
+    @Override
+    public List<Profile> getProfilesWithNameContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return nuScheduler.getProfilesWithNameContaining(keywords);
+    }
+
+    @Override
+    public List<Profile> getProfilesWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return nuScheduler.getProfilesWithTags(tagGroups);
+    }
+
     @Override
     public void deleteProfile(Profile target) {
         nuScheduler.removeProfile(target);
@@ -137,6 +155,12 @@ public class ModelManager implements Model {
         return nuScheduler.hasEvent(event);
     }
 
+    @Override
+    public boolean hasEvent(Event event, Event excludedEvent) {
+        requireAllNonNull(event, excludedEvent);
+        return nuScheduler.hasEvent(event, excludedEvent);
+    }
+
     @Override
     public void deleteEvent(Event target) {
         nuScheduler.removeEvent(target);
@@ -191,6 +215,36 @@ public class ModelManager implements Model {
         nuScheduler.refreshEvents(eventsToRefresh);
     }
 
+    @Override
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        return nuScheduler.getEventsOverlapping(from, to);
+    }
+
+    @Override
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        return nuScheduler.getEventsStartingWithin(from, to);
+    }
+
+    @Override
+    public List<Event> getEventsStartingOn(LocalDate date) {
+        requireNonNull(date);
+        return nuScheduler.getEventsStartingOn(date);
+    }
+
+    @Override
+    public List<Event> getEventsWithTitleContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return nuScheduler.getEventsWithTitleContaining(keywords);
+    }
+
+    @Override
+    public List<Event> getEventsWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return nuScheduler.getEventsWithTags(tagGroups);
+    }
+
     //=========== Filtered Profile List Accessors =============================================================
 
     /**
@@ -208,6 +262,12 @@ public class ModelManager implements Model {
         filteredProfiles.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredProfileList(Predicate<Profile> predicate, Collection<Profile> matchingProfiles) {
+        requireAllNonNull(predicate, matchingProfiles);
+        filteredProfiles.setMatches(predicate, matchingProfiles);
+    }
+
     //=========== Filtered Event List Accessors =============================================================
 
     @Override
@@ -219,6 +279,35 @@ public class ModelManager implements Model {
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
         filteredEvents.setPredicate(predicate);
+        showOccurrencesFor(predicate);
+    }
+
+    @Override
+    public void updateFilteredEventList(Predicate<Event> predicate, Collection<Event> matchingEvents) {
+        requireAllNonNull(predicate, matchingEvents);
+        filteredEvents.setMatches(predicate, matchingEvents);
+        showOccurrencesFor(predicate);
+    }
+
+    @Override
+    public Event getShownOccurrence(Event event) {
+        requireNonNull(event);
+        if (!event.isRecurring() || !(eventPredicate instanceof OccurrencePredicate)) {
+            return event;
+        }
+        return ((OccurrencePredicate) eventPredicate).getFirstMatchingOccurrence(event).orElse(event);
+    }
+
+    /**
+     * Records {@code predicate} as the filter of the filtered event list, and shows again the repeating events which
+     * stay in the list, as the occurrence each is shown for may have changed.
+     */
+    private void showOccurrencesFor(Predicate<Event> predicate) {
+        boolean wasShowingOccurrences = eventPredicate instanceof OccurrencePredicate;
+        eventPredicate = predicate;
+        if (wasShowingOccurrences || predicate instanceof OccurrencePredicate) {
+            filteredEvents.refresh(Event::isRecurring);
+        }
     }
 
     @Override
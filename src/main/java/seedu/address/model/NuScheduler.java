@@ -4,14 +4,19 @@ import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.UniqueProfileList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the NUScheduler level
@@ -131,16 +136,56 @@ public class NuScheduler implements ReadOnlyNuScheduler {
         return profiles.contains(profile);
     }
 
+    /**
+     * Returns the profile with the given {@code id}, if it exists in the NUScheduler.
+     */
+    public Optional<Profile> getProfileById(long id) {
+        return profiles.getProfileById(id);
+    }
+
+    /**
+     * Returns the profiles whose name contains any of {@code keywords}, ignoring case.
+     */
+    public List<Profile> getProfilesWithNameContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return profiles.getProfilesWithNameContaining(keywords);
+    }
+
+    /**
+     * Returns the profiles which, for every group in {@code tagGroups}, have at least one tag of that group.
+     */
+    public List<Profile> getProfilesWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return profiles.getProfilesWithTags(tagGroups);
+    }
+
     //// event-level operations
 
     /**
-     * Returns true if an event with the same identity as {@code event} exists in the NUScheduler.
+     * Returns true if an event with the same identity as {@code event}, or which shares an occurrence with it,
+     * exists in the NUScheduler.
      */
     public boolean hasEvent(Event event) {
         requireNonNull(event);
         return events.contains(event);
     }
 
+    /**
+     * Returns true if an event other than {@code excludedEvent}, with the same identity as {@code event} or which
+     * shares an occurrence with it, exists in the NUScheduler.
+     */
+    public boolean hasEvent(Event event, Event excludedEvent) {
+        requireAllNonNull(event, excludedEvent);
+        return events.containsOtherThan(event, excludedEvent);
+    }
+
+    /**
+     * Returns the event with the given {@code id}, if it exists in the NUScheduler.
+     */
+    public Optional<Event> getEventById(long id) {
+        return events.getEventById(id);
+    }
+
     /**
      * Adds an event to the NUScheduler.
      * The event must not already exist in the NUScheduler.
@@ -219,7 +264,7 @@ public class NuScheduler implements ReadOnlyNuScheduler {
     }
 
     /**
-     * Replaces each event in {@code eventsToRefresh} with another copy.
+     * Notifies the listeners of the event list that each event in {@code eventsToRefresh} has changed.
      * Events in {@code eventsToRefresh} must exist in the address book.
      */
     public void refreshEvents(EventsAttending eventsToRefresh) {
@@ -227,6 +272,46 @@ public class NuScheduler implements ReadOnlyNuScheduler {
         events.refreshEvents(eventsToRefresh);
     }
 
+    /**
+     * Returns the events which overlap the range from {@code from} to {@code to}, both inclusive.
+     */
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        return events.getEventsOverlapping(from, to);
+    }
+
+    /**
+     * Returns the events which start within the range from {@code from} to {@code to}, both inclusive.
+     */
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        return events.getEventsStartingWithin(from, to);
+    }
+
+    /**
+     * Returns the events which start on {@code date}.
+     */
+    public List<Event> getEventsStartingOn(LocalDate date) {
+        requireNonNull(date);
+        return events.getEventsStartingOn(date);
+    }
+
+    /**
+     * Returns the events whose title contains any of {@code keywords}, ignoring case.
+     */
+    public List<Event> getEventsWithTitleContaining(List<String> keywords) {
+        requireNonNull(keywords);
+        return events.getEventsWithTitleContaining(keywords);
+    }
+
+    /**
+     * Returns the events which, for every group in {@code tagGroups}, have at least one tag of that group.
+     */
+    public List<Event> getEventsWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return events.getEventsWithTags(tagGroups);
+    }
+
     //// util methods
 
     @Override
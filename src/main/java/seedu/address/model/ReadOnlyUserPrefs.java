@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getNuSchedulerFilePath();
 
+    /**
+     * Returns true if commands giving a profile events which clash with its other events should be rejected,
+     * instead of only reporting the clashes.
+     */
+    boolean isRejectingClashes();
+
 }
@@ -0,0 +1,395 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list which keeps its elements sorted by a comparator, stored in an order-statistic tree.
+ * The elements are kept in a balanced (AVL) binary search tree in which every node also records the size of its
+ * subtree, so that the element at an index, and the index of an element, are found in O(log n) time.
+ * Elements which compare equal are kept in the order they were inserted.
+ *
+ * Unlike a {@code SortedList} over another list, the list is changed directly, and each change is reported as the
+ * smallest change to the sorted order: inserting or deleting an element reports a single addition or removal at its
+ * index, and replacing an element with one sorting at the same index reports a single replacement there. Elements
+ * must not be modified in a way that changes their order while they are in the list, and are found by reference,
+ * so the same element cannot be in the list twice.
+ *
+ * The list cannot be modified through the {@code List} methods, so it can be shown as it is as an unmodifiable list.
+ */
+public class SortedTreeList<T> extends ObservableListBase<T> {
+
+    private final Comparator<? super T> comparator;
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+    // Breaks ties between elements which compare equal, in the order they were inserted
+    private long nextSequence = 0;
+
+    /**
+     * Constructs an empty list sorted by {@code comparator}.
+     */
+    public SortedTreeList(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts {@code element} at its index in the sorted order.
+     * {@code element} must not already be in the list.
+     */
+    public void insert(T element) {
+        requireNonNull(element);
+        checkArgument(!nodes.containsKey(element), "Element is already in the list");
+        Node<T> node = newNode(element);
+        root = insert(root, node);
+
+        int index = indexOf(node);
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    /**
+     * Deletes {@code element} from the list.
+     * {@code element} must be in the list.
+     */
+    public void delete(T element) {
+        requireNonNull(element);
+        checkArgument(nodes.containsKey(element), "Element is not in the list");
+        Node<T> node = nodes.remove(element);
+        int index = indexOf(node);
+        root = delete(root, node);
+
+        beginChange();
+        nextRemove(index, element);
+        endChange();
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement}.
+     * If {@code replacement} sorts at the index of {@code target}, it takes the place of {@code target}, which is
+     * reported as a single replacement. Otherwise, {@code target} is deleted and {@code replacement} inserted.
+     * {@code target} must be in the list, and {@code replacement} must not be in the list unless it is {@code target}.
+     */
+    public void replace(T target, T replacement) {
+        requireAllNonNull(target, replacement);
+        checkArgument(nodes.containsKey(target), "Element is not in the list");
+        checkArgument(target == replacement || !nodes.containsKey(replacement), "Element is already in the list");
+        Node<T> node = nodes.get(target);
+        int index = indexOf(node);
+
+        if (sortsAt(index, new Node<>(replacement, node.sequence))) {
+            nodes.remove(target);
+            node.element = replacement;
+            nodes.put(replacement, node);
+            beginChange();
+            nextSet(index, target);
+            endChange();
+            return;
+        }
+
+        nodes.remove(target);
+        root = delete(root, node);
+        Node<T> newNode = newNode(replacement);
+        root = insert(root, newNode);
+        int newIndex = indexOf(newNode);
+        beginChange();
+        nextRemove(index, target);
+        nextAdd(newIndex, newIndex + 1);
+        endChange();
+    }
+
+    /**
+     * Reports {@code element} as replaced by itself, so that listeners show it again after it has changed in a way
+     * which does not change its order.
+     * {@code element} must be in the list.
+     */
+    public void refresh(T element) {
+        requireNonNull(element);
+        checkArgument(nodes.containsKey(element), "Element is not in the list");
+        int index = indexOf(nodes.get(element));
+        beginChange();
+        nextSet(index, element);
+        endChange();
+    }
+
+    /**
+     * Replaces the contents of the list with {@code elements}, reported as a single replacement of every element.
+     * The tree is built balanced from the sorted elements, without inserting them one by one.
+     * {@code elements} must not contain the same element twice.
+     */
+    public void reset(Collection<? extends T> elements) {
+        requireAllNonNull(elements);
+        List<T> sorted = new ArrayList<>(elements);
+        // a stable sort, so elements which compare equal keep their order
+        sorted.sort(comparator);
+        Map<T, Node<T>> newNodesByElement = new IdentityHashMap<>();
+        List<Node<T>> newNodes = new ArrayList<>(sorted.size());
+        for (T element : sorted) {
+            Node<T> node = new Node<>(element, nextSequence++);
+            newNodesByElement.put(element, node);
+            newNodes.add(node);
+        }
+        checkArgument(newNodesByElement.size() == newNodes.size(), "Elements must not contain the same element twice");
+
+        List<T> removed = new ArrayList<>(this);
+        nodes.clear();
+        nodes.putAll(newNodesByElement);
+        root = build(newNodes, 0, newNodes.size());
+
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return nodeAt(index).element;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the index of {@code object}, found by reference in O(log n) time if it is in the list, or otherwise
+     * the index of the first element equal to it.
+     */
+    @Override
+    public int indexOf(Object object) {
+        Node<T> node = nodes.get(object);
+        return node == null ? super.indexOf(object) : indexOf(node);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return nodes.containsKey(object) || super.contains(object);
+    }
+
+    /**
+     * Returns an iterator over the elements in sorted order, which takes O(n) time to iterate over the whole list.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                Node<T> current = path.pop();
+                next = current.right;
+                return current.element;
+            }
+        };
+    }
+
+    private Node<T> newNode(T element) {
+        Node<T> node = new Node<>(element, nextSequence++);
+        nodes.put(element, node);
+        return node;
+    }
+
+    /**
+     * Returns true if {@code candidate} sorts between the nodes before and after {@code index}, including the
+     * tie-break on insertion order, so that it can take the place of the node at {@code index}.
+     */
+    private boolean sortsAt(int index, Node<T> candidate) {
+        return (index == 0 || compare(nodeAt(index - 1), candidate) < 0)
+                && (index == size() - 1 || compare(candidate, nodeAt(index + 1)) < 0);
+    }
+
+    /**
+     * Returns the node at {@code index}, which must be a valid index.
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code node}, which must be in the tree.
+     */
+    private int indexOf(Node<T> node) {
+        int index = size(node.left);
+        Node<T> current = root;
+        while (current != node) {
+            if (compare(node, current) < 0) {
+                current = current.left;
+            } else {
+                index += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return index;
+    }
+
+    private int compare(Node<T> first, Node<T> second) {
+        int comparison = comparator.compare(first.element, second.element);
+        return comparison != 0 ? comparison : Long.compare(first.sequence, second.sequence);
+    }
+
+    private Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (compare(node, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+        } else {
+            subtree.right = insert(subtree.right, node);
+        }
+        return rebalance(subtree);
+    }
+
+    private Node<T> delete(Node<T> subtree, Node<T> node) {
+        if (subtree != node) {
+            if (compare(node, subtree) < 0) {
+                subtree.left = delete(subtree.left, node);
+            } else {
+                subtree.right = delete(subtree.right, node);
+            }
+            return rebalance(subtree);
+        }
+
+        if (subtree.left == null) {
+            return subtree.right;
+        }
+        if (subtree.right == null) {
+            return subtree.left;
+        }
+        Node<T> successor = subtree.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = deleteFirst(subtree.right);
+        successor.left = subtree.left;
+        return rebalance(successor);
+    }
+
+    private Node<T> deleteFirst(Node<T> subtree) {
+        if (subtree.left == null) {
+            return subtree.right;
+        }
+        subtree.left = deleteFirst(subtree.left);
+        return rebalance(subtree);
+    }
+
+    /**
+     * Returns a balanced tree of the nodes from {@code from} (inclusive) to {@code to} (exclusive) of
+     * {@code sortedNodes}.
+     */
+    private Node<T> build(List<Node<T>> sortedNodes, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = sortedNodes.get(middle);
+        node.left = build(sortedNodes, from, middle);
+        node.right = build(sortedNodes, middle + 1, to);
+        node.update();
+        return node;
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<T> {
+        private T element;
+        private final long sequence;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private int size = 1;
+
+        Node(T element, long sequence) {
+            this.element = element;
+            this.sequence = sequence;
+        }
+
+        void update() {
+            height = 1 + Math.max(height(left), height(right));
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path nuSchedulerFilePath = Paths.get("data" , "nuscheduler.json");
+    private boolean rejectingClashes = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setNuSchedulerFilePath(newUserPrefs.getNuSchedulerFilePath());
+        setRejectingClashes(newUserPrefs.isRejectingClashes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +58,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.nuSchedulerFilePath = nuSchedulerFilePath;
     }
 
+    public boolean isRejectingClashes() {
+        return rejectingClashes;
+    }
+
+    public void setRejectingClashes(boolean rejectingClashes) {
+        this.rejectingClashes = rejectingClashes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +78,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && nuSchedulerFilePath.equals(o.nuSchedulerFilePath);
+                && nuSchedulerFilePath.equals(o.nuSchedulerFilePath)
+                && rejectingClashes == o.rejectingClashes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, nuSchedulerFilePath);
+        return Objects.hash(guiSettings, nuSchedulerFilePath, rejectingClashes);
     }
 
     @Override
@@ -81,6 +92,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + nuSchedulerFilePath);
+        sb.append("\nReject clashing events : " + rejectingClashes);
         return sb.toString();
     }
 
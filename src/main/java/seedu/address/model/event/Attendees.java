@@ -2,24 +2,33 @@ package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
+import seedu.address.model.SortedTreeList;
 import seedu.address.model.profile.Profile;
 
 /**
  * Represents an Event's attendees in NUScheduler.
+ * Membership is checked against a hash map of the attendees, while the attendees are kept in sorted order in a
+ * {@code SortedTreeList}, so that adding or removing an attendee takes O(log n) time and the attendees never need
+ * to be sorted as a whole.
  */
 public class Attendees {
-    private final List<Profile> attendees;
+    // Maps each attendee to itself, so that the attendee equal to a given profile can be removed from the sorted list
+    private final Map<Profile, Profile> attendeeSet;
+    private final SortedTreeList<Profile> attendees;
 
     /**
      * Constructs an empty {@code Attendees}.
      */
     public Attendees() {
-        this.attendees = new ArrayList<>();
+        this.attendeeSet = new LinkedHashMap<>();
+        this.attendees = new SortedTreeList<>(Comparator.naturalOrder());
     }
 
     /**
@@ -29,16 +38,19 @@ public class Attendees {
      */
     public Attendees(List<Profile> attendees) {
         requireNonNull(attendees);
-        this.attendees = new ArrayList<>();
-        this.attendees.addAll(attendees);
+        this.attendeeSet = new LinkedHashMap<>();
+        this.attendees = new SortedTreeList<>(Comparator.naturalOrder());
+        for (Profile attendee : attendees) {
+            attendeeSet.putIfAbsent(attendee, attendee);
+        }
+        this.attendees.reset(attendeeSet.values());
     }
 
     /**
-     * Returns an immutable profile set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable sorted profile list, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public List<Profile> getAttendeesList() {
-        Collections.sort(attendees);
         return Collections.unmodifiableList(attendees);
     }
 
@@ -46,8 +58,9 @@ public class Attendees {
      * Adds the given profile if it has not already been added.
      */
     public void addProfile(Profile profile) {
-        if (!hasAttendee(profile)) {
-            this.attendees.add(profile);
+        requireNonNull(profile);
+        if (attendeeSet.putIfAbsent(profile, profile) == null) {
+            attendees.insert(profile);
         }
     }
 
@@ -62,8 +75,10 @@ public class Attendees {
      * Removes the given profile if it exists.
      */
     public void removeAttendee(Profile attendeeToRemove) {
-        if (hasAttendee(attendeeToRemove)) {
-            this.attendees.remove(attendeeToRemove);
+        requireNonNull(attendeeToRemove);
+        Profile attendee = attendeeSet.remove(attendeeToRemove);
+        if (attendee != null) {
+            attendees.delete(attendee);
         }
     }
 
@@ -79,7 +94,7 @@ public class Attendees {
      */
     public boolean hasAttendee(Profile profile) {
         requireNonNull(profile);
-        return this.attendees.contains(profile);
+        return attendeeSet.containsKey(profile);
     }
 
     /**
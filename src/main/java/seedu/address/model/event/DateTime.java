@@ -3,18 +3,23 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.time.temporal.ChronoUnit;
+import java.time.format.TextStyle;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Represents an Event's start or end datetime in the NUScheduler.
@@ -24,6 +29,7 @@ public class DateTime implements Comparable<DateTime> {
 
     public static final String RECOMMENDED_DATE_FORMAT = "dd/MM/yyyy";
     public static final String RECOMMENDED_TIME_FORMAT = "HH:mm";
+    public static final int MINUTES_PER_DAY = 24 * 60;
     public static final String MESSAGE_CONSTRAINTS =
             String.format("Dates should follow a valid format. Try %s %s.",
                     RECOMMENDED_DATE_FORMAT, RECOMMENDED_TIME_FORMAT);
@@ -62,8 +68,25 @@ public class DateTime implements Comparable<DateTime> {
         }
     };
 
-    public final LocalDate date;
-    public final Optional<LocalTime> time;
+    // The formats are matched for every datetime parsed, so they are compiled once, in the order of REGEX_DATES:
+    // day first then year first, each with a colon time then a time without a space, for '-' then for '/'
+    private static final List<Pattern> DATE_PATTERNS = REGEX_DATES.stream()
+            .map(Pattern::compile)
+            .collect(Collectors.toUnmodifiableList());
+    private static final int SLASH_PATTERNS_OFFSET = 4;
+    private static final int YEAR_FIRST_PATTERNS_OFFSET = 2;
+    private static final int NO_COLON_PATTERN_OFFSET = 1;
+    // Month names as the formatters for "MMM" and "MMMM" parse them, lowercased like the datetime strings
+    private static final Map<String, Month> SHORT_MONTH_NAMES = getMonthNames(TextStyle.SHORT);
+    private static final Map<String, Month> FULL_MONTH_NAMES = getMonthNames(TextStyle.FULL);
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(RECOMMENDED_DATE_FORMAT);
+
+    private static final long HAS_TIME_FLAG = 1;
+
+    // Minutes since the epoch, shifted left by one bit, with the lowest bit set if the datetime has a time.
+    // A date without a time is encoded as midnight with the flag cleared, so it orders before every time on that date.
+    private final long packed;
 
     /**
      * Constructs a {@code DateTime}.
@@ -72,35 +95,72 @@ public class DateTime implements Comparable<DateTime> {
      */
     public DateTime(String dateTime) throws DateTimeParseException {
         requireNonNull(dateTime);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        this.date = parseDate(dateTime);
-        this.time = parseTime(dateTime);
+        Matcher matcher = matchDateTime(dateTime);
+        checkArgument(matcher != null, MESSAGE_CONSTRAINTS);
+        this.packed = pack(extractDate(matcher), extractTime(matcher));
+    }
+
+    /**
+     * Constructs a {@code DateTime} of the given {@code date}, and {@code time} if present.
+     */
+    public DateTime(LocalDate date, Optional<LocalTime> time) {
+        requireNonNull(date);
+        requireNonNull(time);
+        this.packed = pack(date, time);
+    }
+
+    private DateTime(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns the {@code DateTime} with a time which is {@code epochMinutes} minutes from the epoch.
+     */
+    public static DateTime ofEpochMinutes(long epochMinutes) {
+        int minuteOfDay = (int) Math.floorMod(epochMinutes, MINUTES_PER_DAY);
+        return new DateTime(LocalDate.ofEpochDay(Math.floorDiv(epochMinutes, MINUTES_PER_DAY)),
+                Optional.of(LocalTime.of(minuteOfDay / 60, minuteOfDay % 60)));
+    }
+
+    private static long pack(LocalDate date, Optional<LocalTime> time) {
+        long epochMinutes = date.toEpochDay() * MINUTES_PER_DAY;
+        if (time.isEmpty()) {
+            return epochMinutes << 1;
+        }
+        epochMinutes += time.get().getHour() * 60 + time.get().getMinute();
+        return (epochMinutes << 1) | HAS_TIME_FLAG;
+    }
+
+    private static Map<String, Month> getMonthNames(TextStyle style) {
+        Map<String, Month> monthNames = new HashMap<>();
+        for (Month month : Month.values()) {
+            monthNames.put(month.getDisplayName(style, Locale.getDefault(Locale.Category.FORMAT)).toLowerCase(), month);
+        }
+        return monthNames;
     }
 
     /**
      * Returns a LocalTime object for an input time in the valid formats.
+     * As with parsing "HH:mm" leniently, 24:00 is the midnight at the start of the day.
      */
     private static LocalTime generateLocalTime(String hours, String minutes) throws DateTimeParseException {
-        return LocalTime.parse(hours + ":" + minutes,
-                DateTimeFormatter.ofPattern("HH:mm"));
+        int hour = Integer.parseInt(hours);
+        int minute = Integer.parseInt(minutes);
+        if (hour == 24 && minute == 0) {
+            return LocalTime.MIDNIGHT;
+        }
+        try {
+            return LocalTime.of(hour, minute);
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), hours + ":" + minutes, 0, e);
+        }
     }
 
     /**
      * Returns a LocalDate object for an input date in the valid formats.
+     * The fields are checked as strictly as parsing "d/M/uuuu", "d/MMM/uuuu" or "d/MMMM/uuuu" would.
      */
     private static LocalDate generateLocalDate(String year, String month, String day) throws DateTimeParseException {
-        String formatter = "d/";
-        if (month.length() >= 3) {
-            month = month.substring(0, 1).toUpperCase() + month.substring(1).toLowerCase();
-            if (month.length() == 3) {
-                formatter += "MMM/";
-            } else {
-                formatter += "MMMM/";
-            }
-        } else {
-            formatter += "M/";
-        }
-        formatter += "uuuu";
         if (year == null) {
             year = String.valueOf(LocalDate.now().getYear());
         }
@@ -110,8 +170,87 @@ public class DateTime implements Comparable<DateTime> {
                     day.length() + month.length());
         }
 
-        return LocalDate.parse(day + "/" + month + "/" + year,
-                DateTimeFormatter.ofPattern(formatter).withResolverStyle(ResolverStyle.STRICT));
+        int monthValue;
+        if (month.length() >= 3) {
+            Month monthOfName = (month.length() == 3 ? SHORT_MONTH_NAMES : FULL_MONTH_NAMES).get(month.toLowerCase());
+            if (monthOfName == null) {
+                throw new DateTimeParseException("Unknown month " + month, day + "/" + month + "/" + year,
+                        day.length() + 1);
+            }
+            monthValue = monthOfName.getValue();
+        } else {
+            monthValue = Integer.parseInt(month);
+        }
+        try {
+            return LocalDate.of(Integer.parseInt(year), monthValue, Integer.parseInt(day));
+        } catch (DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), day + "/" + month + "/" + year, 0, e);
+        }
+    }
+
+    /**
+     * Returns a matcher which has matched {@code dateString} against the datetime format it satisfies,
+     * or null if it satisfies none of them.
+     */
+    private static Matcher matchDateTime(String dateString) {
+        String lowerCaseDateString = dateString.toLowerCase();
+        Pattern pattern = selectPattern(lowerCaseDateString);
+        if (pattern == null) {
+            return null;
+        }
+        Matcher matcher = pattern.matcher(lowerCaseDateString);
+        return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * Returns the only datetime format which {@code dateString} could satisfy, or null if it could satisfy none.
+     * The formats are told apart by the separator after the leading number, whether that number has four digits
+     * (a year) or at most two (a day), and whether the string has a colon. A string without a colon can only
+     * satisfy a format with a colon time if it has no time, and then it satisfies the format without a colon
+     * in the same way, so a single format is matched instead of trying each in turn.
+     */
+    private static Pattern selectPattern(String dateString) {
+        int leadingDigits = 0;
+        while (leadingDigits < dateString.length() && isAsciiDigit(dateString.charAt(leadingDigits))) {
+            leadingDigits++;
+        }
+        if (leadingDigits == dateString.length()) {
+            return null;
+        }
+
+        int index;
+        char separator = dateString.charAt(leadingDigits);
+        if (separator == '-') {
+            index = 0;
+        } else if (separator == '/') {
+            index = SLASH_PATTERNS_OFFSET;
+        } else {
+            return null;
+        }
+        if (leadingDigits == 4) {
+            index += YEAR_FIRST_PATTERNS_OFFSET;
+        } else if (leadingDigits == 0 || leadingDigits > 2) {
+            return null;
+        }
+        if (dateString.indexOf(':') < 0) {
+            index += NO_COLON_PATTERN_OFFSET;
+        }
+        return DATE_PATTERNS.get(index);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static LocalDate extractDate(Matcher matcher) throws DateTimeParseException {
+        return generateLocalDate(matcher.group("yearGroup"), matcher.group("monthGroup"), matcher.group("dayGroup"));
+    }
+
+    private static Optional<LocalTime> extractTime(Matcher matcher) throws DateTimeParseException {
+        if (matcher.group("timeGroup") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(generateLocalTime(matcher.group("hoursGroup"), matcher.group("minutesGroup")));
     }
 
     /**
@@ -119,28 +258,16 @@ public class DateTime implements Comparable<DateTime> {
      * validate the values.
      */
     public static boolean isValidDateTime(String dateString) {
-        for (String regex : REGEX_DATES) {
-            if (dateString.toLowerCase().matches(regex)) {
-                return true;
-            }
-        }
-        return false;
+        return matchDateTime(dateString) != null;
     }
 
     /**
      * Returns a LocalDate from a given date time string.
      */
     public static LocalDate parseDate(String dateString) throws DateTimeParseException {
-        Pattern pattern = Pattern.compile("");
-        for (String regex : REGEX_DATES) {
-            if (dateString.toLowerCase().matches(regex)) {
-                pattern = Pattern.compile(regex);
-            }
-        }
-        Matcher matcher = pattern.matcher(dateString.toLowerCase());
-        matcher.matches();
-        return generateLocalDate(matcher.group("yearGroup"),
-                matcher.group("monthGroup"), matcher.group("dayGroup"));
+        Matcher matcher = matchDateTime(dateString);
+        checkArgument(matcher != null, MESSAGE_CONSTRAINTS);
+        return extractDate(matcher);
     }
 
     /**
@@ -149,43 +276,40 @@ public class DateTime implements Comparable<DateTime> {
      * return a empty Optional.
      */
     public static Optional<LocalTime> parseTime(String dateString) {
-        Pattern pattern = Pattern.compile("");
-        for (String regex : REGEX_DATES) {
-            if (dateString.toLowerCase().matches(regex)) {
-                pattern = Pattern.compile(regex);
-            }
-        }
-        Matcher matcher = pattern.matcher(dateString.toLowerCase());
-        matcher.matches();
-        String time = matcher.group("timeGroup");
-        if (time == null) {
-            return Optional.empty();
-        }
-
-        String hours = matcher.group("hoursGroup");
-        String minutes = matcher.group("minutesGroup");
-
-        return Optional.ofNullable(generateLocalTime(hours, minutes));
+        Matcher matcher = matchDateTime(dateString);
+        checkArgument(matcher != null, MESSAGE_CONSTRAINTS);
+        return extractTime(matcher);
     }
 
     public static String getDifferenceString(DateTime start, DateTime end) {
-        LocalDateTime startTime = start.date.atTime(start.time.orElse(LocalTime.MIDNIGHT));
-        LocalDateTime endTime = end.date.atTime(end.time.orElse(LocalTime.MIDNIGHT));
-        long days = ChronoUnit.DAYS.between(startTime, endTime);
-        if (start.time.isEmpty() && end.time.isEmpty()) {
+        long totalMinutes = end.getEpochMinutes() - start.getEpochMinutes();
+        long days = totalMinutes / MINUTES_PER_DAY;
+        if (!start.hasTime() && !end.hasTime()) {
             days += 1;
         }
-        long hours = ChronoUnit.HOURS.between(startTime, endTime) % 24;
-        long minutes = ChronoUnit.MINUTES.between(startTime, endTime) % 60;
-        String res = "";
-        res += days != 0 ? String.format("%d day%s, ", days, days == 1 ? "" : "s") : "";
-        res += hours != 0 ? String.format("%d hour%s, ", hours, hours == 1 ? "" : "s") : "";
-        res += minutes != 0 ? String.format("%d minute%s, ", minutes, minutes == 1 ? "" : "s") : "";
-        res = res.replaceAll(", $", "");
-        if (res.isEmpty()) {
+        long hours = totalMinutes / 60 % 24;
+        long minutes = totalMinutes % 60;
+        StringBuilder res = new StringBuilder();
+        appendDurationPart(res, days, "day");
+        appendDurationPart(res, hours, "hour");
+        appendDurationPart(res, minutes, "minute");
+        if (res.length() == 0) {
             return "No Duration";
         }
-        return res;
+        return res.toString();
+    }
+
+    private static void appendDurationPart(StringBuilder duration, long amount, String unit) {
+        if (amount == 0) {
+            return;
+        }
+        if (duration.length() != 0) {
+            duration.append(", ");
+        }
+        duration.append(amount).append(' ').append(unit);
+        if (amount != 1) {
+            duration.append('s');
+        }
     }
 
     /**
@@ -193,40 +317,64 @@ public class DateTime implements Comparable<DateTime> {
      * Otherwise, returns false.
      */
     public boolean isBeforeOrEqual(DateTime other) {
-        if (this.time.isEmpty() && other.time.isEmpty()) {
-            return !this.date.isAfter(other.date);
-        }
-        assert this.time.isPresent() && other.time.isPresent() : "Both should have time!";
-        return this.date.isEqual(other.date)
-                ? !this.time.get().isAfter(other.time.get())
-                : !this.date.isAfter(other.date);
+        assert hasTime() == other.hasTime() : "Both should have time, or neither should!";
+        return packed <= other.packed;
+    }
+
+    /**
+     * Returns this datetime moved by {@code days} days, keeping its time, if any.
+     */
+    public DateTime plusDays(long days) {
+        return new DateTime(packed + ((days * MINUTES_PER_DAY) << 1));
     }
 
     public boolean hasTime() {
-        return this.time.isPresent();
+        return (packed & HAS_TIME_FLAG) != 0;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to this datetime, counting a date without a time as midnight.
+     */
+    public long getEpochMinutes() {
+        return packed >> 1;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to this datetime, when it is the end of a range.
+     * A date without a time counts as the end of that date, so the range includes the whole date.
+     */
+    public long getEndEpochMinutes() {
+        return hasTime() ? getEpochMinutes() : getEpochMinutes() + MINUTES_PER_DAY;
     }
 
     public LocalDate getDate() {
-        return this.date;
+        return LocalDate.ofEpochDay(Math.floorDiv(getEpochMinutes(), MINUTES_PER_DAY));
+    }
+
+    public Optional<LocalTime> getTime() {
+        if (!hasTime()) {
+            return Optional.empty();
+        }
+        int minuteOfDay = (int) Math.floorMod(getEpochMinutes(), MINUTES_PER_DAY);
+        return Optional.of(LocalTime.of(minuteOfDay / 60, minuteOfDay % 60));
     }
 
     @Override
     public String toString() {
-        return date.format(DateTimeFormatter.ofPattern(RECOMMENDED_DATE_FORMAT))
-                + time.map(t -> " " + t).orElse("");
+        return getDate().format(DISPLAY_DATE_FORMATTER)
+                + getTime().map(t -> " " + t).orElse("");
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DateTime // instanceof handles nulls
-                && date.equals(((DateTime) other).date) // state check
-                && time.equals(((DateTime) other).time)); // state check
+                && packed == ((DateTime) other).packed); // state check
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode() ^ time.hashCode();
+        return Long.hashCode(packed);
     }
 
     /**
@@ -237,22 +385,6 @@ public class DateTime implements Comparable<DateTime> {
      */
     @Override
     public int compareTo(DateTime other) {
-        int compareValue = this.date.compareTo(other.date);
-
-        if (compareValue == 0) {
-            boolean objectTimePresent = this.time.isPresent();
-            boolean otherTimePresent = other.time.isPresent();
-            if (!objectTimePresent && !otherTimePresent) {
-                compareValue = 0;
-            } else if (objectTimePresent && otherTimePresent) {
-                compareValue = this.time.get().compareTo(other.time.get());
-            } else if (objectTimePresent) {
-                compareValue = 1;
-            } else {
-                compareValue = -1;
-            }
-        }
-
-        return compareValue;
+        return Long.compare(this.packed, other.packed);
     }
 }
@@ -1,16 +1,22 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.model.profile.Profile;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents an Event in the NUScheduler.
@@ -18,37 +24,93 @@ import seedu.address.model.tag.Tag;
  */
 public class Event implements Comparable<Event> {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Ids should be positive integers";
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    // Surrogate key, which is kept when the event is edited and is not part of equality
+    private final long id;
+
     // Identity fields
     private final Title title;
     private final DateTime startDateTime;
     private final DateTime endDateTime;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Attendees attendees;
+    // Null if the event does not repeat
+    private final Recurrence recurrence;
+
+    // The fields hashed are immutable, so the hash code is computed once
+    private final int cachedHashCode;
+
+    // Display strings of the immutable start and end, computed when first displayed
+    private String dateTimeString;
+    private String durationString;
 
     /**
      * Every field must be present and not null.
      */
     public Event(Title title, DateTime startDateTime, DateTime endDateTime, Set<Tag> tags) {
-        requireAllNonNull(title, startDateTime, endDateTime, tags);
-        this.title = title;
-        this.startDateTime = startDateTime;
-        this.endDateTime = endDateTime;
-        this.tags.addAll(tags);
-        attendees = new Attendees();
+        this(title, startDateTime, endDateTime, tags, new Attendees());
     }
 
     /**
      * Every field must be present and not null.
      */
     public Event(Title title, DateTime startDateTime, DateTime endDateTime, Set<Tag> tags, Attendees attendees) {
-        requireAllNonNull(title, startDateTime, endDateTime, tags, attendees);
+        this(title, startDateTime, endDateTime, tags, attendees, Optional.empty());
+    }
+
+    /**
+     * Constructs an event which repeats by {@code recurrence}, if present.
+     * Every field must be present and not null.
+     */
+    public Event(Title title, DateTime startDateTime, DateTime endDateTime, Set<Tag> tags, Attendees attendees,
+                 Optional<Recurrence> recurrence) {
+        this(nextId.getAndIncrement(), title, startDateTime, endDateTime, tags, attendees, recurrence);
+    }
+
+    /**
+     * Constructs an event with the given {@code id}, such as the id of the event it replaces.
+     * {@code id} must be positive. Every field must be present and not null.
+     */
+    public Event(long id, Title title, DateTime startDateTime, DateTime endDateTime, Set<Tag> tags,
+                 Attendees attendees) {
+        this(id, title, startDateTime, endDateTime, tags, attendees, Optional.empty());
+    }
+
+    /**
+     * Constructs an event with the given {@code id}, which repeats by {@code recurrence}, if present.
+     * {@code id} must be positive. Every field must be present and not null.
+     */
+    public Event(long id, Title title, DateTime startDateTime, DateTime endDateTime, Set<Tag> tags,
+                 Attendees attendees, Optional<Recurrence> recurrence) {
+        requireAllNonNull(title, startDateTime, endDateTime, tags, attendees, recurrence);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        // ids given to new events must not clash with ids which are already in use
+        nextId.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.title = title;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.attendees = attendees;
+        this.recurrence = recurrence.orElse(null);
+        // use this method for custom fields hashing instead of implementing your own
+        this.cachedHashCode = Objects.hash(title, startDateTime, endDateTime, this.tags, this.recurrence);
+    }
+
+    /**
+     * Returns true if a given number is a valid event id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Title getTitle() {
@@ -63,6 +125,26 @@ public class Event implements Comparable<Event> {
         return endDateTime;
     }
 
+    /**
+     * Returns the start and end datetimes of the event for display.
+     */
+    public String getDateTimeString() {
+        if (dateTimeString == null) {
+            dateTimeString = startDateTime + " - " + endDateTime;
+        }
+        return dateTimeString;
+    }
+
+    /**
+     * Returns the duration of the event for display.
+     */
+    public String getDurationString() {
+        if (durationString == null) {
+            durationString = DateTime.getDifferenceString(startDateTime, endDateTime);
+        }
+        return durationString;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -79,6 +161,203 @@ public class Event implements Comparable<Event> {
         return attendees.getAttendeesList();
     }
 
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    // occurrence operations
+
+    /**
+     * Returns the occurrences of the event which overlap the range from {@code from} to {@code to}, both inclusive,
+     * in sorted order.
+     * An event which does not repeat is its own only occurrence. The occurrences of a repeating event are made only
+     * for the range asked for, as events with the same id, title, tags and attendees which do not repeat.
+     */
+    public List<Event> getOccurrencesOverlapping(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        if (recurrence == null) {
+            return isOverlappingRange(from, to) ? List.of(this) : List.of();
+        }
+
+        // an occurrence ending before the range may still overlap it, if it ends on a date without a time,
+        // so the occurrences are narrowed down with a day to spare, then checked exactly
+        long firstNumber = getFirstOccurrenceNumberEndingFrom(from.getEpochMinutes() - DateTime.MINUTES_PER_DAY);
+        long lastNumber = getLastOccurrenceNumberStartingBy(to.getEpochMinutes() + DateTime.MINUTES_PER_DAY);
+        List<Event> occurrences = new ArrayList<>();
+        for (long number = firstNumber; number <= lastNumber; number++) {
+            Event occurrence = getOccurrence(number);
+            if (occurrence != null && occurrence.isOverlappingRange(from, to)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrences of the event which start within the range from {@code from} to {@code to}, both
+     * inclusive, in sorted order.
+     *
+     * @see #getOccurrencesOverlapping(DateTime, DateTime)
+     */
+    public List<Event> getOccurrencesStartingWithin(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        if (recurrence == null) {
+            return isStartingWithin(from, to) ? List.of(this) : List.of();
+        }
+
+        long firstNumber = getFirstOccurrenceNumberStartingFrom(from.getEpochMinutes() - DateTime.MINUTES_PER_DAY);
+        long lastNumber = getLastOccurrenceNumberStartingBy(to.getEpochMinutes() + DateTime.MINUTES_PER_DAY);
+        List<Event> occurrences = new ArrayList<>();
+        for (long number = firstNumber; number <= lastNumber; number++) {
+            Event occurrence = getOccurrence(number);
+            if (occurrence != null && occurrence.isStartingWithin(from, to)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns every occurrence of the event, in sorted order.
+     *
+     * @see #getOccurrencesOverlapping(DateTime, DateTime)
+     */
+    public List<Event> getOccurrences() {
+        if (recurrence == null) {
+            return List.of(this);
+        }
+
+        long lastNumber = recurrence.getLastOccurrenceNumber(startDateTime.getDate());
+        List<Event> occurrences = new ArrayList<>();
+        for (long number = 0; number <= lastNumber; number++) {
+            Event occurrence = getOccurrence(number);
+            if (occurrence != null) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns true if an occurrence of the event starts on a date from {@code firstDate} to {@code lastDate},
+     * both inclusive.
+     */
+    public boolean hasOccurrenceStartingBetween(LocalDate firstDate, LocalDate lastDate) {
+        return getFirstOccurrenceStartingBetween(firstDate, lastDate).isPresent();
+    }
+
+    /**
+     * Returns the first occurrence of the event which starts on a date from {@code firstDate} to {@code lastDate},
+     * both inclusive, if there is one.
+     */
+    public Optional<Event> getFirstOccurrenceStartingBetween(LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(firstDate, lastDate);
+        if (firstDate.isAfter(lastDate)) {
+            return Optional.empty();
+        }
+        return getOccurrencesStartingWithin(new DateTime(firstDate, Optional.empty()),
+                new DateTime(lastDate, Optional.of(LocalTime.MAX))).stream().findFirst();
+    }
+
+    /**
+     * Returns true if an occurrence of the event starts at {@code start} and ends at {@code end}.
+     * The occurrence is worked out from {@code start}, without making the other occurrences.
+     */
+    public boolean hasOccurrence(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        if (recurrence == null) {
+            return startDateTime.equals(start) && endDateTime.equals(end);
+        }
+
+        long periodMinutes = (long) recurrence.getPeriodDays() * DateTime.MINUTES_PER_DAY;
+        long minutesAfterFirstStart = start.getEpochMinutes() - startDateTime.getEpochMinutes();
+        if (minutesAfterFirstStart % periodMinutes != 0) {
+            return false;
+        }
+        Event occurrence = getOccurrence(minutesAfterFirstStart / periodMinutes);
+        return occurrence != null && occurrence.startDateTime.equals(start) && occurrence.endDateTime.equals(end);
+    }
+
+    /**
+     * Returns true if this event and {@code other} have the same title and an occurrence of each with the same
+     * start and end, so that both would put the same event in the schedule.
+     * For events which do not repeat, this is the same as {@link #isSameEvent(Event)}. Otherwise, the occurrences
+     * of this event are checked against {@code other} one by one, of which there are at most
+     * {@value Recurrence#MAX_OCCURRENCES}.
+     */
+    public boolean sharesOccurrenceWith(Event other) {
+        requireNonNull(other);
+        if (!title.equals(other.title)) {
+            return false;
+        }
+        if (recurrence == null) {
+            return other.hasOccurrence(startDateTime, endDateTime);
+        }
+        if (other.recurrence == null) {
+            return hasOccurrence(other.startDateTime, other.endDateTime);
+        }
+        return getOccurrences().stream()
+                .anyMatch(occurrence -> other.hasOccurrence(occurrence.startDateTime, occurrence.endDateTime));
+    }
+
+    /**
+     * Returns the end of the last occurrence the event may have, in epoch minutes, with an end without a time taken
+     * as the end of that day. No occurrence of the event ends later.
+     */
+    public long getLastEndEpochMinutes() {
+        if (recurrence == null) {
+            return endDateTime.getEndEpochMinutes();
+        }
+        long lastNumber = Math.max(0, recurrence.getLastOccurrenceNumber(startDateTime.getDate()));
+        return endDateTime.plusDays(lastNumber * recurrence.getPeriodDays()).getEndEpochMinutes();
+    }
+
+    /**
+     * Returns the occurrence numbered {@code number}, counting from 0, or null if it is skipped or the event does not
+     * repeat that many times.
+     */
+    private Event getOccurrence(long number) {
+        long days = number * recurrence.getPeriodDays();
+        DateTime occurrenceStart = startDateTime.plusDays(days);
+        if (number < 0 || number > recurrence.getLastOccurrenceNumber(startDateTime.getDate())
+                || recurrence.isException(occurrenceStart.getDate())) {
+            return null;
+        }
+        return new Event(id, title, occurrenceStart, endDateTime.plusDays(days), tags, attendees);
+    }
+
+    private long getFirstOccurrenceNumberEndingFrom(long epochMinutes) {
+        long periodMinutes = (long) recurrence.getPeriodDays() * DateTime.MINUTES_PER_DAY;
+        long minutesAfterFirstEnd = epochMinutes - endDateTime.getEpochMinutes();
+        return Math.max(0, -Math.floorDiv(-minutesAfterFirstEnd, periodMinutes));
+    }
+
+    private long getFirstOccurrenceNumberStartingFrom(long epochMinutes) {
+        long periodMinutes = (long) recurrence.getPeriodDays() * DateTime.MINUTES_PER_DAY;
+        long minutesAfterFirstStart = epochMinutes - startDateTime.getEpochMinutes();
+        return Math.max(0, -Math.floorDiv(-minutesAfterFirstStart, periodMinutes));
+    }
+
+    private long getLastOccurrenceNumberStartingBy(long epochMinutes) {
+        long periodMinutes = (long) recurrence.getPeriodDays() * DateTime.MINUTES_PER_DAY;
+        long minutesAfterFirstStart = epochMinutes - startDateTime.getEpochMinutes();
+        return Math.min(recurrence.getLastOccurrenceNumber(startDateTime.getDate()),
+                Math.floorDiv(minutesAfterFirstStart, periodMinutes));
+    }
+
+    private boolean isOverlappingRange(DateTime from, DateTime to) {
+        // an end without a time is the end of that day, as in isOverlapping
+        return startDateTime.compareTo(to) <= 0 && endDateTime.getEndEpochMinutes() >= from.getEpochMinutes();
+    }
+
+    private boolean isStartingWithin(DateTime from, DateTime to) {
+        return startDateTime.compareTo(from) >= 0 && startDateTime.compareTo(to) <= 0;
+    }
+
     // attendee operations
 
     /**
@@ -191,6 +470,17 @@ public class Event implements Comparable<Event> {
                 && otherEvent.getEndDateTime().equals(getEndDateTime());
     }
 
+    /**
+     * Returns true if this event and {@code other} take up some time in common.
+     * A start date without a time counts as the start of that date, and an end date without a time as the end of
+     * that date.
+     */
+    public boolean isOverlapping(Event other) {
+        requireNonNull(other);
+        return startDateTime.getEpochMinutes() < other.endDateTime.getEndEpochMinutes()
+                && other.startDateTime.getEpochMinutes() < endDateTime.getEndEpochMinutes();
+    }
+
     /**
      * Returns true if start date is before or equal the end date.
      */
@@ -198,6 +488,14 @@ public class Event implements Comparable<Event> {
         return startDateTime.isBeforeOrEqual(endDateTime);
     }
 
+    /**
+     * Returns true if the event does not repeat, or repeats until a date which is not before its start date.
+     */
+    public boolean isValidRecurrence() {
+        return recurrence == null || !recurrence.hasUntilDate()
+                || !recurrence.getUntilDate().isBefore(startDateTime.getDate());
+    }
+
     /**
      * Returns true if start date and end dates either both have time
      * or both do not have time.
@@ -222,13 +520,13 @@ public class Event implements Comparable<Event> {
 
         Event otherEvent = (Event) other;
         return isSameEvent(otherEvent)
-                && otherEvent.getTags().equals(getTags());
+                && otherEvent.getTags().equals(getTags())
+                && Objects.equals(otherEvent.recurrence, recurrence);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, startDateTime, endDateTime, tags);
+        return cachedHashCode;
     }
 
     @Override
@@ -241,6 +539,11 @@ public class Event implements Comparable<Event> {
                 .append("; End: ")
                 .append(getEndDateTime());
 
+        if (recurrence != null) {
+            builder.append("; Repeats: ")
+                    .append(recurrence);
+        }
+
         Set<Tag> tags = getTags();
         if (!tags.isEmpty()) {
             builder.append("; Tags: ");
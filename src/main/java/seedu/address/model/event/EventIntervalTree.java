@@ -0,0 +1,287 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * An interval tree over the start and end {@code DateTime} of events.
+ * Events are kept in a balanced (AVL) binary search tree ordered by start, then end, then title, and every node
+ * also records the latest end in its subtree. This allows the events starting within a given range to be found in
+ * O(log n + k) time, where k is the number of events found, and the events overlapping a given range in
+ * O(min(n, (k + 1) log n)) time, as subtrees which end too early are skipped but their neighbours may not be.
+ *
+ * Starts are compared using {@link DateTime#compareTo(DateTime)}, so a {@code DateTime} without a time is earlier
+ * than any {@code DateTime} with a time on the same date. An end without a time is taken as the end of that day,
+ * as in {@link Event#isOverlapping(Event)}, so an event ending on a date overlaps any time on that date.
+ * A tree can also be built over another end, such as the end of the last occurrence of a repeating event, in which
+ * case the ends used throughout are the ones it gives.
+ * Events in the tree must be unique by {@link Event#isSameEvent(Event)}.
+ */
+public class EventIntervalTree {
+
+    private static final Comparator<Event> EVENT_ORDER = Comparator.comparing(Event::getStartDateTime)
+            .thenComparing(Event::getEndDateTime)
+            .thenComparing(event -> event.getTitle().title);
+
+    private final ToLongFunction<Event> endEpochMinutes;
+    private Node root;
+    private int size;
+
+    /**
+     * Constructs an empty tree over the start and end of each event.
+     */
+    public EventIntervalTree() {
+        this(event -> event.getEndDateTime().getEndEpochMinutes());
+    }
+
+    /**
+     * Constructs an empty tree over the start of each event and the end given by {@code endEpochMinutes},
+     * in epoch minutes. The end given for an event must not change while it is in the tree.
+     */
+    public EventIntervalTree(ToLongFunction<Event> endEpochMinutes) {
+        this.endEpochMinutes = requireNonNull(endEpochMinutes);
+    }
+
+    /**
+     * Returns the number of events in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code toAdd} to the tree.
+     * No event with the same identity as {@code toAdd} may already be in the tree.
+     */
+    public void add(Event toAdd) {
+        requireNonNull(toAdd);
+        root = insert(root, toAdd);
+        size++;
+    }
+
+    /**
+     * Removes the event with the same identity as {@code toRemove} from the tree.
+     * Returns true if such an event was found.
+     */
+    public boolean remove(Event toRemove) {
+        requireNonNull(toRemove);
+        int oldSize = size;
+        root = delete(root, toRemove);
+        return size != oldSize;
+    }
+
+    /**
+     * Replaces the contents of the tree with {@code events}.
+     * {@code events} must not contain duplicate events.
+     */
+    public void setAll(List<Event> events) {
+        requireAllNonNull(events);
+        List<Event> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(EVENT_ORDER);
+        root = build(sortedEvents, 0, sortedEvents.size() - 1);
+        size = sortedEvents.size();
+    }
+
+    /**
+     * Returns the events which overlap the range from {@code from} to {@code to}, both inclusive.
+     * An event overlaps the range if it starts no later than {@code to} and ends no earlier than {@code from},
+     * where an end without a time is the end of that day.
+     * The events are returned in order of start, then end.
+     */
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> result = new ArrayList<>();
+        collectOverlapping(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * Returns the events which start within the range from {@code from} to {@code to}, both inclusive.
+     * The events are returned in order of start, then end.
+     */
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> result = new ArrayList<>();
+        collectStartingWithin(root, from, to, result);
+        return result;
+    }
+
+    private void collectOverlapping(Node node, DateTime from, DateTime to, List<Event> result) {
+        // no event in this subtree ends late enough to reach the range
+        if (node == null || node.maxEnd < from.getEpochMinutes()) {
+            return;
+        }
+
+        collectOverlapping(node.left, from, to, result);
+        DateTime start = node.event.getStartDateTime();
+        if (start.compareTo(to) > 0) {
+            // this event and every event on its right start after the range
+            return;
+        }
+        if (node.end >= from.getEpochMinutes()) {
+            result.add(node.event);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private void collectStartingWithin(Node node, DateTime from, DateTime to, List<Event> result) {
+        if (node == null) {
+            return;
+        }
+
+        DateTime start = node.event.getStartDateTime();
+        boolean isAfterFrom = start.compareTo(from) >= 0;
+        boolean isBeforeTo = start.compareTo(to) <= 0;
+        if (isAfterFrom) {
+            collectStartingWithin(node.left, from, to, result);
+        }
+        if (isAfterFrom && isBeforeTo) {
+            result.add(node.event);
+        }
+        if (isBeforeTo) {
+            collectStartingWithin(node.right, from, to, result);
+        }
+    }
+
+    private Node insert(Node node, Event event) {
+        if (node == null) {
+            return new Node(event, endEpochMinutes.applyAsLong(event));
+        }
+
+        if (EVENT_ORDER.compare(event, node.event) < 0) {
+            node.left = insert(node.left, event);
+        } else {
+            node.right = insert(node.right, event);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = EVENT_ORDER.compare(event, node.event);
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, event);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.event = successor.event;
+            node.end = successor.end;
+            node.right = deleteMin(node.right);
+        }
+        return rebalance(node);
+    }
+
+    private Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node build(List<Event> sortedEvents, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+
+        int mid = (low + high) >>> 1;
+        Event event = sortedEvents.get(mid);
+        Node node = new Node(event, endEpochMinutes.applyAsLong(event));
+        node.left = build(sortedEvents, low, mid - 1);
+        node.right = build(sortedEvents, mid + 1, high);
+        node.update();
+        return node;
+    }
+
+    private Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, augmented with its height and the latest end in its subtree, in epoch minutes, with an end
+     * without a time taken as the end of that day.
+     */
+    private static class Node {
+        private Event event;
+        private long end;
+        private Node left;
+        private Node right;
+        private int height;
+        private long maxEnd;
+
+        Node(Event event, long end) {
+            this.event = event;
+            this.end = end;
+            update();
+        }
+
+        /**
+         * Recomputes the height and latest end of this node from its children.
+         */
+        void update() {
+            height = 1 + Math.max(EventIntervalTree.height(left), EventIntervalTree.height(right));
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Event}'s tags match the given groups of tags.
+ * The tags within a group are combined with OR, and the groups are combined with AND.
+ */
+public class EventTagsMatchPredicate implements Predicate<Event> {
+    private final List<Set<Tag>> tagGroups;
+
+    public EventTagsMatchPredicate(List<Set<Tag>> tagGroups) {
+        this.tagGroups = tagGroups;
+    }
+
+    public List<Set<Tag>> getTagGroups() {
+        return Collections.unmodifiableList(tagGroups);
+    }
+
+    @Override
+    public boolean test(Event event) {
+        Set<Tag> tags = event.getTags();
+        return !tagGroups.isEmpty()
+                && tagGroups.stream().allMatch(tagGroup -> tagGroup.stream().anyMatch(tags::contains));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EventTagsMatchPredicate // instanceof handles nulls
+                && tagGroups.equals(((EventTagsMatchPredicate) other).tagGroups)); // state check
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.event;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} which matches a repeating {@code Event} by its occurrences, and so can give the occurrence
+ * which a matching event is shown for.
+ */
+public interface OccurrencePredicate extends Predicate<Event> {
+
+    /**
+     * Returns the first occurrence of {@code event} which matches, if any.
+     * An event which does not repeat is its own only occurrence.
+     */
+    Optional<Event> getFirstMatchingOccurrence(Event event);
+}
@@ -0,0 +1,215 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Represents how an Event repeats in the NUScheduler.
+ * An event repeats every week or every other week, either until a given date or for a given number of times, and
+ * skips the occurrences starting on any of its exception dates. Only the rule is kept, so a repeating event takes
+ * the same space however many times it repeats, and its occurrences are worked out when they are needed.
+ * Guarantees: immutable; the number of times is valid as declared in {@link #isValidCount(int)}.
+ */
+public class Recurrence {
+
+    /**
+     * How often an event repeats.
+     */
+    public enum Frequency {
+        WEEKLY(1), BIWEEKLY(2);
+
+        private final int weeks;
+
+        Frequency(int weeks) {
+            this.weeks = weeks;
+        }
+
+        /**
+         * Returns true if a given string is the name of a frequency, ignoring case.
+         */
+        public static boolean isValidFrequency(String test) {
+            requireNonNull(test);
+            for (Frequency frequency : values()) {
+                if (frequency.name().equalsIgnoreCase(test)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the frequency with the given name, ignoring case.
+         * The name must be valid as declared in {@link #isValidFrequency(String)}.
+         */
+        public static Frequency of(String name) {
+            checkArgument(isValidFrequency(name), MESSAGE_FREQUENCY_CONSTRAINTS);
+            return valueOf(name.toUpperCase());
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    public static final String MESSAGE_FREQUENCY_CONSTRAINTS = "Frequency should be either weekly or biweekly";
+    public static final int MAX_OCCURRENCES = 520;
+    public static final String MESSAGE_COUNT_CONSTRAINTS =
+            "Number of times should be a positive integer of at most " + MAX_OCCURRENCES;
+    public static final String MESSAGE_END_CONSTRAINTS =
+            "A repeating event should repeat either until a date or for a number of times, but not both";
+    public static final String MESSAGE_UNTIL_BEFORE_START =
+            "A repeating event should not repeat until a date before its start date";
+    public static final String MESSAGE_NOT_REPEATING =
+            "An until date, number of times or exception dates can only be given for a repeating event";
+
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(DateTime.RECOMMENDED_DATE_FORMAT);
+
+    private final Frequency frequency;
+    // Integer.MAX_VALUE if the event repeats until a date
+    private final int count;
+    // LocalDate.MAX if the event repeats for a number of times
+    private final LocalDate until;
+    private final Set<LocalDate> exceptions;
+
+    /**
+     * Constructs a {@code Recurrence} which repeats at {@code frequency} until {@code until}, inclusive, except on
+     * the dates in {@code exceptions}.
+     */
+    public Recurrence(Frequency frequency, LocalDate until, Set<LocalDate> exceptions) {
+        this(frequency, Integer.MAX_VALUE, until, exceptions);
+    }
+
+    /**
+     * Constructs a {@code Recurrence} which repeats at {@code frequency} for {@code count} times, counting the
+     * occurrences on the dates in {@code exceptions}, which are skipped.
+     * {@code count} must be valid as declared in {@link #isValidCount(int)}.
+     */
+    public Recurrence(Frequency frequency, int count, Set<LocalDate> exceptions) {
+        this(frequency, count, LocalDate.MAX, exceptions);
+        checkArgument(isValidCount(count), MESSAGE_COUNT_CONSTRAINTS);
+    }
+
+    private Recurrence(Frequency frequency, int count, LocalDate until, Set<LocalDate> exceptions) {
+        requireAllNonNull(frequency, until, exceptions);
+        this.frequency = frequency;
+        this.count = count;
+        this.until = until;
+        this.exceptions = Collections.unmodifiableSet(new TreeSet<>(exceptions));
+    }
+
+    /**
+     * Returns true if a given number is a valid number of times to repeat.
+     */
+    public static boolean isValidCount(int test) {
+        return test > 0 && test <= MAX_OCCURRENCES;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Returns the number of days from the start of one occurrence to the start of the next.
+     */
+    public int getPeriodDays() {
+        return frequency.weeks * 7;
+    }
+
+    /**
+     * Returns true if the event repeats until a date, rather than for a number of times.
+     */
+    public boolean hasUntilDate() {
+        return count == Integer.MAX_VALUE;
+    }
+
+    public LocalDate getUntilDate() {
+        return until;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an immutable, sorted set of the dates on which occurrences are skipped, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns the number of the last occurrence of an event first starting on {@code firstDate}, counting from 0 and
+     * including skipped occurrences, or -1 if the event repeats until a date before {@code firstDate}.
+     * An event repeats at most {@value #MAX_OCCURRENCES} times.
+     */
+    public long getLastOccurrenceNumber(LocalDate firstDate) {
+        requireNonNull(firstDate);
+        long lastNumber = Math.min(count, MAX_OCCURRENCES) - 1;
+        if (hasUntilDate()) {
+            long daysUntil = ChronoUnit.DAYS.between(firstDate, until);
+            lastNumber = Math.min(lastNumber, Math.floorDiv(daysUntil, getPeriodDays()));
+        }
+        return lastNumber;
+    }
+
+    /**
+     * Returns true if the occurrence starting on {@code date} is skipped.
+     */
+    public boolean isException(LocalDate date) {
+        return exceptions.contains(date);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return frequency == otherRecurrence.frequency
+                && count == otherRecurrence.count
+                && until.equals(otherRecurrence.until)
+                && exceptions.equals(otherRecurrence.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, count, until, exceptions);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(frequency.toString());
+        if (hasUntilDate()) {
+            builder.append(" until ").append(until.format(DISPLAY_DATE_FORMATTER));
+        } else {
+            builder.append(", ").append(count).append(count == 1 ? " time" : " times");
+        }
+
+        if (!exceptions.isEmpty()) {
+            builder.append(", except ");
+            String separator = "";
+            for (LocalDate exception : exceptions) {
+                builder.append(separator).append(exception.format(DISPLAY_DATE_FORMATTER));
+                separator = ", ";
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -1,24 +1,60 @@
 package seedu.address.model.event;
 
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Event}'s {@code startDateTime} matches any of the dates given.
  */
-public class StartDateTimeContainsDatePredicate implements Predicate<Event> {
+public class StartDateTimeContainsDatePredicate implements OccurrencePredicate {
     private final List<DateTime> dateTimes;
+    private final Set<LocalDate> dates;
 
+    /**
+     * Constructor for StartDateTimeContainsDatePredicate
+     */
     public StartDateTimeContainsDatePredicate(List<DateTime> dateTimes) {
         this.dateTimes = dateTimes;
+        this.dates = dateTimes.stream().map(DateTime::getDate).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    /**
+     * Returns the distinct dates to be matched, in the order given.
+     */
+    public Set<LocalDate> getDates() {
+        return Collections.unmodifiableSet(dates);
+    }
+
+    /**
+     * Returns true when event starts on any of the dates.
+     * A repeating event matches if any of its occurrences does.
+     */
     @Override
     public boolean test(Event event) {
-        LocalDate eventStartDate = event.getStartDateTime().getDate();
-        return dateTimes.stream()
-                .anyMatch(dateTime -> eventStartDate.isEqual(dateTime.date));
+        if (event.isRecurring()) {
+            return dates.stream().anyMatch(date -> event.hasOccurrenceStartingBetween(date, date));
+        }
+        return dates.contains(event.getStartDateTime().getDate());
+    }
+
+    /**
+     * Returns the earliest occurrence of the event which starts on any of the dates, if any.
+     */
+    @Override
+    public Optional<Event> getFirstMatchingOccurrence(Event event) {
+        if (event.isRecurring()) {
+            return dates.stream()
+                    .map(date -> event.getFirstOccurrenceStartingBetween(date, date))
+                    .flatMap(Optional::stream)
+                    .min(Comparator.comparing(Event::getStartDateTime));
+        }
+        return test(event) ? Optional.of(event) : Optional.empty();
     }
 
     @Override
@@ -1,12 +1,12 @@
 package seedu.address.model.event;
 
 import java.time.LocalDate;
-import java.util.function.Predicate;
+import java.util.Optional;
 
 /**
  * Tests that a {@code Event}'s {@code startDateTime} is within a given time frame.
  */
-public class StartDateWithinTimeFramePredicate implements Predicate<Event> {
+public class StartDateWithinTimeFramePredicate implements OccurrencePredicate {
     private final LocalDate startDate;
     private final LocalDate endDate;
 
@@ -20,14 +20,29 @@ public class StartDateWithinTimeFramePredicate implements Predicate<Event> {
 
     /**
      * Returns true when event starts after startDate and before or on endDate.
+     * A repeating event matches if any of its occurrences does.
      */
     @Override
     public boolean test(Event event) {
+        if (event.isRecurring()) {
+            return event.hasOccurrenceStartingBetween(startDate.plusDays(1), endDate);
+        }
         LocalDate eventStartDate = event.getStartDateTime().getDate();
         return startDate.isBefore(eventStartDate)
                 && (endDate.isAfter(eventStartDate) || endDate.isEqual(eventStartDate));
     }
 
+    /**
+     * Returns the first occurrence of the event which starts after startDate and before or on endDate, if any.
+     */
+    @Override
+    public Optional<Event> getFirstMatchingOccurrence(Event event) {
+        if (event.isRecurring()) {
+            return event.getFirstOccurrenceStartingBetween(startDate.plusDays(1), endDate);
+        }
+        return test(event) ? Optional.of(event) : Optional.empty();
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
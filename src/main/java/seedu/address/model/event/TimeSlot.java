@@ -0,0 +1,59 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Represents a slot of time from a start to an end, such as a slot in which no attendee has an event.
+ * Guarantees: immutable; the start and end have times, and the start is before the end.
+ */
+public class TimeSlot {
+
+    public static final String MESSAGE_CONSTRAINTS = "A time slot should start with a time before it ends with a time.";
+
+    private final DateTime start;
+    private final DateTime end;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TimeSlot(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.hasTime() && end.hasTime() && start.compareTo(end) < 0, MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    public DateTime getStart() {
+        return start;
+    }
+
+    public DateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the number of minutes from the start to the end of the slot.
+     */
+    public long getDurationMinutes() {
+        return end.getEpochMinutes() - start.getEpochMinutes();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeSlot // instanceof handles nulls
+                && start.equals(((TimeSlot) other).start) // state check
+                && end.equals(((TimeSlot) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.hashCode() + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return start + " - " + end + " (" + DateTime.getDifferenceString(start, end) + ")";
+    }
+}
@@ -21,6 +21,9 @@ public class Title implements Comparable<Title> {
 
     public final String title;
 
+    // Titles are compared ignoring case, so the lowercased title is kept for sorting
+    private final String sortKey;
+
     /**
      * Constructs a {@code Title}.
      *
@@ -30,6 +33,7 @@ public class Title implements Comparable<Title> {
         requireNonNull(title);
         checkArgument(isValidTitle(title), MESSAGE_CONSTRAINTS);
         this.title = title;
+        this.sortKey = title.toLowerCase();
     }
 
     /**
@@ -58,7 +62,7 @@ public class Title implements Comparable<Title> {
 
     @Override
     public int compareTo(Title other) {
-        return this.title.toLowerCase().compareTo(other.title.toLowerCase());
+        return this.sortKey.compareTo(other.sortKey);
     }
 
 }
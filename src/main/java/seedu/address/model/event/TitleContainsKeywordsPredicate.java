@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -15,6 +16,10 @@ public class TitleContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Event event) {
         return keywords.stream()
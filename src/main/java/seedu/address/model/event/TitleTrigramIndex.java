@@ -0,0 +1,132 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trigram index over the lowercased titles of events.
+ * Every substring of three characters of a lowercased title is mapped to the events whose title contains it. The
+ * events whose title contains a keyword of at least three characters must contain every trigram of the keyword,
+ * so they are found by intersecting the posting lists of those trigrams, starting from the shortest, and then
+ * verifying the few remaining candidates. Shorter keywords have no trigrams, so every title is checked instead.
+ *
+ * Events are tracked by reference, so the events added and removed must be the ones stored by the caller.
+ */
+class TitleTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Event>> postings = new HashMap<>();
+    private final Map<Event, String> lowercasedTitles = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code toAdd} to the index.
+     */
+    public void add(Event toAdd) {
+        requireNonNull(toAdd);
+        String lowercasedTitle = toAdd.getTitle().title.toLowerCase();
+        lowercasedTitles.put(toAdd, lowercasedTitle);
+        for (String trigram : getTrigrams(lowercasedTitle)) {
+            postings.computeIfAbsent(trigram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(toAdd);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index.
+     */
+    public void remove(Event toRemove) {
+        requireNonNull(toRemove);
+        String lowercasedTitle = lowercasedTitles.remove(toRemove);
+        if (lowercasedTitle == null) {
+            return;
+        }
+        for (String trigram : getTrigrams(lowercasedTitle)) {
+            Set<Event> events = postings.get(trigram);
+            events.remove(toRemove);
+            if (events.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setAll(Collection<Event> events) {
+        requireAllNonNull(events);
+        postings.clear();
+        lowercasedTitles.clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the events whose title contains any of {@code keywords}, ignoring case.
+     * Gives the same events as testing each event with {@link TitleContainsKeywordsPredicate}.
+     * Each keyword cannot be empty and must be a single word.
+     */
+    public List<Event> getEventsWithTitleContaining(List<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Event> matchingEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+            checkArgument(preppedKeyword.split("\\s+").length == 1, "Keyword should be a single word");
+
+            for (Event candidate : getCandidates(preppedKeyword)) {
+                if (lowercasedTitles.get(candidate).contains(preppedKeyword)) {
+                    matchingEvents.add(candidate);
+                }
+            }
+        }
+        return new ArrayList<>(matchingEvents);
+    }
+
+    /**
+     * Returns the events whose title may contain {@code preppedKeyword}.
+     */
+    private Collection<Event> getCandidates(String preppedKeyword) {
+        if (preppedKeyword.length() < GRAM_LENGTH) {
+            return lowercasedTitles.keySet();
+        }
+
+        List<Set<Event>> postingLists = new ArrayList<>();
+        for (String trigram : getTrigrams(preppedKeyword)) {
+            Set<Event> events = postings.get(trigram);
+            if (events == null) {
+                return Collections.emptyList();
+            }
+            postingLists.add(events);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        List<Event> candidates = new ArrayList<>(postingLists.get(0));
+        for (Set<Event> events : postingLists.subList(1, postingLists.size())) {
+            candidates.removeIf(candidate -> !events.contains(candidate));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct substrings of three characters of {@code text}.
+     */
+    private static Set<String> getTrigrams(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
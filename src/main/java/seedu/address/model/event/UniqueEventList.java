@@ -3,16 +3,27 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
+import seedu.address.model.SortedTreeList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -21,23 +32,63 @@ import seedu.address.model.profile.Profile;
  * unique in terms of identity in the UniqueEventList. However, removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Each event is indexed by its identity (title, start and end), so that lookups, updates and removals do not need
+ * to scan the whole list. The events are kept in sorted order in a {@code SortedTreeList}, so that adding, replacing
+ * or removing an event, or finding the event at an index, takes O(log n) time, and only reports the change to the
+ * affected index. Two lists are equal if they hold equal events in the same order.
+ *
+ * The events are also indexed by their start and end in an {@code EventIntervalTree}, so that the events
+ * overlapping or starting within a time range, or starting on a given day, can be found without scanning the whole
+ * list. Their titles are indexed in a {@code TitleTrigramIndex}, so that title searches only need to check a few
+ * candidate events, and their tags in a {@code TagIndex}. Events are also mapped from their id, so that an event can
+ * be looked up by id.
+ *
+ * Repeating events are kept out of that interval tree, as their occurrences are not stored. They are kept in an
+ * {@code EventIntervalTree} of their own instead, over the span from their first start to the end of their last
+ * occurrence, so only the repeating events spanning the range or day asked for are checked for an occurrence in it.
+ *
+ * Two events also clash if they share an occurrence, as a repeating event does with an event on one of the days it
+ * repeats on. Each occurrence of an event being added or edited is looked up by identity, and the repeating events
+ * with its title are checked occurrence by occurrence, so a clash is found without checking every event.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Event> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
-    private final SortedList<Event> unmodifiableSortedList = internalUnmodifiableList.sorted(Event::compareTo);
+    private static final LocalTime LAST_MINUTE_OF_DAY = LocalTime.of(23, 59);
+
+    private final SortedTreeList<Event> internalList = new SortedTreeList<>(Event::compareTo);
+
+    private final Map<IdentityKey, Event> eventsByIdentity = new HashMap<>();
+    private final Map<Long, Event> eventsById = new HashMap<>();
+    private final EventIntervalTree intervalTree = new EventIntervalTree();
+    private final EventIntervalTree recurringEventSpans = new EventIntervalTree(Event::getLastEndEpochMinutes);
+    private final Map<Title, List<Event>> recurringEventsByTitle = new HashMap<>();
+    private final TitleTrigramIndex titleIndex = new TitleTrigramIndex();
+    private final TagIndex<Event> tagIndex = new TagIndex<>();
 
     /**
-     * Returns true if the list contains an equivalent event as the given argument.
+     * Returns true if the list contains an equivalent event as the given argument, or an event which shares an
+     * occurrence with it.
+     *
+     * @see Event#sharesOccurrenceWith(Event)
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return hasEventSharingOccurrence(toCheck, null);
+    }
+
+    /**
+     * Returns true if the list contains an event other than {@code excluded} which is equivalent to, or shares an
+     * occurrence with, {@code toCheck}, such as when {@code toCheck} is {@code excluded} after an edit.
+     *
+     * @see Event#sharesOccurrenceWith(Event)
+     */
+    public boolean containsOtherThan(Event toCheck, Event excluded) {
+        requireAllNonNull(toCheck, excluded);
+        return hasEventSharingOccurrence(toCheck, excluded);
     }
 
     /**
@@ -49,27 +100,32 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        eventsByIdentity.put(new IdentityKey(toAdd), toAdd);
+        eventsById.put(toAdd.getId(), toAdd);
+        addToTimeIndexes(toAdd);
+        titleIndex.add(toAdd);
+        tagIndex.add(toAdd, toAdd.getTags());
+        internalList.insert(toAdd);
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
-     * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
+     * {@code editedEvent} must not be the same as, or share an occurrence with, another existing event in the list.
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Event storedTarget = findEqual(target);
+        if (storedTarget == null) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
+        if (hasEventSharingOccurrence(editedEvent, storedTarget)) {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        replace(storedTarget, editedEvent);
     }
 
     /**
@@ -79,9 +135,17 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Event storedEvent = findEqual(toRemove);
+        if (storedEvent == null) {
             throw new EventNotFoundException();
         }
+
+        eventsByIdentity.remove(new IdentityKey(toRemove));
+        eventsById.remove(storedEvent.getId(), storedEvent);
+        removeFromTimeIndexes(toRemove);
+        titleIndex.remove(storedEvent);
+        tagIndex.remove(toRemove, toRemove.getTags());
+        internalList.delete(storedEvent);
         toRemove.removeFromAttendees();
     }
 
@@ -92,12 +156,12 @@ public class UniqueEventList implements Iterable<Event> {
     public void addEventAttendees(Event event, List<Profile> profilesToAdd) {
         requireAllNonNull(event, profilesToAdd);
 
-        int index = internalList.indexOf(event);
-        if (index == -1) {
+        Event storedEvent = findEqual(event);
+        if (storedEvent == null) {
             throw new EventNotFoundException();
         }
 
-        internalList.get(index).addAttendees(profilesToAdd);
+        storedEvent.addAttendees(profilesToAdd);
     }
 
     /**
@@ -107,12 +171,12 @@ public class UniqueEventList implements Iterable<Event> {
     public void deleteEventAttendees(Event event, List<Profile> profilesToDelete) {
         requireAllNonNull(event, profilesToDelete);
 
-        int index = internalList.indexOf(event);
-        if (index == -1) {
+        Event storedEvent = findEqual(event);
+        if (storedEvent == null) {
             throw new EventNotFoundException();
         }
 
-        internalList.get(index).removeAttendees(profilesToDelete);
+        storedEvent.removeAttendees(profilesToDelete);
     }
 
     /**
@@ -122,35 +186,35 @@ public class UniqueEventList implements Iterable<Event> {
     public void addEventToAttendees(Event event, List<Profile> profilesToAddEventTo) {
         requireAllNonNull(event, profilesToAddEventTo);
 
-        int index = internalList.indexOf(event);
-        if (index == -1) {
+        Event storedEvent = findEqual(event);
+        if (storedEvent == null) {
             throw new EventNotFoundException();
         }
 
-        internalList.get(index).addToAllAttendees(profilesToAddEventTo);
+        storedEvent.addToAllAttendees(profilesToAddEventTo);
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
-     * The event identity of {@code editedEvent} must not be the same as another existing event in the list.
+     * {@code editedEvent} must not be the same as, or share an occurrence with, another existing event in the list.
      * Ensures the change is updated for all event attendees.
      */
     public void setEventForAttendees(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Event storedTarget = findEqual(target);
+        if (storedTarget == null) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
+        if (hasEventSharingOccurrence(editedEvent, storedTarget)) {
             throw new DuplicateEventException();
         }
 
         target.removeFromAttendees();
         editedEvent.addToAllAttendees();
-        internalList.set(index, editedEvent);
+        replace(storedTarget, editedEvent);
     }
 
     /**
@@ -161,16 +225,19 @@ public class UniqueEventList implements Iterable<Event> {
     public void removeEventFromAttendees(Event target, List<Profile> profilesToEdit) {
         requireAllNonNull(target, profilesToEdit);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Event storedTarget = findEqual(target);
+        if (storedTarget == null) {
             throw new EventNotFoundException();
         }
 
-        internalList.get(index).removeFromAttendees(profilesToEdit);
+        storedTarget.removeFromAttendees(profilesToEdit);
     }
 
     /**
-     * Replaces each event in {@code eventsToRefresh} with another copy in the list.
+     * Notifies the listeners of the list that each event in {@code eventsToRefresh} has changed, such as when the
+     * details of its attendees change.
+     * Each event is reported as replaced by itself, which is a change of just its position, so only the
+     * affected events are shown again. No copies of the events are made, so the indexes need no updating.
      * Events in {@code eventsToRefresh} must exist in the list.
      */
     public void refreshEvents(EventsAttending eventsToRefresh) {
@@ -178,36 +245,111 @@ public class UniqueEventList implements Iterable<Event> {
         List<Event> eventList = eventsToRefresh.getEventsList();
 
         for (Event e : eventList) {
-            Event eventCopy = new Event(e.getTitle(), e.getStartDateTime(), e.getEndDateTime(),
-                    e.getTags(), e.getAttendees());
-            setEvent(e, eventCopy);
+            Event storedEvent = findEqual(e);
+            if (storedEvent == null) {
+                throw new EventNotFoundException();
+            }
+            internalList.refresh(storedEvent);
         }
-
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.reset(replacement.internalList);
+        eventsByIdentity.clear();
+        eventsByIdentity.putAll(replacement.eventsByIdentity);
+        eventsById.clear();
+        eventsById.putAll(replacement.eventsById);
+        intervalTree.setAll(getNonRecurringEvents(replacement.internalList));
+        rebuildRecurringEventIndexes();
+        titleIndex.setAll(internalList);
+        rebuildTagIndex();
     }
 
     /**
      * Replaces the contents of this list with {@code events}.
-     * {@code events} must not contain duplicate events.
+     * {@code events} must not contain duplicate events, or events which share an occurrence.
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        List<Map.Entry<Event, Event>> duplicateEvents = findDuplicateEvents(events);
+        if (!duplicateEvents.isEmpty()) {
+            throw new DuplicateEventException(duplicateEvents);
+        }
+
+        internalList.reset(events);
+        eventsByIdentity.clear();
+        eventsById.clear();
+        for (Event event : internalList) {
+            eventsByIdentity.put(new IdentityKey(event), event);
+            eventsById.put(event.getId(), event);
         }
+        intervalTree.setAll(getNonRecurringEvents(events));
+        rebuildRecurringEventIndexes();
+        titleIndex.setAll(internalList);
+        rebuildTagIndex();
+    }
 
-        internalList.setAll(events);
+    /**
+     * Returns the events which overlap the range from {@code from} to {@code to}, both inclusive,
+     * in order of start, then end.
+     */
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        return addRecurringEvents(intervalTree.getEventsOverlapping(from, to), from, to,
+                event -> !event.getOccurrencesOverlapping(from, to).isEmpty());
+    }
+
+    /**
+     * Returns the events which start within the range from {@code from} to {@code to}, both inclusive,
+     * in order of start, then end.
+     */
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        return addRecurringEvents(intervalTree.getEventsStartingWithin(from, to), from, to,
+                event -> !event.getOccurrencesStartingWithin(from, to).isEmpty());
+    }
+
+    /**
+     * Returns the event with the given {@code id}, if it is in the list.
+     */
+    public Optional<Event> getEventById(long id) {
+        return Optional.ofNullable(eventsById.get(id));
+    }
+
+    /**
+     * Returns the events which start on {@code date}, in order of start, then end.
+     */
+    public List<Event> getEventsStartingOn(LocalDate date) {
+        requireNonNull(date);
+        // a date without a time is the earliest DateTime on that date
+        DateTime from = new DateTime(date, Optional.empty());
+        DateTime to = new DateTime(date, Optional.of(LAST_MINUTE_OF_DAY));
+        return addRecurringEvents(intervalTree.getEventsStartingWithin(from, to), from, to,
+                event -> event.hasOccurrenceStartingBetween(date, date));
+    }
+
+    /**
+     * Returns the events whose title contains any of {@code keywords}, ignoring case, in no particular order.
+     * Gives the same events as testing each event with {@link TitleContainsKeywordsPredicate}.
+     */
+    public List<Event> getEventsWithTitleContaining(List<String> keywords) {
+        return titleIndex.getEventsWithTitleContaining(keywords);
+    }
+
+    /**
+     * Returns the events which, for every group in {@code tagGroups}, have at least one tag of that group.
+     */
+    public List<Event> getEventsWithTags(List<Set<Tag>> tagGroups) {
+        return tagIndex.getMatching(tagGroups);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Event> asUnmodifiableObservableList() {
-        return unmodifiableSortedList;
+        return internalList;
     }
 
     @Override
@@ -228,17 +370,190 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the event in the list equal to {@code event}, or null if there is none.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
+    private Event findEqual(Event event) {
+        Event storedEvent = eventsByIdentity.get(new IdentityKey(event));
+        if (storedEvent == null || !storedEvent.equals(event)) {
+            return null;
+        }
+        return storedEvent;
+    }
+
+    /**
+     * Replaces {@code storedTarget}, the event in the list equal to the event being edited, with {@code editedEvent}.
+     */
+    private void replace(Event storedTarget, Event editedEvent) {
+        eventsByIdentity.remove(new IdentityKey(storedTarget));
+        eventsByIdentity.put(new IdentityKey(editedEvent), editedEvent);
+        eventsById.remove(storedTarget.getId(), storedTarget);
+        eventsById.put(editedEvent.getId(), editedEvent);
+        removeFromTimeIndexes(storedTarget);
+        addToTimeIndexes(editedEvent);
+        titleIndex.remove(storedTarget);
+        titleIndex.add(editedEvent);
+        tagIndex.remove(storedTarget, storedTarget.getTags());
+        tagIndex.add(editedEvent, editedEvent.getTags());
+        internalList.replace(storedTarget, editedEvent);
+    }
+
+    /**
+     * Returns true if an event in the list, other than the one with the same identity as {@code excluded} if it is
+     * not null, has the same identity as {@code toCheck} or one of its occurrences, or is a repeating event which
+     * shares an occurrence with {@code toCheck}.
+     */
+    private boolean hasEventSharingOccurrence(Event toCheck, Event excluded) {
+        List<Event> identities = new ArrayList<>(toCheck.getOccurrences());
+        identities.add(toCheck);
+        for (Event identity : identities) {
+            Event storedEvent = eventsByIdentity.get(new IdentityKey(identity));
+            if (storedEvent != null && !isSameEventIfAny(storedEvent, excluded)) {
+                return true;
+            }
+        }
+        return recurringEventsByTitle.getOrDefault(toCheck.getTitle(), List.of()).stream()
+                .anyMatch(event -> !isSameEventIfAny(event, excluded) && event.sharesOccurrenceWith(toCheck));
+    }
+
+    private static boolean isSameEventIfAny(Event event, Event other) {
+        return other != null && event.isSameEvent(other);
+    }
+
+    /**
+     * Adds each repeating event which spans the range from {@code from} to {@code to} and passes
+     * {@code hasOccurrence} to {@code events}, which is in sorted order, keeping it sorted.
+     */
+    private List<Event> addRecurringEvents(List<Event> events, DateTime from, DateTime to,
+            Predicate<Event> hasOccurrence) {
+        requireAllNonNull(from, to);
+        int eventsBefore = events.size();
+        recurringEventSpans.getEventsOverlapping(from, to).stream().filter(hasOccurrence).forEach(events::add);
+        if (events.size() != eventsBefore) {
+            events.sort(Event::compareTo);
+        }
+        return events;
+    }
+
+    private void addToTimeIndexes(Event event) {
+        if (event.isRecurring()) {
+            recurringEventSpans.add(event);
+            recurringEventsByTitle.computeIfAbsent(event.getTitle(), unused -> new ArrayList<>()).add(event);
+            return;
+        }
+        intervalTree.add(event);
+    }
+
+    private void removeFromTimeIndexes(Event event) {
+        if (event.isRecurring()) {
+            recurringEventSpans.remove(event);
+            List<Event> sameTitle = recurringEventsByTitle.get(event.getTitle());
+            sameTitle.removeIf(event::isSameEvent);
+            if (sameTitle.isEmpty()) {
+                recurringEventsByTitle.remove(event.getTitle());
+            }
+            return;
+        }
+        intervalTree.remove(event);
+    }
+
+    private static List<Event> getNonRecurringEvents(List<Event> events) {
+        return events.stream().filter(event -> !event.isRecurring()).collect(Collectors.toList());
+    }
+
+    private void rebuildRecurringEventIndexes() {
+        List<Event> recurringEvents = internalList.stream().filter(Event::isRecurring).collect(Collectors.toList());
+        recurringEventSpans.setAll(recurringEvents);
+        recurringEventsByTitle.clear();
+        recurringEvents.forEach(event ->
+                recurringEventsByTitle.computeIfAbsent(event.getTitle(), unused -> new ArrayList<>()).add(event));
+    }
+
+    private void rebuildTagIndex() {
+        tagIndex.clear();
+        internalList.forEach(event -> tagIndex.add(event, event.getTags()));
+    }
+
+    /**
+     * Returns every pair of duplicate events in {@code events}, with the earlier event in {@code events} as the key.
+     * An event with the same identity as earlier events is paired with every one of them, so that an identity shared
+     * by several events reports every pair among them. Events with different identities are also paired if they
+     * share an occurrence, as found by looking up the later occurrences of each repeating event among the events
+     * which do not repeat, and by checking the repeating events with the same title against each other.
+     * This takes time in the number of occurrences, plus the number of pairs of repeating events with the same
+     * title, plus the number of pairs reported.
+     */
+    public static List<Map.Entry<Event, Event>> findDuplicateEvents(List<Event> events) {
+        requireAllNonNull(events);
+        Map<IdentityKey, List<Integer>> seenIdentities = new HashMap<>();
+        Map<Title, List<Integer>> recurringEventsByTitle = new HashMap<>();
+        List<Map.Entry<Event, Event>> duplicateEvents = new ArrayList<>();
+
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            List<Integer> sameIdentity =
+                    seenIdentities.computeIfAbsent(new IdentityKey(event), unused -> new ArrayList<>());
+            sameIdentity.forEach(earlier -> duplicateEvents.add(Map.entry(events.get(earlier), event)));
+            sameIdentity.add(i);
+            if (event.isRecurring()) {
+                recurringEventsByTitle.computeIfAbsent(event.getTitle(), unused -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (List<Integer> sameTitle : recurringEventsByTitle.values()) {
+            for (int i : sameTitle) {
+                Event event = events.get(i);
+                // the event's own identity is paired above
+                event.getOccurrences().stream().filter(occurrence -> !occurrence.isSameEvent(event))
+                        .map(occurrence -> seenIdentities.getOrDefault(new IdentityKey(occurrence), List.of()))
+                        .flatMap(List::stream)
+                        .filter(other -> !events.get(other).isRecurring())
+                        .forEach(other -> duplicateEvents.add(orderedPair(events, i, other)));
+            }
+            for (int first = 0; first < sameTitle.size(); first++) {
+                for (int second = first + 1; second < sameTitle.size(); second++) {
+                    Event earlierEvent = events.get(sameTitle.get(first));
+                    Event laterEvent = events.get(sameTitle.get(second));
+                    if (!earlierEvent.isSameEvent(laterEvent) && earlierEvent.sharesOccurrenceWith(laterEvent)) {
+                        duplicateEvents.add(Map.entry(earlierEvent, laterEvent));
+                    }
                 }
             }
         }
-        return true;
+        return duplicateEvents;
     }
-}
 
+    private static Map.Entry<Event, Event> orderedPair(List<Event> events, int index, int otherIndex) {
+        return index < otherIndex
+                ? Map.entry(events.get(index), events.get(otherIndex))
+                : Map.entry(events.get(otherIndex), events.get(index));
+    }
+
+    /**
+     * The identity fields of an {@code Event}, as compared by {@link Event#isSameEvent(Event)}.
+     */
+    private static class IdentityKey {
+        private final Title title;
+        private final DateTime startDateTime;
+        private final DateTime endDateTime;
+
+        IdentityKey(Event event) {
+            title = event.getTitle();
+            startDateTime = event.getStartDateTime();
+            endDateTime = event.getEndDateTime();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && title.equals(((IdentityKey) other).title)
+                    && startDateTime.equals(((IdentityKey) other).startDateTime)
+                    && endDateTime.equals(((IdentityKey) other).endDateTime));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, startDateTime, endDateTime);
+        }
+    }
+}
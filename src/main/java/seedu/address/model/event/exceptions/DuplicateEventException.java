@@ -1,11 +1,39 @@
 package seedu.address.model.event.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.Event;
+
 /**
  * Signals that the operation will result in duplicate Events (Events are duplicates if they have the same
  * identity).
  */
 public class DuplicateEventException extends RuntimeException {
+    private final List<Map.Entry<Event, Event>> duplicateEvents;
+
+    /**
+     * Constructs a {@code DuplicateEventException} without details of the duplicate events.
+     */
     public DuplicateEventException() {
         super("Operation would result in duplicate events");
+        duplicateEvents = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateEventException} listing each pair of duplicate events.
+     */
+    public DuplicateEventException(List<Map.Entry<Event, Event>> duplicateEvents) {
+        super("Operation would result in duplicate events: " + duplicateEvents.stream()
+                .map(pair -> pair.getKey().getTitle() + " (" + pair.getKey().getStartDateTime() + " - "
+                        + pair.getKey().getEndDateTime() + ")")
+                .collect(Collectors.joining("; ")));
+        this.duplicateEvents = Collections.unmodifiableList(duplicateEvents);
+    }
+
+    public List<Map.Entry<Event, Event>> getDuplicateEvents() {
+        return duplicateEvents;
     }
 }
@@ -38,6 +38,9 @@ public class Email {
 
     public final String value;
 
+    // Emails are equal ignoring case, so the lowercased email is kept for equality and hashing
+    private final String normalizedValue;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -47,6 +50,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        normalizedValue = email.toLowerCase();
     }
 
     /**
@@ -65,12 +69,12 @@ public class Email {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && value.toLowerCase().equals(((Email) other).value.toLowerCase())); // state check
+                && normalizedValue.equals(((Email) other).normalizedValue)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return normalizedValue.hashCode();
     }
 
 }
@@ -1,24 +1,47 @@
 package seedu.address.model.profile;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventIntervalTree;
 
 /**
  * Represents the events a Profile attends in NUScheduler.
+ * Events are kept in a map from their start {@code DateTime}, so events are added and removed in O(log n) time and
+ * the events starting within a range are found without checking every event. Events starting at the same time are
+ * kept sorted within their entry, so the events are always in the order given by {@link Event#compareTo(Event)}.
+ * The events which do not repeat are also kept in an {@code EventIntervalTree}, so the events overlapping a range are
+ * found in time in the number found, however long the other events are.
+ * Repeating events are kept in an {@code EventIntervalTree} of their own, over the span from their first start to the
+ * end of their last occurrence, and the range queries return the occurrences of each repeating event spanning the
+ * range which fall within it, in place of the repeating event itself.
+ * As in the NUScheduler, the events must be unique by {@link Event#isSameEvent(Event)}.
  */
 public class EventsAttending {
-    private final List<Event> eventsAttending;
+    private final NavigableMap<DateTime, List<Event>> eventsByStart;
+    private final EventIntervalTree nonRecurringEvents = new EventIntervalTree();
+    private final EventIntervalTree recurringEventSpans = new EventIntervalTree(Event::getLastEndEpochMinutes);
+    private int size;
+
+    /** The sorted events, or null if they have changed since they were last listed. */
+    private List<Event> cachedEventsList;
 
     /**
      * Constructs an empty {@code EventsToAttend}.
      */
     public EventsAttending() {
-        this.eventsAttending = new ArrayList<>();
+        this.eventsByStart = new TreeMap<>();
     }
 
     /**
@@ -28,17 +51,93 @@ public class EventsAttending {
      */
     public EventsAttending(List<Event> events) {
         requireNonNull(events);
-        this.eventsAttending = new ArrayList<>();
-        this.eventsAttending.addAll(events);
+        this.eventsByStart = new TreeMap<>();
+        events.forEach(this::addEvent);
     }
 
     /**
-     * Returns an immutable event set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable sorted event list, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
+     * The list is a snapshot, so it is not affected by events added or removed later.
      */
     public List<Event> getEventsList() {
-        Collections.sort(eventsAttending);
-        return Collections.unmodifiableList(eventsAttending);
+        if (cachedEventsList == null) {
+            List<Event> events = new ArrayList<>(size);
+            eventsByStart.values().forEach(events::addAll);
+            cachedEventsList = Collections.unmodifiableList(events);
+        }
+        return cachedEventsList;
+    }
+
+    /**
+     * Returns the events which start within the range from {@code from} to {@code to}, both inclusive, in sorted
+     * order.
+     */
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        List<Event> events = new ArrayList<>();
+        if (from.compareTo(to) > 0) {
+            return events;
+        }
+
+        for (List<Event> eventsWithSameStart : eventsByStart.subMap(from, true, to, true).values()) {
+            for (Event event : eventsWithSameStart) {
+                if (!event.isRecurring()) {
+                    events.add(event);
+                }
+            }
+        }
+        return addOccurrences(events, from, to, event -> event.getOccurrencesStartingWithin(from, to));
+    }
+
+    /**
+     * Returns the events which overlap the range from {@code from} to {@code to}, both inclusive, in sorted order.
+     * An event overlaps the range if it starts no later than {@code to} and ends no earlier than {@code from}, where
+     * an end without a time is the end of that day.
+     */
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        if (from.compareTo(to) > 0) {
+            return new ArrayList<>();
+        }
+        return addOccurrences(nonRecurringEvents.getEventsOverlapping(from, to), from, to,
+                event -> event.getOccurrencesOverlapping(from, to));
+    }
+
+    /**
+     * Adds the occurrences given by {@code occurrencesOf} for each repeating event spanning the range from
+     * {@code from} to {@code to} to {@code events}, which is in sorted order, keeping it sorted.
+     */
+    private List<Event> addOccurrences(List<Event> events, DateTime from, DateTime to,
+            Function<Event, List<Event>> occurrencesOf) {
+        int eventsBefore = events.size();
+        recurringEventSpans.getEventsOverlapping(from, to).forEach(event -> events.addAll(occurrencesOf.apply(event)));
+        if (events.size() != eventsBefore) {
+            events.sort(Event::compareTo);
+        }
+        return events;
+    }
+
+    /**
+     * Returns the events, other than {@code event} itself, which take up some time in common with {@code event},
+     * in sorted order.
+     * If {@code event} repeats, the events clashing with any of its occurrences are returned. Occurrences of
+     * repeating events are returned in place of the repeating events.
+     */
+    public List<Event> getEventsClashingWith(Event event) {
+        requireNonNull(event);
+        Set<Event> clashingEvents = new LinkedHashSet<>();
+        for (Event occurrence : event.getOccurrences()) {
+            for (Event other : getEventsOverlapping(occurrence.getStartDateTime(),
+                    DateTime.ofEpochMinutes(occurrence.getEndDateTime().getEndEpochMinutes()))) {
+                if (other.getId() != event.getId() && other.isOverlapping(occurrence)) {
+                    clashingEvents.add(other);
+                }
+            }
+        }
+        List<Event> sortedClashingEvents = new ArrayList<>(clashingEvents);
+        sortedClashingEvents.sort(Event::compareTo);
+        return sortedClashingEvents;
     }
 
     /**
@@ -46,9 +145,21 @@ public class EventsAttending {
      */
     public void addEvent(Event event) {
         requireNonNull(event);
-        if (!hasEvent(event)) {
-            this.eventsAttending.add(event);
+        List<Event> eventsWithSameStart = eventsByStart.computeIfAbsent(event.getStartDateTime(),
+                unused -> new ArrayList<>(1));
+        if (eventsWithSameStart.contains(event)) {
+            return;
+        }
+
+        int insertionPoint = Collections.binarySearch(eventsWithSameStart, event);
+        eventsWithSameStart.add(insertionPoint < 0 ? -insertionPoint - 1 : insertionPoint, event);
+        if (event.isRecurring()) {
+            recurringEventSpans.add(event);
+        } else {
+            nonRecurringEvents.add(event);
         }
+        size++;
+        cachedEventsList = null;
     }
 
     /**
@@ -56,9 +167,21 @@ public class EventsAttending {
      */
     public void removeEvent(Event event) {
         requireNonNull(event);
-        if (hasEvent(event)) {
-            this.eventsAttending.remove(event);
+        List<Event> eventsWithSameStart = eventsByStart.get(event.getStartDateTime());
+        if (eventsWithSameStart == null || !eventsWithSameStart.remove(event)) {
+            return;
+        }
+
+        if (eventsWithSameStart.isEmpty()) {
+            eventsByStart.remove(event.getStartDateTime());
+        }
+        if (event.isRecurring()) {
+            recurringEventSpans.remove(event);
+        } else {
+            nonRecurringEvents.remove(event);
         }
+        size--;
+        cachedEventsList = null;
     }
 
     /**
@@ -66,7 +189,8 @@ public class EventsAttending {
      */
     public boolean hasEvent(Event event) {
         requireNonNull(event);
-        return this.eventsAttending.contains(event);
+        List<Event> eventsWithSameStart = eventsByStart.get(event.getStartDateTime());
+        return eventsWithSameStart != null && eventsWithSameStart.contains(event);
     }
 
     /**
@@ -74,7 +198,7 @@ public class EventsAttending {
      */
     public void addAttendeeToEvents(Profile attendeeToAdd) {
         requireNonNull(attendeeToAdd);
-        eventsAttending.forEach(event -> event.addAttendee(attendeeToAdd));
+        getEventsList().forEach(event -> event.addAttendee(attendeeToAdd));
     }
 
     /**
@@ -82,11 +206,11 @@ public class EventsAttending {
      */
     public void removeAttendeeFromEvents(Profile attendeeToRemove) {
         requireNonNull(attendeeToRemove);
-        eventsAttending.forEach(event -> event.removeAttendee(attendeeToRemove));
+        getEventsList().forEach(event -> event.removeAttendee(attendeeToRemove));
     }
 
     public boolean isEmpty() {
-        return this.eventsAttending.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -100,12 +224,12 @@ public class EventsAttending {
         }
 
         EventsAttending other = (EventsAttending) o;
-        return this.eventsAttending.equals(other.eventsAttending);
+        return this.getEventsList().equals(other.getEventsList());
     }
 
     @Override
     public int hashCode() {
-        return eventsAttending.hashCode();
+        return getEventsList().hashCode();
     }
 
     @Override
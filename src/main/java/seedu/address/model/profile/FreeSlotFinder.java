@@ -0,0 +1,70 @@
+package seedu.address.model.profile;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
+
+/**
+ * Finds the slots of time in which none of a group of profiles attends an event.
+ * The events of each profile within the range are looked up from the profile's {@code EventsAttending}, so only the
+ * events of the given profiles near the range are visited, and the slots are found by sweeping over those events in
+ * order of start, in O(n log n) time for n such events.
+ */
+public class FreeSlotFinder {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range should be before its end.";
+    public static final String MESSAGE_INVALID_MINIMUM_DURATION = "The minimum duration should be positive.";
+
+    // to prevent instantiation
+    private FreeSlotFinder() {}
+
+    /**
+     * Returns the slots from {@code from} to {@code to} lasting at least {@code minimumMinutes} minutes, in which none
+     * of {@code profiles} attends an event, in order of start.
+     * A date without a time counts as midnight for {@code from} and for the start of an event, and as the end of the
+     * date for {@code to} and for the end of an event.
+     */
+    public static List<TimeSlot> findCommonFreeSlots(Collection<Profile> profiles, DateTime from, DateTime to,
+            long minimumMinutes) {
+        requireAllNonNull(profiles, from, to);
+        long rangeStart = from.getEpochMinutes();
+        long rangeEnd = to.getEndEpochMinutes();
+        checkArgument(rangeStart < rangeEnd, MESSAGE_INVALID_RANGE);
+        checkArgument(minimumMinutes > 0, MESSAGE_INVALID_MINIMUM_DURATION);
+
+        DateTime searchTo = DateTime.ofEpochMinutes(rangeEnd);
+        List<long[]> busyIntervals = new ArrayList<>();
+        for (Profile profile : profiles) {
+            for (Event event : profile.getEventsToAttend().getEventsOverlapping(from, searchTo)) {
+                long start = Math.max(event.getStartDateTime().getEpochMinutes(), rangeStart);
+                long end = Math.min(event.getEndDateTime().getEndEpochMinutes(), rangeEnd);
+                if (start < end) {
+                    busyIntervals.add(new long[] {start, end});
+                }
+            }
+        }
+        busyIntervals.sort((first, second) -> Long.compare(first[0], second[0]));
+
+        List<TimeSlot> freeSlots = new ArrayList<>();
+        long freeFrom = rangeStart;
+        for (long[] busyInterval : busyIntervals) {
+            addIfLongEnough(freeSlots, freeFrom, busyInterval[0], minimumMinutes);
+            freeFrom = Math.max(freeFrom, busyInterval[1]);
+        }
+        addIfLongEnough(freeSlots, freeFrom, rangeEnd, minimumMinutes);
+        return freeSlots;
+    }
+
+    private static void addIfLongEnough(List<TimeSlot> freeSlots, long start, long end, long minimumMinutes) {
+        if (end - start >= minimumMinutes) {
+            freeSlots.add(new TimeSlot(DateTime.ofEpochMinutes(start), DateTime.ofEpochMinutes(end)));
+        }
+    }
+}
@@ -22,6 +22,9 @@ public class Name implements Comparable<Name> {
 
     public final String fullName;
 
+    // Names are compared ignoring case first, so the lowercased name is kept for sorting
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,6 +34,7 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = name.toLowerCase();
     }
 
     /**
@@ -59,7 +63,7 @@ public class Name implements Comparable<Name> {
 
     @Override
     public int compareTo(Name other) {
-        int compareSpelling = this.fullName.toLowerCase().compareTo(other.fullName.toLowerCase());
+        int compareSpelling = this.sortKey.compareTo(other.sortKey);
         if (compareSpelling == 0) {
             return this.fullName.compareTo(other.fullName);
         }
@@ -15,6 +15,9 @@ public class Phone implements Comparable<Phone> {
     public static final String VALIDATION_REGEX = "\\d{3,15}";
     public final String value;
 
+    // Phones are ordered by their numeric value, so it is parsed once for sorting
+    private final long numericValue;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -24,6 +27,7 @@ public class Phone implements Comparable<Phone> {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        numericValue = Long.parseLong(phone);
     }
 
     /**
@@ -47,9 +51,7 @@ public class Phone implements Comparable<Phone> {
 
     @Override
     public int compareTo(Phone other) {
-        Long thisValue = Long.parseLong(value);
-        Long otherValue = Long.parseLong(other.value);
-        return thisValue.compareTo(otherValue);
+        return Long.compare(numericValue, other.numericValue);
     }
 
     @Override
@@ -1,16 +1,18 @@
 package seedu.address.model.profile;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.model.event.Event;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Profile in the NUScheduler.
@@ -18,6 +20,13 @@ import seedu.address.model.tag.Tag;
  */
 public class Profile implements Comparable<Profile> {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Ids should be positive integers";
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    // Surrogate key, which is kept when the profile is edited and is not part of equality
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,20 +34,17 @@ public class Profile implements Comparable<Profile> {
 
     // Data fields
     private final Telegram telegram;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final EventsAttending eventsToAttend;
 
+    // The fields hashed are immutable, so the hash code is computed once
+    private final int cachedHashCode;
+
     /**
      * Every field must be present and not null.
      */
     public Profile(Name name, Phone phone, Email email, Telegram telegram, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.telegram = telegram;
-        this.tags.addAll(tags);
-        eventsToAttend = new EventsAttending();
+        this(name, phone, email, telegram, tags, new EventsAttending());
     }
 
     /**
@@ -46,13 +52,39 @@ public class Profile implements Comparable<Profile> {
      */
     public Profile(Name name, Phone phone, Email email, Telegram telegram, Set<Tag> tags,
                    EventsAttending eventsToAttend) {
+        this(nextId.getAndIncrement(), name, phone, email, telegram, tags, eventsToAttend);
+    }
+
+    /**
+     * Constructs a profile with the given {@code id}, such as the id of the profile it replaces.
+     * {@code id} must be positive. Every field must be present and not null.
+     */
+    public Profile(long id, Name name, Phone phone, Email email, Telegram telegram, Set<Tag> tags,
+                   EventsAttending eventsToAttend) {
         requireAllNonNull(name, phone, email, tags, eventsToAttend);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        // ids given to new profiles must not clash with ids which are already in use
+        nextId.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.telegram = telegram;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.eventsToAttend = eventsToAttend;
+        // use this method for custom fields hashing instead of implementing your own
+        this.cachedHashCode = Objects.hash(name, phone, email, this.tags);
+    }
+
+    /**
+     * Returns true if a given number is a valid profile id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -217,8 +249,7 @@ public class Profile implements Comparable<Profile> {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags);
+        return cachedHashCode;
     }
 
     @Override
@@ -0,0 +1,38 @@
+package seedu.address.model.profile;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Profile}'s tags match the given groups of tags.
+ * The tags within a group are combined with OR, and the groups are combined with AND.
+ */
+public class ProfileTagsMatchPredicate implements Predicate<Profile> {
+    private final List<Set<Tag>> tagGroups;
+
+    public ProfileTagsMatchPredicate(List<Set<Tag>> tagGroups) {
+        this.tagGroups = tagGroups;
+    }
+
+    public List<Set<Tag>> getTagGroups() {
+        return Collections.unmodifiableList(tagGroups);
+    }
+
+    @Override
+    public boolean test(Profile profile) {
+        Set<Tag> tags = profile.getTags();
+        return !tagGroups.isEmpty()
+                && tagGroups.stream().allMatch(tagGroup -> tagGroup.stream().anyMatch(tags::contains));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProfileTagsMatchPredicate // instanceof handles nulls
+                && tagGroups.equals(((ProfileTagsMatchPredicate) other).tagGroups)); // state check
+    }
+}
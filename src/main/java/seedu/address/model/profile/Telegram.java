@@ -23,6 +23,9 @@ public class Telegram {
 
     public final String value;
 
+    // Usernames are equal ignoring case, so the lowercased username is kept for equality and hashing
+    private final String normalizedValue;
+
     /**
      * Constructs a {@code Telegram}.
      *
@@ -32,6 +35,7 @@ public class Telegram {
         requireNonNull(username);
         checkArgument(isValidTelegram(username), MESSAGE_CONSTRAINTS);
         value = username;
+        normalizedValue = username.toLowerCase();
     }
 
     /**
@@ -57,12 +61,12 @@ public class Telegram {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Telegram // instanceof handles nulls
-                && value.toLowerCase().equals(((Telegram) other).value.toLowerCase())); // state check
+                && normalizedValue.equals(((Telegram) other).normalizedValue)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return normalizedValue.hashCode();
     }
 
 }
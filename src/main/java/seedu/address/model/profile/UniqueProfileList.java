@@ -1,15 +1,27 @@
 package seedu.address.model.profile;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.SortedTreeList;
 import seedu.address.model.profile.exceptions.ProfileNotFoundException;
 import seedu.address.model.profile.exceptions.SimilarProfileException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * A list of profiles that enforces uniqueness between its elements and does not allow nulls.
@@ -21,6 +33,15 @@ import seedu.address.model.profile.exceptions.SimilarProfileException;
  * removal of a profile uses Profile#equals(Object) so as to ensure that the profile with exactly the same
  * fields will be removed.
  *
+ * Emails, phones and non-empty telegrams are additionally indexed in hash maps, so that uniqueness checks
+ * do not need to scan the whole list. Names are indexed by every suffix of each of their lowercased words, so that
+ * the profiles whose name contains a keyword can be found by looking up the suffixes starting with that keyword.
+ * Profiles are also indexed by their tags in a {@code TagIndex}, and mapped from their id, so that a profile can be
+ * looked up by id without searching the list.
+ *
+ * The profiles are kept in sorted order in a {@code SortedTreeList}, so that adding, replacing or removing a profile,
+ * or finding the profile at an index, takes O(log n) time, and only reports the change to the affected index.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Profile#isSameEmail(Profile)
@@ -29,16 +50,21 @@ import seedu.address.model.profile.exceptions.SimilarProfileException;
  */
 public class UniqueProfileList implements Iterable<Profile> {
 
-    private final ObservableList<Profile> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Profile> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
-    private final ObservableList<Profile> unmodifiableSortedList = internalUnmodifiableList.sorted(Profile::compareTo);
+    private final SortedTreeList<Profile> internalList = new SortedTreeList<>(Profile::compareTo);
+
+    private final Map<Long, Profile> profilesById = new HashMap<>();
+    private final Map<Email, Profile> emailIndex = new HashMap<>();
+    private final Map<Phone, Profile> phoneIndex = new HashMap<>();
+    private final Map<Telegram, Profile> telegramIndex = new HashMap<>();
+    private final NavigableMap<String, Set<Profile>> nameSuffixIndex = new TreeMap<>();
+    private final TagIndex<Profile> tagIndex = new TagIndex<>();
+
     /**
      * Returns true if the list contains a profile with an equivalent email as the given argument.
      */
     public boolean containsEmail(Profile toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmail);
+        return emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -46,7 +72,7 @@ public class UniqueProfileList implements Iterable<Profile> {
      */
     public boolean containsPhone(Profile toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePhone);
+        return phoneIndex.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -54,7 +80,7 @@ public class UniqueProfileList implements Iterable<Profile> {
      */
     public boolean containsTelegram(Profile toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTelegramNotEmpty);
+        return !toCheck.getTelegram().isEmpty() && telegramIndex.containsKey(toCheck.getTelegram());
     }
 
     /**
@@ -62,7 +88,9 @@ public class UniqueProfileList implements Iterable<Profile> {
      */
     public boolean contains(Profile toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        // emails are unique, so the only candidate is the profile indexed under the same email
+        Profile profileWithSameEmail = emailIndex.get(toCheck.getEmail());
+        return profileWithSameEmail != null && profileWithSameEmail.equals(toCheck);
     }
 
     /**
@@ -74,7 +102,9 @@ public class UniqueProfileList implements Iterable<Profile> {
         if (containsEmail(toAdd) || containsPhone(toAdd) || containsTelegram(toAdd)) {
             throw new SimilarProfileException();
         }
-        internalList.add(toAdd);
+        profilesById.put(toAdd.getId(), toAdd);
+        internalList.insert(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -87,8 +117,8 @@ public class UniqueProfileList implements Iterable<Profile> {
     public void setProfile(Profile target, Profile editedProfile) {
         requireAllNonNull(target, editedProfile);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Profile storedTarget = findEqual(target);
+        if (storedTarget == null) {
             throw new ProfileNotFoundException();
         }
 
@@ -101,7 +131,11 @@ public class UniqueProfileList implements Iterable<Profile> {
         target.removeFromAttendingEvents();
         editedProfile.addToAllEvents();
 
-        internalList.set(index, editedProfile);
+        removeFromIndexes(target);
+        profilesById.remove(storedTarget.getId());
+        profilesById.put(editedProfile.getId(), editedProfile);
+        internalList.replace(storedTarget, editedProfile);
+        addToIndexes(editedProfile);
     }
 
     /**
@@ -111,15 +145,23 @@ public class UniqueProfileList implements Iterable<Profile> {
      */
     public void remove(Profile toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Profile storedProfile = findEqual(toRemove);
+        if (storedProfile == null) {
             throw new ProfileNotFoundException();
         }
+        profilesById.remove(storedProfile.getId());
+        internalList.delete(storedProfile);
+        removeFromIndexes(toRemove);
         toRemove.removeFromAttendingEvents();
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setProfiles(UniqueProfileList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.reset(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -128,18 +170,55 @@ public class UniqueProfileList implements Iterable<Profile> {
      */
     public void setProfiles(List<Profile> profiles) {
         requireAllNonNull(profiles);
-        if (!profilesAreUnique(profiles)) {
-            throw new SimilarProfileException();
+        List<Map.Entry<Profile, Profile>> similarProfiles = findSimilarProfiles(profiles);
+        if (!similarProfiles.isEmpty()) {
+            throw new SimilarProfileException(similarProfiles);
+        }
+
+        internalList.reset(profiles);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the profiles whose name contains any of {@code keywords}, ignoring case.
+     * Gives the same profiles as testing each profile with {@link NameContainsKeywordsPredicate}.
+     * Each keyword cannot be empty and must be a single word.
+     */
+    public List<Profile> getProfilesWithNameContaining(List<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Profile> matchingProfiles = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim().toLowerCase();
+            checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+            checkArgument(preppedKeyword.split("\\s+").length == 1, "Keyword should be a single word");
+
+            // names only contain alphanumeric words, so a keyword can only be found within a single word,
+            // as the start of one of that word's suffixes
+            nameSuffixIndex.subMap(preppedKeyword, true, preppedKeyword + Character.MAX_VALUE, false)
+                    .values().forEach(matchingProfiles::addAll);
         }
+        return new ArrayList<>(matchingProfiles);
+    }
 
-        internalList.setAll(profiles);
+    /**
+     * Returns the profiles which, for every group in {@code tagGroups}, have at least one tag of that group.
+     */
+    public List<Profile> getProfilesWithTags(List<Set<Tag>> tagGroups) {
+        return tagIndex.getMatching(tagGroups);
+    }
+
+    /**
+     * Returns the profile with the given {@code id}, if it is in the list.
+     */
+    public Optional<Profile> getProfileById(long id) {
+        return Optional.ofNullable(profilesById.get(id));
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Profile> asUnmodifiableObservableList() {
-        return unmodifiableSortedList;
+        return internalList;
     }
 
     @Override
@@ -160,21 +239,106 @@ public class UniqueProfileList implements Iterable<Profile> {
     }
 
     /**
-     * Returns true if {@code profiles} contains only unique profiles.
+     * Indexes the email, phone and non-empty telegram of {@code profile}.
+     */
+    private void addToIndexes(Profile profile) {
+        emailIndex.put(profile.getEmail(), profile);
+        phoneIndex.put(profile.getPhone(), profile);
+        if (!profile.getTelegram().isEmpty()) {
+            telegramIndex.put(profile.getTelegram(), profile);
+        }
+        for (String suffix : getNameSuffixes(profile)) {
+            nameSuffixIndex.computeIfAbsent(suffix, unused -> new HashSet<>()).add(profile);
+        }
+        tagIndex.add(profile, profile.getTags());
+    }
+
+    /**
+     * Removes the email, phone and telegram of {@code profile} from the indexes.
+     */
+    private void removeFromIndexes(Profile profile) {
+        emailIndex.remove(profile.getEmail());
+        phoneIndex.remove(profile.getPhone());
+        if (!profile.getTelegram().isEmpty()) {
+            telegramIndex.remove(profile.getTelegram());
+        }
+        for (String suffix : getNameSuffixes(profile)) {
+            Set<Profile> profilesWithSuffix = nameSuffixIndex.get(suffix);
+            profilesWithSuffix.remove(profile);
+            if (profilesWithSuffix.isEmpty()) {
+                nameSuffixIndex.remove(suffix);
+            }
+        }
+        tagIndex.remove(profile, profile.getTags());
+    }
+
+    /**
+     * Returns the profile in the list equal to {@code profile}, or null if there is none.
+     */
+    private Profile findEqual(Profile profile) {
+        // emails are unique, so the only candidate is the profile indexed under the same email
+        Profile profileWithSameEmail = emailIndex.get(profile.getEmail());
+        if (profileWithSameEmail == null || !profileWithSameEmail.equals(profile)) {
+            return null;
+        }
+        return profileWithSameEmail;
+    }
+
+    private void rebuildIndexes() {
+        profilesById.clear();
+        internalList.forEach(profile -> profilesById.put(profile.getId(), profile));
+        emailIndex.clear();
+        phoneIndex.clear();
+        telegramIndex.clear();
+        nameSuffixIndex.clear();
+        tagIndex.clear();
+        internalList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Returns every distinct suffix of each lowercased word in the name of {@code profile}.
      */
-    private boolean profilesAreUnique(List<Profile> profiles) {
-        for (int i = 0; i < profiles.size() - 1; i++) {
-            Profile currentProfile = profiles.get(i);
-            for (int j = i + 1; j < profiles.size(); j++) {
-                Profile otherProfile = profiles.get(j);
-                if (currentProfile.isSameEmail(otherProfile)
-                        || currentProfile.isSamePhone(otherProfile)
-                        || currentProfile.isSameTelegramNotEmpty(otherProfile)) {
-                    return false;
-                }
+    private static Set<String> getNameSuffixes(Profile profile) {
+        Set<String> suffixes = new HashSet<>();
+        for (String word : profile.getName().fullName.toLowerCase().split("\\s+")) {
+            for (int i = 0; i < word.length(); i++) {
+                suffixes.add(word.substring(i));
+            }
+        }
+        return suffixes;
+    }
 
+    /**
+     * Returns every pair of similar profiles in {@code profiles}, found in a single pass.
+     * A profile sharing an email, phone or non-empty telegram with earlier profiles is paired with every one of them,
+     * so that a value shared by several profiles reports every pair among them. Each pair is reported once, with the
+     * earlier profile as the key. This takes time in the number of profiles plus the number of pairs reported.
+     */
+    public static List<Map.Entry<Profile, Profile>> findSimilarProfiles(List<Profile> profiles) {
+        requireAllNonNull(profiles);
+        Map<Email, List<Profile>> seenEmails = new HashMap<>();
+        Map<Phone, List<Profile>> seenPhones = new HashMap<>();
+        Map<Telegram, List<Profile>> seenTelegrams = new HashMap<>();
+        Set<Map.Entry<Profile, Profile>> similarProfiles = new LinkedHashSet<>();
+
+        for (Profile profile : profiles) {
+            pairWithEarlierHolders(seenEmails, profile.getEmail(), profile, similarProfiles);
+            pairWithEarlierHolders(seenPhones, profile.getPhone(), profile, similarProfiles);
+            if (!profile.getTelegram().isEmpty()) {
+                pairWithEarlierHolders(seenTelegrams, profile.getTelegram(), profile, similarProfiles);
             }
         }
-        return true;
+        return new ArrayList<>(similarProfiles);
+    }
+
+    /**
+     * Adds a pair of each profile already holding {@code value} in {@code holders} and {@code profile} to
+     * {@code pairs}, then records {@code profile} as holding {@code value}.
+     */
+    private static <V> void pairWithEarlierHolders(Map<V, List<Profile>> holders, V value, Profile profile,
+            Set<Map.Entry<Profile, Profile>> pairs) {
+        List<Profile> holdersOfValue = holders.computeIfAbsent(value, unused -> new ArrayList<>());
+        holdersOfValue.forEach(holder -> pairs.add(Map.entry(holder, profile)));
+        holdersOfValue.add(profile);
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.profile.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.profile.Profile;
+
 /**
  * Signals that the operation will result in similar Profiles (Profiles are similar if they have the same
  * email, phone or telegram).
  */
 public class SimilarProfileException extends RuntimeException {
+    private final List<Map.Entry<Profile, Profile>> similarProfiles;
+
+    /**
+     * Constructs a {@code SimilarProfileException} without details of the similar profiles.
+     */
     public SimilarProfileException() {
         super("Operation would result in similar profiles");
+        similarProfiles = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code SimilarProfileException} listing each pair of similar profiles.
+     */
+    public SimilarProfileException(List<Map.Entry<Profile, Profile>> similarProfiles) {
+        super("Operation would result in similar profiles: " + similarProfiles.stream()
+                .map(pair -> pair.getKey().getName() + " and " + pair.getValue().getName())
+                .collect(Collectors.joining("; ")));
+        this.similarProfiles = Collections.unmodifiableList(similarProfiles);
+    }
+
+    public List<Map.Entry<Profile, Profile>> getSimilarProfiles() {
+        return similarProfiles;
     }
 }
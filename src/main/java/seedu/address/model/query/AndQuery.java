@@ -0,0 +1,88 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.Model;
+
+/**
+ * A query matching the elements which match every one of its queries.
+ */
+class AndQuery<T> extends Query<T> {
+
+    private final List<Query<T>> queries;
+
+    /**
+     * Constructs a query matching the elements which match every one of {@code queries}.
+     */
+    AndQuery(List<Query<T>> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(T element) {
+        return queries.stream().allMatch(query -> query.test(element));
+    }
+
+    /**
+     * Looks up every query which can be answered from the indexes, then keeps the elements of the smallest result
+     * which are in every other result and match the remaining queries.
+     * Returns an empty {@code Optional} if none of the queries can be answered from the indexes.
+     */
+    @Override
+    Optional<Set<T>> findWithIndexes(Model model) {
+        List<Set<T>> indexedMatches = new ArrayList<>();
+        List<Query<T>> unindexedQueries = new ArrayList<>();
+        for (Query<T> query : queries) {
+            Optional<Set<T>> matches = query.findWithIndexes(model);
+            if (matches.isEmpty()) {
+                unindexedQueries.add(query);
+                continue;
+            }
+            if (matches.get().isEmpty()) {
+                return matches;
+            }
+            indexedMatches.add(matches.get());
+        }
+
+        if (indexedMatches.isEmpty()) {
+            return Optional.empty();
+        }
+
+        indexedMatches.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = indexedMatches.get(0);
+        List<Set<T>> otherMatches = indexedMatches.subList(1, indexedMatches.size());
+        Set<T> matches = new HashSet<>();
+        for (T candidate : candidates) {
+            if (otherMatches.stream().allMatch(other -> other.contains(candidate))
+                    && unindexedQueries.stream().allMatch(query -> query.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && queries.equals(((AndQuery<?>) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return join(queries, "AND");
+    }
+}
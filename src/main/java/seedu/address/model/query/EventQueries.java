@@ -0,0 +1,72 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventTagsMatchPredicate;
+import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains the terms which can be used in a query over events.
+ */
+public class EventQueries {
+
+    private EventQueries() {} // prevents instantiation
+
+    /**
+     * Returns a term matching the events whose title contains {@code keyword}, ignoring case.
+     */
+    public static Query<Event> title(String keyword) {
+        requireNonNull(keyword);
+        return new TermQuery<>("title", keyword, new TitleContainsKeywordsPredicate(List.of(keyword)), model ->
+                model.getEventsWithTitleContaining(List.of(keyword)));
+    }
+
+    /**
+     * Returns a term matching the events tagged with {@code tag}.
+     */
+    public static Query<Event> tag(Tag tag) {
+        requireNonNull(tag);
+        List<Set<Tag>> tagGroups = List.of(Set.of(tag));
+        return new TermQuery<>("tag", tag.tagName, new EventTagsMatchPredicate(tagGroups), model ->
+                model.getEventsWithTags(tagGroups));
+    }
+
+    /**
+     * Returns a term matching the events which start, or have an occurrence which starts, from {@code firstDate}
+     * to {@code lastDate}, both inclusive.
+     */
+    public static Query<Event> date(LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(firstDate, lastDate);
+        DateTime from = new DateTime(firstDate, Optional.empty());
+        DateTime to = new DateTime(lastDate, Optional.of(LocalTime.MAX));
+        String value = firstDate.equals(lastDate)
+                ? from.toString()
+                : from + ".." + new DateTime(lastDate, Optional.empty());
+        return new TermQuery<>("date", value, event -> event.hasOccurrenceStartingBetween(firstDate, lastDate),
+                model -> model.getEventsStartingWithin(from, to));
+    }
+
+    /**
+     * Returns a term matching the events attended by a profile whose name contains {@code keyword}, ignoring case.
+     */
+    public static Query<Event> attendee(String keyword) {
+        requireNonNull(keyword);
+        return new TermQuery<>("attendee", keyword, event -> event.getAttendeesList().stream()
+                .anyMatch(profile -> StringUtil.containsWordIgnoreCase(profile.getName().fullName, keyword)),
+                model -> model.getProfilesWithNameContaining(List.of(keyword)).stream()
+                        .flatMap(profile -> profile.getEventsAttendingList().stream())
+                        .collect(Collectors.toSet()));
+    }
+}
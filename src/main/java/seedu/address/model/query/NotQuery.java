@@ -0,0 +1,53 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.Model;
+
+/**
+ * A query matching the elements which do not match its query.
+ * Its matches are everything outside an index lookup, so it is always answered by testing every element, unless it
+ * is combined with an indexed query in an AND query.
+ */
+class NotQuery<T> extends Query<T> {
+
+    private final Query<T> query;
+
+    /**
+     * Constructs a query matching the elements which do not match {@code query}.
+     */
+    NotQuery(Query<T> query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(T element) {
+        return !query.test(element);
+    }
+
+    @Override
+    Optional<Set<T>> findWithIndexes(Model model) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && query.equals(((NotQuery<?>) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + query;
+    }
+}
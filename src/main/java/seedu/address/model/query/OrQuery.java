@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.Model;
+
+/**
+ * A query matching the elements which match any of its queries.
+ */
+class OrQuery<T> extends Query<T> {
+
+    private final List<Query<T>> queries;
+
+    /**
+     * Constructs a query matching the elements which match any of {@code queries}.
+     */
+    OrQuery(List<Query<T>> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(T element) {
+        return queries.stream().anyMatch(query -> query.test(element));
+    }
+
+    /**
+     * Returns the union of the results of the queries, or an empty {@code Optional} if any of them cannot be
+     * answered from the indexes, since its matches could then be anywhere.
+     */
+    @Override
+    Optional<Set<T>> findWithIndexes(Model model) {
+        Set<T> matches = new HashSet<>();
+        for (Query<T> query : queries) {
+            Optional<Set<T>> queryMatches = query.findWithIndexes(model);
+            if (queryMatches.isEmpty()) {
+                return Optional.empty();
+            }
+            matches.addAll(queryMatches.get());
+        }
+        return Optional.of(matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && queries.equals(((OrQuery<?>) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return join(queries, "OR");
+    }
+}
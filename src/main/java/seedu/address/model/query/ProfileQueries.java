@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.ProfileTagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains the terms which can be used in a query over profiles.
+ */
+public class ProfileQueries {
+
+    private ProfileQueries() {} // prevents instantiation
+
+    /**
+     * Returns a term matching the profiles whose name contains {@code keyword}, ignoring case.
+     */
+    public static Query<Profile> name(String keyword) {
+        requireNonNull(keyword);
+        return new TermQuery<>("name", keyword, new NameContainsKeywordsPredicate(List.of(keyword)), model ->
+                model.getProfilesWithNameContaining(List.of(keyword)));
+    }
+
+    /**
+     * Returns a term matching the profiles tagged with {@code tag}.
+     */
+    public static Query<Profile> tag(Tag tag) {
+        requireNonNull(tag);
+        List<Set<Tag>> tagGroups = List.of(Set.of(tag));
+        return new TermQuery<>("tag", tag.tagName, new ProfileTagsMatchPredicate(tagGroups), model ->
+                model.getProfilesWithTags(tagGroups));
+    }
+
+    /**
+     * Returns a term matching the profiles whose email is at {@code domain}, ignoring case.
+     * There is no index over the email domains, so this term is answered by testing every profile, unless it is
+     * combined with an indexed term.
+     */
+    public static Query<Profile> emailDomain(String domain) {
+        requireNonNull(domain);
+        String suffix = "@" + domain.toLowerCase();
+        return new TermQuery<>("email", domain, profile ->
+                profile.getEmail().value.toLowerCase().endsWith(suffix));
+    }
+
+    /**
+     * Returns a term matching the profiles attending an event whose title contains {@code keyword}, ignoring case.
+     */
+    public static Query<Profile> attending(String keyword) {
+        requireNonNull(keyword);
+        return new TermQuery<>("attending", keyword, profile -> profile.getEventsAttendingList().stream()
+                .anyMatch(event -> StringUtil.containsWordIgnoreCase(event.getTitle().title, keyword)),
+                model -> model.getEventsWithTitleContaining(List.of(keyword)).stream()
+                        .flatMap(event -> event.getAttendeesList().stream())
+                        .collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+
+/**
+ * A query over the elements of type {@code T} in the NUScheduler, made of terms combined with AND, OR and NOT.
+ * A query can be tested against a single element like any predicate, and can also be planned against the indexes
+ * of the model, so that its matches are found without testing every element where possible.
+ *
+ * Each term knows the index, if any, which finds exactly the elements it matches. An AND query looks up its indexed
+ * terms, starts from the smallest of their results and intersects it with the others, and tests only the elements
+ * left against its remaining terms. An OR query is the union of its terms' results if every term can be looked up.
+ * A NOT query, or any query without a usable index, falls back to testing every element.
+ */
+public abstract class Query<T> implements Predicate<T> {
+
+    /**
+     * Returns a query matching the elements which match every one of {@code queries}.
+     */
+    public static <T> Query<T> and(List<Query<T>> queries) {
+        return new AndQuery<>(queries);
+    }
+
+    /**
+     * Returns a query matching the elements which match any of {@code queries}.
+     */
+    public static <T> Query<T> or(List<Query<T>> queries) {
+        return new OrQuery<>(queries);
+    }
+
+    /**
+     * Returns a query matching the elements which do not match {@code query}.
+     */
+    public static <T> Query<T> not(Query<T> query) {
+        return new NotQuery<>(query);
+    }
+
+    /**
+     * Returns the elements matching this query, found from the indexes of {@code model}, or an empty
+     * {@code Optional} if the query cannot be answered without testing every element.
+     */
+    abstract Optional<Set<T>> findWithIndexes(Model model);
+
+    /**
+     * Returns the elements of {@code elements} matching this query, in no particular order.
+     * The matches are found from the indexes of {@code model} if possible, and otherwise by testing every element
+     * of {@code elements}, which must be every element in {@code model} the query is over.
+     */
+    public List<T> findMatches(Model model, List<T> elements) {
+        requireAllNonNull(model, elements);
+        Optional<Set<T>> indexedMatches = findWithIndexes(model);
+        if (indexedMatches.isPresent()) {
+            return new ArrayList<>(indexedMatches.get());
+        }
+        return elements.stream().filter(this).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the description of each of {@code queries}, separated by {@code operator}.
+     */
+    static <T> String join(List<Query<T>> queries, String operator) {
+        requireNonNull(queries);
+        return queries.stream().map(Query::toString).collect(Collectors.joining(" " + operator + " ", "(", ")"));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+
+/**
+ * A query matching the elements whose {@code field} matches {@code value}, such as the events with a given tag.
+ * The term is tested with its predicate, and looked up with its index, if it has one.
+ * Two terms are equal if they have the same field and value.
+ */
+public class TermQuery<T> extends Query<T> {
+
+    private final String field;
+    private final String value;
+    private final Predicate<T> predicate;
+    // Null if the term has no index, so that it can only be answered by testing every element
+    private final Function<Model, Collection<T>> index;
+
+    /**
+     * Constructs a term which is looked up with {@code index}.
+     * {@code index} must find exactly the elements which pass {@code predicate}.
+     */
+    public TermQuery(String field, String value, Predicate<T> predicate, Function<Model, Collection<T>> index) {
+        requireAllNonNull(field, value, predicate, index);
+        this.field = field;
+        this.value = value;
+        this.predicate = predicate;
+        this.index = index;
+    }
+
+    /**
+     * Constructs a term without an index.
+     */
+    public TermQuery(String field, String value, Predicate<T> predicate) {
+        requireAllNonNull(field, value, predicate);
+        this.field = field;
+        this.value = value;
+        this.predicate = predicate;
+        this.index = null;
+    }
+
+    @Override
+    public boolean test(T element) {
+        return predicate.test(element);
+    }
+
+    @Override
+    Optional<Set<T>> findWithIndexes(Model model) {
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new HashSet<>(index.apply(model)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TermQuery // instanceof handles nulls
+                && field.equals(((TermQuery<?>) other).field)
+                && value.equals(((TermQuery<?>) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + value;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from each tag to the items tagged with it.
+ * Items must not change their tags or their {@code hashCode} while they are in the index.
+ *
+ * @param <T> the type of the tagged items
+ */
+public class TagIndex<T> {
+
+    private final Map<Tag, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under each of {@code tags}.
+     */
+    public void add(T item, Set<Tag> tags) {
+        requireAllNonNull(item, tags);
+        for (Tag tag : tags) {
+            postings.computeIfAbsent(tag, unused -> new HashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from each of {@code tags}.
+     */
+    public void remove(T item, Set<Tag> tags) {
+        requireAllNonNull(item, tags);
+        for (Tag tag : tags) {
+            Set<T> items = postings.get(tag);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every item from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the items which, for every group in {@code tagGroups}, are tagged with at least one tag of that group.
+     * That is, the tags within a group are combined with OR, and the groups are combined with AND.
+     * Only the items tagged with the given tags are visited, so no item without any of the tags is checked.
+     */
+    public List<T> getMatching(List<Set<Tag>> tagGroups) {
+        requireAllNonNull(tagGroups);
+        if (tagGroups.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Set<T>> groupMatches = new ArrayList<>();
+        for (Set<Tag> tagGroup : tagGroups) {
+            requireNonNull(tagGroup);
+            groupMatches.add(getTaggedWithAny(tagGroup));
+        }
+        groupMatches.sort(Comparator.comparingInt(Set::size));
+
+        Set<T> matches = groupMatches.get(0);
+        for (Set<T> otherMatches : groupMatches.subList(1, groupMatches.size())) {
+            matches.retainAll(otherMatches);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private Set<T> getTaggedWithAny(Set<Tag> tags) {
+        Set<T> items = new HashSet<>();
+        for (Tag tag : tags) {
+            items.addAll(postings.getOrDefault(tag, Collections.emptySet()));
+        }
+        return items;
+    }
+}
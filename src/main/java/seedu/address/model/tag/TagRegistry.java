@@ -0,0 +1,44 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tags, so that every profile and event tagged with the same tag name shares a single {@code Tag} instance.
+ */
+public class TagRegistry {
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+
+    // to prevent instantiation
+    private TagRegistry() {}
+
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, after any shortcut in {@code tagName} is expanded.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag getTag(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        return tag != null ? tag : intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to {@code tag}.
+     * {@code tag} becomes the canonical instance if no equal tag has been interned yet.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return tagsByName.computeIfAbsent(tag.tagName, unused -> tag);
+    }
+
+    /**
+     * Returns the number of distinct tags interned.
+     */
+    public static int size() {
+        return tagsByName.size();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags, stored as an array of interned tags sorted by tag name.
+ * Tags are looked up by binary search, which is fast for the handful of tags a profile or event has, and the set takes
+ * far less memory than a {@code HashSet}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the interned instances of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.stream()
+                .map(TagRegistry::intern)
+                .distinct()
+                .sorted(TAG_NAME_ORDER)
+                .toArray(Tag[]::new);
+        return new TagSet(sortedTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(tags, (Tag) other, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+}
@@ -16,6 +16,7 @@ import seedu.address.model.profile.Phone;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.Telegram;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 
 /**
  * Contains utility methods for populating {@code NuScheduler} with sample data.
@@ -84,7 +85,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(TagRegistry::getTag)
                 .collect(Collectors.toSet());
     }
 
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,6 +16,7 @@ import seedu.address.model.NuScheduler;
 import seedu.address.model.event.Attendees;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Title;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.tag.Tag;
@@ -26,19 +28,24 @@ class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
+    private final Long id;
     private final String title;
     private final String start;
     private final String end;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final List<JsonAdaptedProfile> attendees = new ArrayList<>();
+    private final JsonAdaptedRecurrence recurrence;
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("title") String title, @JsonProperty("start") String start,
-                            @JsonProperty("end") String end, @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
-                            @JsonProperty("attendees") List<JsonAdaptedProfile> attendees) {
+    public JsonAdaptedEvent(@JsonProperty("id") Long id, @JsonProperty("title") String title,
+                            @JsonProperty("start") String start, @JsonProperty("end") String end,
+                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+                            @JsonProperty("attendees") List<JsonAdaptedProfile> attendees,
+                            @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
+        this.id = id;
         this.title = title;
         this.start = start;
         this.end = end;
@@ -48,12 +55,14 @@ class JsonAdaptedEvent {
         if (attendees != null) {
             this.attendees.addAll(attendees);
         }
+        this.recurrence = recurrence;
     }
 
     /**
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        id = source.getId();
         title = source.getTitle().title;
         start = source.getStartDateTime().toString();
         end = source.getEndDateTime().toString();
@@ -63,10 +72,14 @@ class JsonAdaptedEvent {
         attendees.addAll(source.getAttendees().stream()
                 .map(JsonAdaptedProfile::new)
                 .collect(Collectors.toList()));
+        recurrence = source.getRecurrence().map(JsonAdaptedRecurrence::new).orElse(null);
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Attendees are looked up in {@code nuScheduler} by their id, falling back to an equal profile for attendees
+     * saved without an id. An event saved without an id is given a new id, and an event saved without a recurrence
+     * does not repeat.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
@@ -106,7 +119,10 @@ class JsonAdaptedEvent {
         final Attendees modelAttendees = new Attendees();
         for (JsonAdaptedProfile attendee : attendees) {
             Profile p = attendee.toModelType();
-            if (nuScheduler.hasProfile(p)) {
+            Optional<Profile> profileWithSameId = nuScheduler.getProfileById(p.getId()).filter(p::equals);
+            if (profileWithSameId.isPresent()) {
+                modelAttendees.addProfile(profileWithSameId.get());
+            } else if (nuScheduler.hasProfile(p)) {
                 int index = nuScheduler.getProfileList().indexOf(p);
                 p = nuScheduler.getProfileList().get(index);
                 modelAttendees.addProfile(p);
@@ -123,7 +139,21 @@ class JsonAdaptedEvent {
             throw new IllegalValueException(Messages.MESSAGE_EVENTS_INVALID_START_END);
         }
 
-        return new Event(modelTitle, modelStart, modelEnd, modelTags, modelAttendees);
+        final Optional<Recurrence> modelRecurrence = recurrence == null
+                ? Optional.empty()
+                : Optional.of(recurrence.toModelType());
+        if (modelRecurrence.isPresent() && modelRecurrence.get().hasUntilDate()
+                && modelRecurrence.get().getUntilDate().isBefore(modelStart.getDate())) {
+            throw new IllegalValueException(Recurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
+        if (id == null) {
+            return new Event(modelTitle, modelStart, modelEnd, modelTags, modelAttendees, modelRecurrence);
+        }
+        if (!Event.isValidId(id)) {
+            throw new IllegalValueException(Event.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Event(id, modelTitle, modelStart, modelEnd, modelTags, modelAttendees, modelRecurrence);
     }
 
 }
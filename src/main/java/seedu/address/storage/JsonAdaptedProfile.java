@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.profile.Email;
+import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Phone;
 import seedu.address.model.profile.Profile;
@@ -24,6 +25,7 @@ class JsonAdaptedProfile {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Profile's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -34,9 +36,10 @@ class JsonAdaptedProfile {
      * Constructs a {@code JsonAdaptedProfile} with the given profile details.
      */
     @JsonCreator
-    public JsonAdaptedProfile(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("telegram") String telegram,
-            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+    public JsonAdaptedProfile(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("telegram") String telegram, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,6 +53,7 @@ class JsonAdaptedProfile {
      * Converts a given {@code Profile} into this class for Jackson use.
      */
     public JsonAdaptedProfile(Profile source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -61,6 +65,7 @@ class JsonAdaptedProfile {
 
     /**
      * Converts this Jackson-friendly adapted profile object into the model's {@code Profile} object.
+     * A profile saved without an id, such as one saved by an older version, is given a new id.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted profile.
      */
@@ -103,7 +108,14 @@ class JsonAdaptedProfile {
         }
         final Telegram modelTelegram = new Telegram(telegram);
         final Set<Tag> modelTags = new HashSet<>(profileTags);
-        return new Profile(modelName, modelPhone, modelEmail, modelTelegram, modelTags);
+
+        if (id == null) {
+            return new Profile(modelName, modelPhone, modelEmail, modelTelegram, modelTags);
+        }
+        if (!Profile.isValidId(id)) {
+            throw new IllegalValueException(Profile.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Profile(id, modelName, modelPhone, modelEmail, modelTelegram, modelTags, new EventsAttending());
     }
 
 }
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.Recurrence.Frequency;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ */
+class JsonAdaptedRecurrence {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurrence's %s field is missing!";
+
+    private final String frequency;
+    private final String until;
+    private final Integer count;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given recurrence details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(@JsonProperty("frequency") String frequency, @JsonProperty("until") String until,
+                                 @JsonProperty("count") Integer count,
+                                 @JsonProperty("exceptions") List<String> exceptions) {
+        this.frequency = frequency;
+        this.until = until;
+        this.count = count;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        frequency = source.getFrequency().toString();
+        until = source.hasUntilDate() ? toDateString(source.getUntilDate()) : null;
+        count = source.hasUntilDate() ? null : source.getCount();
+        exceptions.addAll(source.getExceptions().stream()
+                .map(JsonAdaptedRecurrence::toDateString)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's {@code Recurrence} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurrence.
+     */
+    public Recurrence toModelType() throws IllegalValueException {
+        if (frequency == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Frequency.class.getSimpleName()));
+        }
+        if (!Frequency.isValidFrequency(frequency)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+        }
+        final Frequency modelFrequency = Frequency.of(frequency);
+
+        final Set<LocalDate> modelExceptions = new HashSet<>();
+        for (String exception : exceptions) {
+            modelExceptions.add(toDate(exception));
+        }
+
+        if ((until == null) == (count == null)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_END_CONSTRAINTS);
+        }
+        if (until != null) {
+            return new Recurrence(modelFrequency, toDate(until), modelExceptions);
+        }
+        if (!Recurrence.isValidCount(count)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        }
+        return new Recurrence(modelFrequency, count, modelExceptions);
+    }
+
+    private static String toDateString(LocalDate date) {
+        return new DateTime(date, Optional.empty()).toString();
+    }
+
+    private static LocalDate toDate(String date) throws IllegalValueException {
+        if (date == null || !DateTime.isValidDateTime(date)) {
+            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+        }
+        return new DateTime(date).getDate();
+    }
+
+}
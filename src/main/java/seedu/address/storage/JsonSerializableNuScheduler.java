@@ -24,6 +24,8 @@ class JsonSerializableNuScheduler {
     public static final String MESSAGE_SIMILAR_PHONE = "Profiles list contains similar phone(s).";
     public static final String MESSAGE_SIMILAR_TELEGRAM = "Profiles list contains similar telegram(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_PROFILE_ID = "Profiles list contains duplicate id(s).";
+    public static final String MESSAGE_DUPLICATE_EVENT_ID = "Events list contains duplicate id(s).";
 
     private final List<JsonAdaptedProfile> profiles = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
@@ -66,6 +68,9 @@ class JsonSerializableNuScheduler {
             if (nuScheduler.hasTelegram(profile)) {
                 throw new IllegalValueException(MESSAGE_SIMILAR_TELEGRAM);
             }
+            if (nuScheduler.getProfileById(profile.getId()).isPresent()) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PROFILE_ID);
+            }
             nuScheduler.addProfile(profile);
         }
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
@@ -73,6 +78,9 @@ class JsonSerializableNuScheduler {
             if (nuScheduler.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
+            if (nuScheduler.getEventById(event.getId()).isPresent()) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT_ID);
+            }
             event.addToAllAttendees();
             nuScheduler.addEvent(event);
         }
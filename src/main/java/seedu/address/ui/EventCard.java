@@ -9,7 +9,6 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
 import seedu.address.model.profile.Profile;
 
@@ -43,21 +42,26 @@ public class EventCard extends UiPart<Region> {
      * Creates an {@code EventCode} with the given {@code Event} and index to display.
      */
     public EventCard(Event event, int displayedIndex) {
+        this(event, event, displayedIndex);
+    }
+
+    /**
+     * Creates an {@code EventCode} with the given {@code Event}, the occurrence of it to show the date and time of,
+     * and index to display.
+     */
+    public EventCard(Event event, Event shownOccurrence, int displayedIndex) {
         super(FXML);
 
         ImageView durationIcon = new ImageView("/images/duration_icon.png");
         durationIcon.setFitHeight(15);
         durationIcon.setFitWidth(15);
-        Label durationLabel = new Label(
-                DateTime.getDifferenceString(event.getStartDateTime(), event.getEndDateTime()));
+        Label durationLabel = new Label(event.getDurationString());
 
         ImageView dateTimeIcon = new ImageView("/images/dateTime_icon.png");
         dateTimeIcon.setFitHeight(15);
         dateTimeIcon.setFitWidth(15);
-        String dateString = String.format("%s - %s",
-                event.getStartDateTime().toString(),
-                event.getEndDateTime().toString());
-        Label dateTimeLabel = new Label(dateString);
+        Label dateTimeLabel = new Label(shownOccurrence.getDateTimeString()
+                + event.getRecurrence().map(recurrence -> ", repeats " + recurrence).orElse(""));
 
         this.event = event;
         id.setText(displayedIndex + ". ");
@@ -72,13 +76,12 @@ public class EventCard extends UiPart<Region> {
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
 
         List<Profile> attendeesList = event.getAttendeesList();
-        attendeesList.stream()
-                .forEach(attendee -> {
-                    int index = attendeesList.indexOf(attendee) + 1;
-                    attendees.getChildren().add(new Label(
-                            index + ". " + attendee.getName() + " ("
-                            + attendee.getPhone() + ")"));
-                });
+        for (int i = 0; i < attendeesList.size(); i++) {
+            Profile attendee = attendeesList.get(i);
+            attendees.getChildren().add(new Label(
+                    (i + 1) + ". " + attendee.getName() + " ("
+                    + attendee.getPhone() + ")"));
+        }
     }
 
     @Override
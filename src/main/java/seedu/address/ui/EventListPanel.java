@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -23,11 +24,15 @@ public class EventListPanel extends UiPart<Region> {
     @FXML
     private ListView<Event> eventListView;
 
+    private final UnaryOperator<Event> shownOccurrence;
+
     /**
-     * Creates a {@code EventListPanel} with the given {@code ObservableList}.
+     * Creates a {@code EventListPanel} with the given {@code ObservableList}, where {@code shownOccurrence} gives the
+     * occurrence each event is shown for.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, UnaryOperator<Event> shownOccurrence) {
         super(FXML);
+        this.shownOccurrence = shownOccurrence;
         eventListTitle.setText("Events");
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell());
@@ -45,7 +50,7 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                setGraphic(new EventCard(event, shownOccurrence.apply(event), getIndex() + 1).getRoot());
             }
         }
     }
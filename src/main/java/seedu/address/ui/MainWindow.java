@@ -133,7 +133,7 @@ public class MainWindow extends UiPart<Stage> {
         profileListPanel = new ProfileListPanel(logic.getFilteredProfileList());
         profileListPanelPlaceholder.getChildren().add(profileListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic::getShownOccurrence);
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
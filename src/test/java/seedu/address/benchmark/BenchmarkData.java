@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.profile.Profile;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ProfileBuilder;
+
+/**
+ * Generates the data the benchmarks run on.
+ */
+class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} profiles with distinct names, emails, phones and telegrams, numbered from {@code from}.
+     */
+    static List<Profile> profiles(int from, int count) {
+        List<Profile> profiles = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            profiles.add(new ProfileBuilder().withName("Person " + i).withEmail("p" + i + "@u.nus.edu")
+                    .withPhone(String.valueOf(80_000_000 + i)).withTelegram("user" + i).build());
+        }
+        return profiles;
+    }
+
+    /**
+     * Returns {@code count} profiles as {@link #profiles} does, each tagged with one of 200 module codes and
+     * either or both of two shared tags.
+     */
+    static List<Profile> taggedProfiles(int count) {
+        List<Profile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            profiles.add(new ProfileBuilder().withName("Person " + i).withEmail("p" + i + "@u.nus.edu")
+                    .withPhone(String.valueOf(80_000_000 + i)).withTelegram("user" + i)
+                    .withTags(tagsFor(i)).build());
+        }
+        return profiles;
+    }
+
+    /**
+     * Returns {@code count} events as {@link #events} does, tagged as {@link #taggedProfiles} tags profiles.
+     */
+    static List<Event> taggedEvents(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (Event event : events(0, count)) {
+            events.add(new EventBuilder(event).withTags(tagsFor(events.size())).withAttendees().build());
+        }
+        return events;
+    }
+
+    private static String[] tagsFor(int i) {
+        String moduleCode = "CS" + (2000 + i % 200);
+        switch (i % 3) {
+        case 0:
+            return new String[] {moduleCode, "friends"};
+        case 1:
+            return new String[] {moduleCode, "tutorial"};
+        default:
+            return new String[] {moduleCode, "friends", "tutorial"};
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct events without attendees, numbered from {@code from}, spread over the days of
+     * 2023 and the hours of the day.
+     */
+    static List<Event> events(int from, int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            int day = 1 + i % 28;
+            int month = 1 + (i / 28) % 12;
+            int hour = i % 23;
+            events.add(new EventBuilder().withTitle("Event " + i)
+                    .withStartDateTime(String.format("%02d/%02d/2023 %02d:00", day, month, hour))
+                    .withEndDateTime(String.format("%02d/%02d/2023 %02d:30", day, month, hour + 1))
+                    .withAttendees().build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs the benchmarks named in the arguments, or every benchmark if none are named.
+ * Run with {@code gradlew benchmark}, or {@code gradlew benchmark --args="<name>..."} for some of them.
+ */
+public class Benchmarks {
+
+    private static final Map<String, Runnable> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        BENCHMARKS.put("datetime", DateTimeParseBenchmark::run);
+        BENCHMARKS.put("filter", EventFilterBenchmark::run);
+        BENCHMARKS.put("profile-add", ProfileAddBenchmark::run);
+        BENCHMARKS.put("validate", BulkValidationBenchmark::run);
+        BENCHMARKS.put("sort-hash", SortAndHashBenchmark::run);
+        BENCHMARKS.put("tag-heap", TagHeapBenchmark::run);
+    }
+
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 21;
+    private static final int HEAP_MEASUREMENTS = 3;
+    private static final int GC_PASSES = 3;
+
+    // Results are accumulated here so that the work being timed cannot be optimised away
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        List<String> names = args.length == 0 ? List.copyOf(BENCHMARKS.keySet()) : Arrays.asList(args);
+        for (String name : names) {
+            Runnable benchmark = BENCHMARKS.get(name);
+            if (benchmark == null) {
+                throw new IllegalArgumentException("Unknown benchmark " + name + ", expected one of "
+                        + BENCHMARKS.keySet());
+            }
+            System.out.println("== " + name);
+            benchmark.run();
+        }
+    }
+
+    /**
+     * Returns the median time in nanoseconds that {@code round} takes per operation, where each round performs
+     * {@code operations} operations, after running some rounds to warm up.
+     */
+    static double nanosPerOperation(int operations, Round round) {
+        return nanosPerOperation(operations, () -> {}, round);
+    }
+
+    /**
+     * Returns the median time in nanoseconds that {@code round} takes per operation, as above, running
+     * {@code setUp} untimed before every round.
+     */
+    static double nanosPerOperation(int operations, Runnable setUp, Round round) {
+        return nanosPerOperation(operations, WARMUP_ROUNDS, MEASURED_ROUNDS, setUp, round);
+    }
+
+    /**
+     * Returns the median time in nanoseconds that {@code round} takes per operation over {@code measuredRounds}
+     * rounds, after {@code warmupRounds} rounds, for rounds too slow to run the usual number of times.
+     */
+    static double nanosPerOperation(int operations, int warmupRounds, int measuredRounds, Round round) {
+        return nanosPerOperation(operations, warmupRounds, measuredRounds, () -> {}, round);
+    }
+
+    private static double nanosPerOperation(int operations, int warmupRounds, int measuredRounds, Runnable setUp,
+            Round round) {
+        for (int i = 0; i < warmupRounds; i++) {
+            setUp.run();
+            sink += round.run();
+        }
+        long[] times = new long[measuredRounds];
+        for (int i = 0; i < measuredRounds; i++) {
+            setUp.run();
+            long start = System.nanoTime();
+            sink += round.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return (double) times[measuredRounds / 2] / operations;
+    }
+
+    /**
+     * Returns the median growth in the used heap, after collecting garbage, over a few runs of keeping what
+     * {@code allocation} returns, which is the heap it retains give or take what the collector leaves behind.
+     */
+    static long retainedBytes(Supplier<Object> allocation) {
+        long[] growths = new long[HEAP_MEASUREMENTS];
+        for (int i = 0; i < HEAP_MEASUREMENTS; i++) {
+            growths[i] = heapGrowth(allocation);
+        }
+        Arrays.sort(growths);
+        return growths[HEAP_MEASUREMENTS / 2];
+    }
+
+    // Measured in its own call, so that nothing retained by one measurement is still reachable in the next
+    private static long heapGrowth(Supplier<Object> allocation) {
+        long before = usedHeapAfterGc();
+        Object retained = allocation.get();
+        long after = usedHeapAfterGc();
+        sink += retained.hashCode();
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_PASSES; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static void report(String name, double nanosPerOperation) {
+        System.out.printf("%-60s %12.1f ns/op%n", name, nanosPerOperation);
+    }
+
+    static void reportRatio(String name, double ratio) {
+        System.out.printf("%-60s %12.1fx%n", name, ratio);
+    }
+
+    /**
+     * A round of operations to be timed, which returns a value derived from its results.
+     */
+    @FunctionalInterface
+    interface Round {
+        long run();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.UniqueProfileList;
+
+/**
+ * Times checking 10,000 and 100,000 profiles and events for conflicts when a whole list is set, against comparing
+ * every pair of them, as setting a list used to.
+ */
+class BulkValidationBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    // Comparing every pair of 100,000 entries takes minutes, so it is only timed at the smaller size, over fewer rounds
+    private static final int LARGEST_PAIRWISE_SIZE = 10_000;
+    private static final int PAIRWISE_WARMUP_ROUNDS = 1;
+    private static final int PAIRWISE_MEASURED_ROUNDS = 3;
+
+    static void run() {
+        for (int size : SIZES) {
+            List<Profile> profiles = BenchmarkData.profiles(0, size);
+            List<Event> events = BenchmarkData.events(0, size);
+
+            double findSimilarProfiles = Benchmarks.nanosPerOperation(size, () ->
+                    UniqueProfileList.findSimilarProfiles(profiles).size());
+            double findDuplicateEvents = Benchmarks.nanosPerOperation(size, () ->
+                    UniqueEventList.findDuplicateEvents(events).size());
+            UniqueProfileList profileList = new UniqueProfileList();
+            double setProfiles = Benchmarks.nanosPerOperation(size, () -> {
+                profileList.setProfiles(profiles);
+                return profileList.asUnmodifiableObservableList().size();
+            });
+            UniqueEventList eventList = new UniqueEventList();
+            double setEvents = Benchmarks.nanosPerOperation(size, () -> {
+                eventList.setEvents(events);
+                return eventList.asUnmodifiableObservableList().size();
+            });
+            Benchmarks.report("findSimilarProfiles, " + size + " profiles", findSimilarProfiles);
+            Benchmarks.report("findDuplicateEvents, " + size + " events", findDuplicateEvents);
+            Benchmarks.report("setProfiles, " + size + " profiles", setProfiles);
+            Benchmarks.report("setEvents, " + size + " events", setEvents);
+
+            if (size <= LARGEST_PAIRWISE_SIZE) {
+                double pairwiseProfiles = Benchmarks.nanosPerOperation(size, PAIRWISE_WARMUP_ROUNDS,
+                        PAIRWISE_MEASURED_ROUNDS, () -> comparePairsOfProfiles(profiles));
+                double pairwiseEvents = Benchmarks.nanosPerOperation(size, PAIRWISE_WARMUP_ROUNDS,
+                        PAIRWISE_MEASURED_ROUNDS, () -> comparePairsOfEvents(events));
+                Benchmarks.report("pairwise profile check, " + size + " profiles", pairwiseProfiles);
+                Benchmarks.report("pairwise event check, " + size + " events", pairwiseEvents);
+                Benchmarks.reportRatio("speedup of findSimilarProfiles, " + size, pairwiseProfiles
+                        / findSimilarProfiles);
+                Benchmarks.reportRatio("speedup of findDuplicateEvents, " + size, pairwiseEvents
+                        / findDuplicateEvents);
+            }
+        }
+    }
+
+    private static long comparePairsOfProfiles(List<Profile> profiles) {
+        long conflicts = 0;
+        for (int i = 0; i < profiles.size() - 1; i++) {
+            Profile currentProfile = profiles.get(i);
+            for (int j = i + 1; j < profiles.size(); j++) {
+                Profile otherProfile = profiles.get(j);
+                if (currentProfile.isSameEmail(otherProfile) || currentProfile.isSamePhone(otherProfile)
+                        || currentProfile.isSameTelegramNotEmpty(otherProfile)) {
+                    conflicts++;
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    private static long comparePairsOfEvents(List<Event> events) {
+        long conflicts = 0;
+        for (int i = 0; i < events.size() - 1; i++) {
+            for (int j = i + 1; j < events.size(); j++) {
+                if (events.get(i).isSameEvent(events.get(j))) {
+                    conflicts++;
+                }
+            }
+        }
+        return conflicts;
+    }
+}
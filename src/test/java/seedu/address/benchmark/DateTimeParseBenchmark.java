@@ -0,0 +1,82 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.event.DateTime;
+import seedu.address.testutil.LegacyDateTimeParser;
+
+/**
+ * Times parsing datetime strings in every accepted format, against parsing them as {@code DateTime} used to.
+ */
+class DateTimeParseBenchmark {
+
+    private static final int INPUTS = 10_000;
+    private static final String[] MONTH_NAMES = {"jan", "Feb", "SEP", "march", "September"};
+
+    static void run() {
+        List<String> inputs = generateInputs(new Random(2103));
+        double current = Benchmarks.nanosPerOperation(INPUTS, () -> {
+            long result = 0;
+            for (String input : inputs) {
+                result += new DateTime(input).getEpochMinutes();
+            }
+            return result;
+        });
+        double legacy = Benchmarks.nanosPerOperation(INPUTS, () -> {
+            long result = 0;
+            for (String input : inputs) {
+                if (LegacyDateTimeParser.isValidDateTime(input)) {
+                    result += LegacyDateTimeParser.parseDate(input).toEpochDay()
+                            + LegacyDateTimeParser.parseTime(input).map(time -> time.toSecondOfDay()).orElse(0);
+                }
+            }
+            return result;
+        });
+        Benchmarks.report("new DateTime(String)", current);
+        Benchmarks.report("legacy parser", legacy);
+        Benchmarks.reportRatio("speedup", legacy / current);
+    }
+
+    /**
+     * Returns valid datetime strings spread evenly over the accepted formats: day or year first, '-' or '/',
+     * numeric or named months, with or without a year, and without a time, with a colon time or with a time
+     * without a colon.
+     */
+    private static List<String> generateInputs(Random random) {
+        List<String> inputs = new ArrayList<>(INPUTS);
+        for (int i = 0; i < INPUTS; i++) {
+            String separator = i % 2 == 0 ? "/" : "-";
+            int day = 1 + random.nextInt(28);
+            int month = 1 + random.nextInt(12);
+            String monthText = (i / 2) % 3 == 0 ? MONTH_NAMES[random.nextInt(MONTH_NAMES.length)] : "" + month;
+            String year = String.valueOf(1900 + random.nextInt(200));
+            String date;
+            switch ((i / 6) % 3) {
+            case 0:
+                date = day + separator + monthText + separator + year;
+                break;
+            case 1:
+                date = year + separator + monthText + separator + String.format("%02d", day);
+                break;
+            default:
+                date = String.format("%02d", day) + separator + monthText;
+                break;
+            }
+            String time = String.format("%02d:%02d", random.nextInt(24), random.nextInt(60));
+            switch ((i / 18) % 3) {
+            case 0:
+                inputs.add(date);
+                break;
+            case 1:
+                inputs.add(date + " " + time);
+                break;
+            default:
+                inputs.add(date + " " + time.replace(":", ""));
+                break;
+            }
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.ModelManager;
+import seedu.address.model.NuScheduler;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Times toggling the shown events between 10 title filters over 50,000 events, through the model's filtered list
+ * given the matches found by the title index, with and without the lookup in the index, against a
+ * {@code FilteredList} testing every event.
+ */
+class EventFilterBenchmark {
+
+    private static final int EVENTS = 50_000;
+    private static final int FILTERS = 10;
+    private static final int TOGGLES = FILTERS * 5;
+    private static final String[] WORDS =
+            {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel", "india", "juliet"};
+
+    static void run() {
+        NuScheduler nuScheduler = new NuScheduler();
+        List<Event> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            int day = 1 + i % 28;
+            int month = 1 + (i / 28) % 12;
+            int hour = i % 24;
+            events.add(new EventBuilder().withTitle(WORDS[i % 10] + " " + WORDS[(i / 10) % 10] + " x" + i)
+                    .withStartDateTime(String.format("%02d/%02d/2023 %02d:00", day, month, hour))
+                    .withEndDateTime(String.format("%02d/%02d/2023 %02d:30", day, month, hour))
+                    .withAttendees().build());
+        }
+        nuScheduler.setEvents(events);
+        ModelManager model = new ModelManager(nuScheduler, new UserPrefs());
+
+        List<TitleContainsKeywordsPredicate> narrowFilters = new ArrayList<>();
+        List<TitleContainsKeywordsPredicate> broadFilters = new ArrayList<>();
+        for (int i = 0; i < FILTERS; i++) {
+            // titles match keywords anywhere in a word, so only the five-digit suffixes match a single title
+            narrowFilters.add(new TitleContainsKeywordsPredicate(List.of("x" + (10_007 + i * 4_000))));
+            broadFilters.add(new TitleContainsKeywordsPredicate(List.of(WORDS[i])));
+        }
+        measure(model, narrowFilters, "1 match each");
+        measure(model, broadFilters, EVENTS / FILTERS + " matches each");
+    }
+
+    private static void measure(ModelManager model, List<TitleContainsKeywordsPredicate> filters, String label) {
+        List<List<Event>> matches = new ArrayList<>();
+        for (TitleContainsKeywordsPredicate filter : filters) {
+            matches.add(model.getEventsWithTitleContaining(filter.getKeywords()));
+        }
+        double view = Benchmarks.nanosPerOperation(TOGGLES, () -> {
+            long result = 0;
+            for (int i = 0; i < TOGGLES; i++) {
+                model.updateFilteredEventList(filters.get(i % FILTERS), matches.get(i % FILTERS));
+                result += model.getFilteredEventList().size();
+            }
+            return result;
+        });
+        double lookupAndView = Benchmarks.nanosPerOperation(TOGGLES, () -> {
+            long result = 0;
+            for (int i = 0; i < TOGGLES; i++) {
+                TitleContainsKeywordsPredicate filter = filters.get(i % FILTERS);
+                model.updateFilteredEventList(filter, model.getEventsWithTitleContaining(filter.getKeywords()));
+                result += model.getFilteredEventList().size();
+            }
+            return result;
+        });
+        FilteredList<Event> filteredList = new FilteredList<>(model.getNuScheduler().getEventList());
+        double predicate = Benchmarks.nanosPerOperation(TOGGLES, () -> {
+            long result = 0;
+            for (int i = 0; i < TOGGLES; i++) {
+                filteredList.setPredicate(filters.get(i % FILTERS));
+                result += filteredList.size();
+            }
+            return result;
+        });
+        Benchmarks.report("filtered list given matches, " + label, view);
+        Benchmarks.report("title index lookup and filtered list, " + label, lookupAndView);
+        Benchmarks.report("FilteredList with predicate, " + label, predicate);
+        Benchmarks.reportRatio("speedup of filtered list, " + label, predicate / view);
+        Benchmarks.reportRatio("speedup with lookup, " + label, predicate / lookupAndView);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.UniqueProfileList;
+
+/**
+ * Times adding profiles to lists of 1,000, 10,000 and 100,000 profiles, against checking each added profile's
+ * email, phone and telegram against every profile in the list, as adding used to.
+ */
+class ProfileAddBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int ADDED = 1_000;
+
+    static void run() {
+        for (int size : SIZES) {
+            UniqueProfileList list = new UniqueProfileList();
+            list.setProfiles(BenchmarkData.profiles(0, size));
+            List<Profile> added = BenchmarkData.profiles(size, ADDED);
+
+            double add = Benchmarks.nanosPerOperation(ADDED, () -> {
+                for (Profile profile : added) {
+                    if (list.contains(profile)) {
+                        list.remove(profile);
+                    }
+                }
+            }, () -> {
+                for (Profile profile : added) {
+                    list.add(profile);
+                }
+                return ADDED;
+            });
+            double linearChecks = Benchmarks.nanosPerOperation(ADDED, () -> {
+                long result = 0;
+                for (Profile profile : added) {
+                    for (Profile existing : list) {
+                        if (existing.isSameEmail(profile) || existing.isSamePhone(profile)
+                                || existing.isSameTelegramNotEmpty(profile)) {
+                            result++;
+                        }
+                    }
+                }
+                return result;
+            });
+            Benchmarks.report("add to " + size + " profiles", add);
+            Benchmarks.report("linear uniqueness checks against " + size + " profiles", linearChecks);
+        }
+    }
+}
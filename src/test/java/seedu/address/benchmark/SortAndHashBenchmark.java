@@ -0,0 +1,156 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Times sorting and hashing 50,000 profiles and events, against sorting and hashing the same values as they were
+ * before the sort keys and hash codes were cached: lowercasing names and titles on every comparison, parsing phone
+ * numbers on every comparison and hashing every field and tag on every call.
+ */
+class SortAndHashBenchmark {
+
+    private static final int ENTITIES = 50_000;
+
+    static void run() {
+        List<Profile> profiles = BenchmarkData.taggedProfiles(ENTITIES);
+        List<Event> events = BenchmarkData.taggedEvents(ENTITIES);
+        Collections.shuffle(profiles, new Random(2103));
+        Collections.shuffle(events, new Random(2103));
+
+        measure("profiles", profiles, Comparator.naturalOrder(), Profile::hashCode,
+                LegacyProfile::new, LegacyProfile.ORDER, LegacyProfile::hashCode);
+        measure("events", events, Comparator.naturalOrder(), Event::hashCode,
+                LegacyEvent::new, LegacyEvent.ORDER, LegacyEvent::hashCode);
+    }
+
+    private static <T, L> void measure(String label, List<T> entities, Comparator<? super T> order,
+            ToIntFunction<T> hash, Function<T, L> toLegacy, Comparator<? super L> legacyOrder,
+            ToIntFunction<L> legacyHash) {
+        List<L> legacyEntities = new ArrayList<>(entities.size());
+        entities.forEach(entity -> legacyEntities.add(toLegacy.apply(entity)));
+
+        double sort = Benchmarks.nanosPerOperation(entities.size(), () -> sort(entities, order));
+        double legacySort = Benchmarks.nanosPerOperation(entities.size(), () -> sort(legacyEntities, legacyOrder));
+        double hashing = Benchmarks.nanosPerOperation(entities.size(), () -> hashAll(entities, hash));
+        double legacyHashing = Benchmarks.nanosPerOperation(entities.size(), () -> hashAll(legacyEntities, legacyHash));
+        Benchmarks.report("sort " + label + ", per entity", sort);
+        Benchmarks.report("sort " + label + " as before, per entity", legacySort);
+        Benchmarks.reportRatio("speedup of sort, " + label, legacySort / sort);
+        Benchmarks.report("hash " + label + ", per entity", hashing);
+        Benchmarks.report("hash " + label + " as before, per entity", legacyHashing);
+        Benchmarks.reportRatio("speedup of hash, " + label, legacyHashing / hashing);
+    }
+
+    private static <T> long sort(List<T> entities, Comparator<? super T> order) {
+        List<T> sorted = new ArrayList<>(entities);
+        sorted.sort(order);
+        return sorted.get(0).hashCode();
+    }
+
+    private static <T> long hashAll(List<T> entities, ToIntFunction<T> hash) {
+        long result = 0;
+        for (T entity : entities) {
+            result += hash.applyAsInt(entity);
+        }
+        return result;
+    }
+
+    /**
+     * The fields of a profile, compared and hashed as {@code Profile} used to.
+     */
+    private static class LegacyProfile {
+        static final Comparator<LegacyProfile> ORDER = (first, second) -> {
+            int compareSpelling = first.name.toLowerCase().compareTo(second.name.toLowerCase());
+            if (compareSpelling == 0) {
+                compareSpelling = first.name.compareTo(second.name);
+            }
+            if (compareSpelling != 0) {
+                return compareSpelling;
+            }
+            return Long.valueOf(Long.parseLong(first.phone)).compareTo(Long.parseLong(second.phone));
+        };
+
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final Set<Tag> tags;
+
+        LegacyProfile(Profile profile) {
+            name = profile.getName().fullName;
+            phone = profile.getPhone().value;
+            email = profile.getEmail().value;
+            tags = new HashSet<>(profile.getTags());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email, tags);
+        }
+    }
+
+    /**
+     * The fields of an event, compared and hashed as {@code Event} used to.
+     */
+    private static class LegacyEvent {
+        static final Comparator<LegacyEvent> ORDER = (first, second) -> {
+            int compareValue = compareDateTimes(first.startDate, first.startTime, second.startDate, second.startTime);
+            if (compareValue == 0) {
+                compareValue = compareDateTimes(first.endDate, first.endTime, second.endDate, second.endTime);
+            }
+            if (compareValue == 0) {
+                compareValue = first.title.toLowerCase().compareTo(second.title.toLowerCase());
+            }
+            return compareValue;
+        };
+
+        private final String title;
+        private final LocalDate startDate;
+        private final Optional<LocalTime> startTime;
+        private final LocalDate endDate;
+        private final Optional<LocalTime> endTime;
+        private final Set<Tag> tags;
+
+        LegacyEvent(Event event) {
+            title = event.getTitle().title;
+            startDate = event.getStartDateTime().getDate();
+            startTime = event.getStartDateTime().getTime();
+            endDate = event.getEndDateTime().getDate();
+            endTime = event.getEndDateTime().getTime();
+            tags = new HashSet<>(event.getTags());
+        }
+
+        private static int compareDateTimes(LocalDate date, Optional<LocalTime> time, LocalDate otherDate,
+                Optional<LocalTime> otherTime) {
+            int compareValue = date.compareTo(otherDate);
+            if (compareValue != 0 || time.isEmpty() && otherTime.isEmpty()) {
+                return compareValue;
+            }
+            if (time.isPresent() && otherTime.isPresent()) {
+                return time.get().compareTo(otherTime.get());
+            }
+            return time.isPresent() ? 1 : -1;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, startDate.hashCode() ^ startTime.hashCode(),
+                    endDate.hashCode() ^ endTime.hashCode(), tags);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Measures the heap retained by the tags of 50,000 profiles, kept in interned tag sets, against keeping them as
+ * profiles used to: a {@code HashSet} of tags made afresh from the parsed tag names of each profile.
+ */
+class TagHeapBenchmark {
+
+    private static final int PROFILES = 50_000;
+    private static final double BYTES_PER_MEBIBYTE = 1024 * 1024;
+
+    static void run() {
+        List<List<String>> tagNames = new ArrayList<>(PROFILES);
+        for (Profile profile : BenchmarkData.taggedProfiles(PROFILES)) {
+            List<String> names = new ArrayList<>();
+            profile.getTags().forEach(tag -> names.add(tag.tagName));
+            tagNames.add(names);
+        }
+
+        long interned = Benchmarks.retainedBytes(() -> {
+            List<Set<Tag>> tagSets = new ArrayList<>(PROFILES);
+            for (List<String> names : tagNames) {
+                List<Tag> tags = new ArrayList<>(names.size());
+                names.forEach(name -> tags.add(new Tag(new String(name))));
+                tagSets.add(TagSet.of(tags));
+            }
+            return tagSets;
+        });
+        long fresh = Benchmarks.retainedBytes(() -> {
+            List<Set<Tag>> tagSets = new ArrayList<>(PROFILES);
+            for (List<String> names : tagNames) {
+                Set<Tag> tags = new HashSet<>();
+                names.forEach(name -> tags.add(new Tag(new String(name))));
+                tagSets.add(tags);
+            }
+            return tagSets;
+        });
+        System.out.printf("%-60s %12.2f MiB%n", "interned tag sets of " + PROFILES + " profiles",
+                interned / BYTES_PER_MEBIBYTE);
+        System.out.printf("%-60s %12.2f MiB%n", "fresh HashSets of tags of " + PROFILES + " profiles",
+                fresh / BYTES_PER_MEBIBYTE);
+        System.out.printf("%-60s %12.2f MiB%n", "heap saved", (fresh - interned) / BYTES_PER_MEBIBYTE);
+    }
+}
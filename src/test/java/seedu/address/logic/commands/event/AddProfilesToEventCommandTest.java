@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -13,6 +14,8 @@ import static seedu.address.testutil.TypicalNuScheduler.getTypicalNuScheduler;
 import static seedu.address.testutil.TypicalProfiles.ALICE;
 import static seedu.address.testutil.TypicalProfiles.BENSON;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -90,6 +93,24 @@ class AddProfilesToEventCommandTest {
         assertCommandSuccess(addProfilesToEventCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_lectureWithManyAttendees_allAttendeesAdded() throws Exception {
+        Model model = new ModelManager(new NuScheduler(), new UserPrefs());
+        Set<Index> profileIndexes = new HashSet<>();
+        for (int i = 1; i <= 800; i++) {
+            model.addProfile(new ProfileBuilder().withName(String.format("Student %03d", 801 - i))
+                    .withPhone(String.format("9%07d", i)).withEmail("student" + i + "@u.nus.edu").build());
+            profileIndexes.add(Index.fromOneBased(i));
+        }
+        model.addEvent(new EventBuilder().withTitle("Lecture").withAttendees().build());
+
+        new AddProfilesToEventCommand(INDEX_FIRST_EVENT, profileIndexes).execute(model);
+
+        List<Profile> attendees = model.getFilteredEventList().get(0).getAttendees().getAttendeesList();
+        assertEquals(800, attendees.size());
+        assertEquals(model.getFilteredProfileList().sorted(), attendees);
+    }
+
     @Test
     public void execute_invalidProfileIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredProfileList().size() + 1);
@@ -132,6 +153,51 @@ class AddProfilesToEventCommandTest {
         assertCommandFailure(addProfilesToEventCommand, model, Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_attendeeWithClashingEvent_clashesNoted() throws Exception {
+        Model model = createModelWithClashingEvents(new UserPrefs());
+        Event meeting = model.getFilteredEventList().get(INDEX_SECOND_EVENT.getZeroBased());
+        AddProfilesToEventCommand command = new AddProfilesToEventCommand(
+                INDEX_SECOND_EVENT, Set.of(INDEX_FIRST_PROFILE));
+
+        // the event shown in the message has Alice added as an attendee
+        String feedback = command.execute(model).getFeedbackToUser();
+        String expectedMessage = String.format(AddProfilesToEventCommand.MESSAGE_EDIT_ATTENDEES_SUCCESS, meeting)
+                + "\n" + String.format(EventCommand.MESSAGE_CLASHES,
+                        "Alice Pauline: Lecture (24/10/2022 10:00 - 24/10/2022 12:00)");
+        assertEquals(expectedMessage, feedback);
+    }
+
+    @Test
+    public void execute_attendeeWithClashingEventRejectingClashes_failure() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRejectingClashes(true);
+        Model model = createModelWithClashingEvents(userPrefs);
+        AddProfilesToEventCommand command = new AddProfilesToEventCommand(
+                INDEX_SECOND_EVENT, Set.of(INDEX_FIRST_PROFILE));
+
+        assertCommandFailure(command, model, String.format(EventCommand.MESSAGE_CLASHES_REJECTED,
+                "Alice Pauline: Lecture (24/10/2022 10:00 - 24/10/2022 12:00)"));
+    }
+
+    /**
+     * Returns a model with Alice attending a lecture, and a meeting clashing with the lecture.
+     */
+    private Model createModelWithClashingEvents(UserPrefs userPrefs) {
+        Model model = new ModelManager(new NuScheduler(), userPrefs);
+        Profile alice = new ProfileBuilder(ALICE).build();
+        Event lecture = new EventBuilder().withTitle("Lecture").withStartDateTime("24/10/2022 10:00")
+                .withEndDateTime("24/10/2022 12:00").withAttendees().build();
+        Event meeting = new EventBuilder().withTitle("Meeting").withStartDateTime("24/10/2022 11:00")
+                .withEndDateTime("24/10/2022 13:00").withAttendees().build();
+        model.addProfile(alice);
+        model.addEvent(lecture);
+        model.addEvent(meeting);
+        model.addEventToAttendees(lecture, List.of(alice));
+        model.addEventAttendees(lecture, List.of(alice));
+        return model;
+    }
+
     @Test
     public void equals() {
         AddProfilesToEventCommand addFirstProfile = new AddProfilesToEventCommand(
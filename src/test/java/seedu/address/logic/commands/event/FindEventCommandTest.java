@@ -12,8 +12,11 @@ import static seedu.address.testutil.TypicalEvents.PRACTICE;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
 import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -22,13 +25,20 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.DateTime;
+import seedu.address.model.event.EventTagsMatchPredicate;
 import seedu.address.model.event.StartDateTimeContainsDatePredicate;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.model.query.EventQueries;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TypicalNuScheduler;
 
 public class FindEventCommandTest {
-    private Model model = new ModelManager(TypicalNuScheduler.getTypicalNuScheduler(), new UserPrefs());
-    private Model expectedModel = new ModelManager(TypicalNuScheduler.getTypicalNuScheduler(), new UserPrefs());
+    private Model model = new ModelManager(TypicalNuScheduler.getTypicalNuSchedulerWithAttendance(),
+            new UserPrefs());
+    private Model expectedModel = new ModelManager(TypicalNuScheduler.getTypicalNuSchedulerWithAttendance(),
+            new UserPrefs());
 
     @Test
     public void equals() {
@@ -106,6 +116,59 @@ public class FindEventCommandTest {
         assertEquals(Arrays.asList(PRESENTATION, PRACTICE, PROBLEM_SET, DINNER), model.getFilteredEventList());
     }
 
+    @Test
+    public void execute_singleDate_multipleEventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        StartDateTimeContainsDatePredicate predicate = prepareDatePredicate("12/10/2022 12/10/2022");
+        FindEventCommand command = new FindEventCommand(predicate);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PROBLEM_SET, DINNER), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_dateWithoutEvents_noEventFound() {
+        StartDateTimeContainsDatePredicate predicate = prepareDatePredicate("13/10/2022");
+        FindEventCommand command = new FindEventCommand(predicate);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, MESSAGE_NO_MATCH, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_tagGroups_multipleEventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        EventTagsMatchPredicate predicate = new EventTagsMatchPredicate(Collections.singletonList(
+                Set.of(new Tag("CCA"), new Tag("RC"))));
+        FindEventCommand command = new FindEventCommand(predicate);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PRACTICE, DINNER), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_tagGroupsWithNoCommonEvent_noEventFound() {
+        EventTagsMatchPredicate predicate = new EventTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CCA")), Set.of(new Tag("RC"))));
+        FindEventCommand command = new FindEventCommand(predicate);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, MESSAGE_NO_MATCH, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_query_multipleEventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        Query<Event> query = Query.and(List.of(
+                EventQueries.date(LocalDate.of(2022, 10, 11), LocalDate.of(2022, 10, 12)),
+                Query.not(EventQueries.tag(new Tag("RC"))),
+                Query.or(List.of(EventQueries.attendee("alice"), EventQueries.title("practice")))));
+        FindEventCommand command = new FindEventCommand(query);
+        expectedModel.updateFilteredEventList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(PRESENTATION, PRACTICE), model.getFilteredEventList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code TitleContainsKeywordsPredicate}.
      */
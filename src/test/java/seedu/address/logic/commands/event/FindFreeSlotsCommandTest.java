@@ -0,0 +1,94 @@
+package seedu.address.logic.commands.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROFILE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PROFILE;
+import static seedu.address.testutil.TypicalNuScheduler.getTypicalNuScheduler;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.profile.FreeSlotFinder;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FindFreeSlotsCommand.
+ */
+public class FindFreeSlotsCommandTest {
+
+    private static final DateTime START = new DateTime("11/10/2022 08:00");
+    private static final DateTime END = new DateTime("11/10/2022 18:00");
+
+    private Model model = new ModelManager(getTypicalNuScheduler(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalNuScheduler(), new UserPrefs());
+
+    @Test
+    public void execute_profileIndexes_listsCommonFreeSlots() {
+        List<Profile> profiles = List.of(model.getFilteredProfileList().get(0), model.getFilteredProfileList().get(1));
+        List<TimeSlot> freeSlots = FreeSlotFinder.findCommonFreeSlots(profiles, START, END, 30);
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(FindFreeSlotsCommand.MESSAGE_FREE_SLOTS_FOUND, freeSlots.size(), 2));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            expectedMessage.append('\n').append(i + 1).append(". ").append(freeSlots.get(i));
+        }
+
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(
+                Set.of(INDEX_FIRST_PROFILE, INDEX_SECOND_PROFILE), Set.of(), START, END, 30);
+        assertCommandSuccess(command, model, expectedMessage.toString(), expectedModel);
+    }
+
+    @Test
+    public void execute_rangeLongerThanFreeSlots_noFreeSlots() {
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(
+                Set.of(INDEX_FIRST_PROFILE), Set.of(), START, END, 11 * 60);
+        assertCommandSuccess(command, model, String.format(FindFreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidProfileIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredProfileList().size() + 1);
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(Set.of(outOfBoundIndex), Set.of(), START, END, 30);
+        assertCommandFailure(command, model, Messages.MESSAGE_MULTIPLE_INVALID_PROFILE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_tagWithoutProfiles_failure() {
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(
+                Set.of(), Set.of(new Tag("nobodyHasThisTag")), START, END, 30);
+        assertCommandFailure(command, model, FindFreeSlotsCommand.MESSAGE_NO_PROFILES_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(Set.of(INDEX_FIRST_PROFILE), Set.of(), START, END, 30);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FindFreeSlotsCommand(Set.of(INDEX_FIRST_PROFILE), Set.of(), START, END, 30)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different profiles -> returns false
+        assertFalse(command.equals(new FindFreeSlotsCommand(Set.of(INDEX_SECOND_PROFILE), Set.of(), START, END, 30)));
+
+        // different minimum duration -> returns false
+        assertFalse(command.equals(new FindFreeSlotsCommand(Set.of(INDEX_FIRST_PROFILE), Set.of(), START, END, 60)));
+    }
+}
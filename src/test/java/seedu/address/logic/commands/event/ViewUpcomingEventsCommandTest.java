@@ -13,6 +13,7 @@ import static seedu.address.logic.commands.event.ViewUpcomingEventsCommand.MESSA
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.StartDateWithinTimeFramePredicate;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TypicalNuScheduler;
@@ -97,4 +99,35 @@ public class ViewUpcomingEventsCommandTest {
         assertCommandSuccess(command, model, successMessage, expectedModel);
         assertEquals(Arrays.asList(firstNewEvent, secondNewEvent), model.getFilteredEventList());
     }
+
+    @Test
+    public void execute_recurringEventWithUpcomingOccurrence_eventFound() {
+        ViewUpcomingEventsCommand command = new ViewUpcomingEventsCommand(ONE_DAY, firstPredicate);
+        String sixDaysAgo = LocalDate.now().minusDays(6).toString();
+        Event weeklyEvent = new EventBuilder().withStartDateTime(sixDaysAgo + " 10:00")
+                .withEndDateTime(sixDaysAgo + " 11:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 2, Set.of())).build();
+        model.addEvent(weeklyEvent);
+        expectedModel.addEvent(weeklyEvent);
+        expectedModel.updateFilteredEventList(firstPredicate);
+        assertCommandSuccess(command, model, MESSAGE_SUCCESS_SINGLE_EVENT
+                + MESSAGE_SUCCESS_TOMORROW, expectedModel);
+        assertEquals(Arrays.asList(weeklyEvent), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_manyDays_farEventFound() {
+        int days = 100000;
+        StartDateWithinTimeFramePredicate predicate =
+                new StartDateWithinTimeFramePredicate(currentDate, currentDate.plusDays(days));
+        ViewUpcomingEventsCommand command = new ViewUpcomingEventsCommand(days, predicate);
+        String farDay = LocalDate.now().plusDays(days).toString();
+        Event farEvent = new EventBuilder().withStartDateTime(farDay).withEndDateTime(farDay).build();
+        model.addEvent(farEvent);
+        expectedModel.addEvent(farEvent);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, MESSAGE_SUCCESS_SINGLE_EVENT
+                + String.format(MESSAGE_SUCCESS_UPCOMING_DAYS, days), expectedModel);
+        assertEquals(Arrays.asList(farEvent), model.getFilteredEventList());
+    }
 }
@@ -7,12 +7,17 @@ import static seedu.address.commons.core.Messages.MESSAGE_PROFILES_LISTED_OVERVI
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.profile.FindProfileCommand.MESSAGE_NO_MATCH;
 import static seedu.address.logic.commands.profile.FindProfileCommand.MESSAGE_PROFILE_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalProfiles.ALICE;
+import static seedu.address.testutil.TypicalProfiles.BENSON;
 import static seedu.address.testutil.TypicalProfiles.CARL;
+import static seedu.address.testutil.TypicalProfiles.DANIEL;
 import static seedu.address.testutil.TypicalProfiles.ELLE;
 import static seedu.address.testutil.TypicalProfiles.FIONA;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +25,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.profile.ProfileTagsMatchPredicate;
+import seedu.address.model.query.ProfileQueries;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TypicalNuScheduler;
 
 /**
@@ -94,6 +104,38 @@ public class FindProfileCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredProfileList());
     }
 
+    @Test
+    public void execute_singleTagGroup_multipleProfilesFound() {
+        String expectedMessage = String.format(MESSAGE_PROFILES_LISTED_OVERVIEW, 3);
+        ProfileTagsMatchPredicate predicate = new ProfileTagsMatchPredicate(Collections.singletonList(
+                Set.of(new Tag("friends"), new Tag("owesMoney"))));
+        FindProfileCommand command = new FindProfileCommand(predicate);
+        expectedModel.updateFilteredProfileList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredProfileList());
+    }
+
+    @Test
+    public void execute_multipleTagGroups_singleProfileFound() {
+        ProfileTagsMatchPredicate predicate = new ProfileTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("friends")), Set.of(new Tag("owesMoney"))));
+        FindProfileCommand command = new FindProfileCommand(predicate);
+        expectedModel.updateFilteredProfileList(predicate);
+        assertCommandSuccess(command, model, MESSAGE_PROFILE_LISTED_OVERVIEW, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredProfileList());
+    }
+
+    @Test
+    public void execute_query_multipleProfilesFound() {
+        String expectedMessage = String.format(MESSAGE_PROFILES_LISTED_OVERVIEW, 2);
+        Query<Profile> query = Query.and(List.of(ProfileQueries.tag(new Tag("friends")),
+                Query.not(ProfileQueries.name("alice")), ProfileQueries.emailDomain("u.nus.edu")));
+        FindProfileCommand command = new FindProfileCommand(query);
+        expectedModel.updateFilteredProfileList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredProfileList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
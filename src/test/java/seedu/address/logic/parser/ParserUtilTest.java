@@ -174,6 +174,18 @@ public class ParserUtilTest {
         assertEquals(expectedDateTime, ParserUtil.parseDateTime(dateTimeWithWhitespace));
     }
 
+    @Test
+    public void parseMinutes_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MINUTES, () -> ParserUtil.parseMinutes("0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_MINUTES_GREATER_THAN_MAX, ()
+                -> ParserUtil.parseMinutes(String.valueOf(ParserUtil.MAX_MINUTES + 1)));
+    }
+
+    @Test
+    public void parseMinutes_validValueWithWhitespace_returnsMinutes() throws Exception {
+        assertEquals(90, ParserUtil.parseMinutes(WHITESPACE + "90" + WHITESPACE));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTag(null));
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Event;
+import seedu.address.model.query.EventQueries;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+public class QueryParserTest {
+
+    private static final Query<Event> TITLE_A = EventQueries.title("a");
+    private static final Query<Event> TITLE_B = EventQueries.title("b");
+    private static final Query<Event> TAG_C = EventQueries.tag(new Tag("c"));
+
+    private final QueryParser<Event> parser = new QueryParser<>(Map.of(
+            "title", EventQueries::title,
+            "tag", value -> EventQueries.tag(ParserUtil.parseTag(value))));
+
+    @Test
+    public void parse_singleTerm_success() throws Exception {
+        assertEquals(TITLE_A, parser.parse("title:a"));
+
+        // field is case-insensitive, whitespace is trimmed
+        assertEquals(TITLE_A, parser.parse("  TITLE:a  "));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        Query<Event> expected = Query.or(List.of(TITLE_A, Query.and(List.of(TITLE_B, Query.not(TAG_C)))));
+        assertEquals(expected, parser.parse("title:a OR title:b AND NOT tag:c"));
+
+        // operators are case-insensitive
+        assertEquals(expected, parser.parse("title:a or title:b and not tag:c"));
+    }
+
+    @Test
+    public void parse_parentheses_overridePrecedence() throws Exception {
+        Query<Event> expected = Query.and(List.of(Query.or(List.of(TITLE_A, TITLE_B)), TAG_C));
+        assertEquals(expected, parser.parse("(title:a OR title:b) AND tag:c"));
+
+        // parentheses need not be separated by whitespace
+        assertEquals(expected, parser.parse("(title:a OR title:b)AND tag:c"));
+
+        // nested negation
+        assertEquals(Query.not(Query.not(TITLE_A)), parser.parse("NOT (NOT title:a)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, QueryParser.MESSAGE_EMPTY_QUERY, () -> parser.parse("  "));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse("title:a AND"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse("(title:a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                parser.parse("title:a)"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "title:b"), () ->
+                parser.parse("title:a title:b"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "AND"), () ->
+                parser.parse("AND title:a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_TERM, "title:"), () ->
+                parser.parse("title:"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_TERM, "a"), () ->
+                parser.parse("a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNKNOWN_FIELD, "name", "tag, title"),
+                () -> parser.parse("name:a"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> parser.parse("tag:a-b"));
+    }
+}
@@ -24,11 +24,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import static seedu.address.testutil.TypicalEvents.PRACTICE;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
 
+import java.time.LocalDate;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.event.AddEventCommand;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.Recurrence.Frequency;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EventBuilder;
 
@@ -113,4 +118,43 @@ public class AddEventCommandParserTest {
                         + TAG_DESC_SWE + TAG_DESC_CCA,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddEventCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_recurrence_success() {
+        String eventDesc = TITLE_DESC_PRACTICE + START_DESC_PRACTICE + END_DESC_PRACTICE;
+
+        // number of times, with exceptions
+        Event expectedEvent = new EventBuilder(PRACTICE).withTags().withRecurrence(new Recurrence(Frequency.WEEKLY,
+                3, Set.of(LocalDate.of(2022, 10, 18), LocalDate.of(2022, 10, 25)))).build();
+        assertParseSuccess(parser, eventDesc + " r/Weekly c/3 x/18/10/2022 x/25-Oct-2022",
+                new AddEventCommand(expectedEvent));
+
+        // until date
+        expectedEvent = new EventBuilder(PRACTICE).withTags().withRecurrence(new Recurrence(Frequency.BIWEEKLY,
+                LocalDate.of(2022, 12, 31), Set.of())).build();
+        assertParseSuccess(parser, eventDesc + " r/biweekly u/31/12/2022", new AddEventCommand(expectedEvent));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String eventDesc = TITLE_DESC_PRACTICE + START_DESC_PRACTICE + END_DESC_PRACTICE;
+
+        // invalid frequency
+        assertParseFailure(parser, eventDesc + " r/daily c/3", Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+
+        // neither or both of until date and number of times
+        assertParseFailure(parser, eventDesc + " r/weekly", Recurrence.MESSAGE_END_CONSTRAINTS);
+        assertParseFailure(parser, eventDesc + " r/weekly u/31/12/2022 c/3", Recurrence.MESSAGE_END_CONSTRAINTS);
+
+        // invalid number of times
+        assertParseFailure(parser, eventDesc + " r/weekly c/0", Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        assertParseFailure(parser, eventDesc + " r/weekly c/" + (Recurrence.MAX_OCCURRENCES + 1),
+                Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+
+        // invalid exception date
+        assertParseFailure(parser, eventDesc + " r/weekly c/3 x/tomorrow", DateTime.MESSAGE_CONSTRAINTS);
+
+        // details without frequency
+        assertParseFailure(parser, eventDesc + " c/3", Recurrence.MESSAGE_NOT_REPEATING);
+    }
 }
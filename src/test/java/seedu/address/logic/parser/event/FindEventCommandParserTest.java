@@ -1,15 +1,24 @@
 package seedu.address.logic.parser.event;
 
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.event.FindEventCommandParser.MESSAGE_INVALID_DATE_RANGE;
 import static seedu.address.logic.parser.event.FindEventCommandParser.MESSAGE_MISSING_ARGS;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.event.FindEventCommand;
+import seedu.address.model.event.EventTagsMatchPredicate;
 import seedu.address.model.event.TitleContainsKeywordsPredicate;
+import seedu.address.model.query.EventQueries;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 
 public class FindEventCommandParserTest {
     private FindEventCommandParser parser = new FindEventCommandParser();
@@ -30,4 +39,48 @@ public class FindEventCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, "Presentation Practice", expectedFindCommand);
     }
+
+    @Test
+    public void parse_validTags_returnsFindCommand() {
+        FindEventCommand expectedFindCommand = new FindEventCommand(new EventTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T")), Set.of(new Tag("lecture"), new Tag("tutorial")))));
+        assertParseSuccess(parser, "t/CS2103T t/lec tut", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_keywordsAndTags_throwsParseException() {
+        assertParseFailure(parser, "Presentation t/CS2103T",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validQuery_returnsFindCommand() {
+        FindEventCommand expectedFindCommand = new FindEventCommand(Query.and(List.of(
+                Query.or(List.of(EventQueries.tag(new Tag("CS2103T")), EventQueries.title("dinner"))),
+                EventQueries.date(LocalDate.of(2022, 10, 11), LocalDate.of(2022, 10, 12)),
+                Query.not(EventQueries.attendee("alice")))));
+        assertParseSuccess(parser, "q/(tag:CS2103T OR title:dinner) AND date:11/10/2022..12-10-2022 "
+                + "AND NOT attendee:alice", expectedFindCommand);
+
+        // single date
+        assertParseSuccess(parser, "q/date:11/10/2022", new FindEventCommand(
+                EventQueries.date(LocalDate.of(2022, 10, 11), LocalDate.of(2022, 10, 11))));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        // query with keywords
+        assertParseFailure(parser, "Presentation q/title:dinner",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+
+        // query with tags
+        assertParseFailure(parser, "t/CS2103T q/title:dinner",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+
+        // reversed date range
+        assertParseFailure(parser, "q/date:12/10/2022..11/10/2022", MESSAGE_INVALID_DATE_RANGE);
+
+        // too many dates in range
+        assertParseFailure(parser, "q/date:11/10/2022..12/10/2022..13/10/2022", MESSAGE_INVALID_DATE_RANGE);
+    }
 }
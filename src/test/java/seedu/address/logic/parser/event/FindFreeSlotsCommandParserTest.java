@@ -0,0 +1,73 @@
+package seedu.address.logic.parser.event;
+
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_INVALID_START_END;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROFILE_FIRST;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROFILE_SECOND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROFILE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PROFILE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.event.FindFreeSlotsCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.tag.Tag;
+
+public class FindFreeSlotsCommandParserTest {
+    private static final String RANGE_DESC = " " + PREFIX_START_DATE + "24/10/2022 09:00 "
+            + PREFIX_END_DATE + "24/10/2022 18:00";
+    private static final String DURATION_DESC = " " + PREFIX_DURATION + "60";
+    private static final DateTime START = new DateTime("24/10/2022 09:00");
+    private static final DateTime END = new DateTime("24/10/2022 18:00");
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeSlotsCommand.MESSAGE_USAGE);
+
+    private FindFreeSlotsCommandParser parser = new FindFreeSlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindFreeSlotsCommand() {
+        // profile indexes
+        assertParseSuccess(parser, VALID_PROFILE_FIRST + VALID_PROFILE_SECOND + RANGE_DESC + DURATION_DESC,
+                new FindFreeSlotsCommand(Set.of(INDEX_FIRST_PROFILE, INDEX_SECOND_PROFILE), Set.of(),
+                        START, END, 60));
+
+        // tags
+        assertParseSuccess(parser, " " + PREFIX_TAG + "CS2103T" + RANGE_DESC + DURATION_DESC,
+                new FindFreeSlotsCommand(Set.of(), Set.of(new Tag("CS2103T")), START, END, 60));
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        // no range
+        assertParseFailure(parser, VALID_PROFILE_FIRST + DURATION_DESC, MESSAGE_INVALID_FORMAT);
+
+        // no duration
+        assertParseFailure(parser, VALID_PROFILE_FIRST + RANGE_DESC, MESSAGE_INVALID_FORMAT);
+
+        // no profiles or tags
+        assertParseFailure(parser, RANGE_DESC + DURATION_DESC, FindFreeSlotsCommand.MESSAGE_NO_PROFILES);
+
+        // preamble
+        assertParseFailure(parser, " 1" + VALID_PROFILE_FIRST + RANGE_DESC + DURATION_DESC, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        // end before start
+        assertParseFailure(parser, VALID_PROFILE_FIRST + " " + PREFIX_START_DATE + "24/10/2022 18:00 "
+                + PREFIX_END_DATE + "24/10/2022 09:00" + DURATION_DESC, MESSAGE_EVENTS_INVALID_START_END);
+
+        // zero minutes
+        assertParseFailure(parser, VALID_PROFILE_FIRST + RANGE_DESC + " " + PREFIX_DURATION + "0",
+                ParserUtil.MESSAGE_INVALID_MINUTES);
+    }
+}
@@ -32,6 +32,11 @@ public class ViewUpcomingEventsCommandParserTest {
 
         // multiple whitespaces
         assertParseSuccess(parser, "   1   ", expectedViewUpcomingEventsCommand);
+
+        // many days
+        final int manyDays = Integer.MAX_VALUE;
+        assertParseSuccess(parser, String.valueOf(manyDays), new ViewUpcomingEventsCommand(manyDays,
+                new StartDateWithinTimeFramePredicate(currentDate, currentDate.plusDays(manyDays))));
     }
 
     @Test
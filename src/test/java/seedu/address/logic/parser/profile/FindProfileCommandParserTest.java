@@ -1,15 +1,22 @@
 package seedu.address.logic.parser.profile;
 
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.logic.parser.profile.FindProfileCommandParser.MESSAGE_MISSING_KEYWORDS;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.profile.FindProfileCommand;
 import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.ProfileTagsMatchPredicate;
+import seedu.address.model.query.ProfileQueries;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 
 public class FindProfileCommandParserTest {
 
@@ -32,4 +39,43 @@ public class FindProfileCommandParserTest {
         assertParseSuccess(parser, "     Alice   Bob  ", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validTags_returnsFindCommand() {
+        FindProfileCommand expectedFindCommand = new FindProfileCommand(new ProfileTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101")), Set.of(new Tag("Y2")))));
+        assertParseSuccess(parser, "t/CS2103T CS2101 t/Y2", expectedFindCommand);
+
+        // multiple whitespaces between tags
+        assertParseSuccess(parser, "t/  CS2103T    CS2101  t/Y2  ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "t/CS2103T t/Y2*", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_keywordsAndTags_throwsParseException() {
+        assertParseFailure(parser, "Alice t/Y2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProfileCommand.MESSAGE_USAGE));
+    }
+
+
+    @Test
+    public void parse_validQuery_returnsFindCommand() {
+        FindProfileCommand expectedFindCommand = new FindProfileCommand(Query.or(List.of(
+                ProfileQueries.name("alice"),
+                Query.and(List.of(ProfileQueries.tag(new Tag("friends")),
+                        Query.not(ProfileQueries.emailDomain("u.nus.edu")))),
+                ProfileQueries.attending("dinner"))));
+        assertParseSuccess(parser, "q/name:alice OR tag:friends AND NOT email:u.nus.edu OR attending:dinner",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_queryAndKeywords_throwsParseException() {
+        assertParseFailure(parser, "Alice q/name:alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProfileCommand.MESSAGE_USAGE));
+    }
 }
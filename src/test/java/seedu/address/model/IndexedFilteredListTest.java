@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexedFilteredListTest {
+
+    private static final Predicate<String> FAILING_PREDICATE = element -> {
+        throw new AssertionError("Predicate should not be tested on " + element);
+    };
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+    private final IndexedFilteredList<String> view = new IndexedFilteredList<>(source);
+
+    @Test
+    public void constructor_showsEveryElement() {
+        assertEquals(List.of("a", "b", "c", "d", "e"), view);
+    }
+
+    @Test
+    public void setPredicate_showsPassingElements() {
+        view.setPredicate(element -> !element.equals("c"));
+        assertEquals(List.of("a", "b", "d", "e"), view);
+        assertEquals(3, view.getSourceIndex(2));
+        assertEquals(2, view.getViewIndex(3));
+        assertEquals(-1, view.getViewIndex(2));
+    }
+
+    @Test
+    public void setMatches_showsMatchesInSourceOrderWithoutTesting() {
+        view.setMatches(FAILING_PREDICATE, List.of("e", "b", "b", "z"));
+        assertEquals(List.of("b", "e"), view);
+    }
+
+    @Test
+    public void setMatches_reportsOnlyElementsEnteringOrLeaving() {
+        view.setMatches(FAILING_PREDICATE, List.of("a", "b", "d"));
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        view.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        });
+
+        view.setMatches(FAILING_PREDICATE, List.of("b", "c", "d", "e"));
+        assertEquals(List.of("b", "c", "d", "e"), view);
+        assertEquals(List.of("a"), removed);
+        assertEquals(List.of("c", "e"), added);
+    }
+
+    @Test
+    public void refresh_reportsPassingElementsAsReplacedByThemselves() {
+        view.setMatches(FAILING_PREDICATE, List.of("b", "c", "d"));
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        view.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                removed.addAll(c.getRemoved());
+                added.addAll(c.getAddedSubList());
+            }
+        });
+
+        view.refresh(element -> !element.equals("c"));
+        assertEquals(List.of("b", "c", "d"), view);
+        assertEquals(List.of("b", "d"), removed);
+        assertEquals(List.of("b", "d"), added);
+    }
+
+    @Test
+    public void sourceChanged_addedElements_testedWithPredicate() {
+        view.setMatches(element -> element.startsWith("b"), List.of("a", "d"));
+        source.add(1, "ab");
+        source.add(3, "bc");
+        assertEquals(List.of("a", "bc", "d"), view);
+        assertEquals(3, view.getSourceIndex(1));
+        assertEquals(5, view.getSourceIndex(2));
+    }
+
+    @Test
+    public void sourceChanged_removedElements_leaveView() {
+        view.setMatches(FAILING_PREDICATE, List.of("b", "d", "e"));
+        source.remove(1);
+        source.remove(0);
+        assertEquals(List.of("d", "e"), view);
+        assertEquals(1, view.getSourceIndex(0));
+    }
+
+    @Test
+    public void sourceChanged_elementReplacedWithItself_keepsMembership() {
+        view.setMatches(element -> false, List.of("b"));
+        source.set(1, source.get(1));
+        source.set(2, source.get(2));
+        assertEquals(List.of("b"), view);
+    }
+
+    @Test
+    public void sourceChanged_elementReplacedWithAnother_testedWithPredicate() {
+        view.setMatches(element -> element.startsWith("b"), List.of("b", "c"));
+        source.set(1, "ba");
+        source.set(2, "cc");
+        assertEquals(List.of("ba"), view);
+    }
+
+    @Test
+    public void sourceChanged_allElementsReplaced_keepsMembershipOfRemainingElements() {
+        view.setMatches(element -> element.equals("f"), List.of("b", "d"));
+        source.setAll(List.of("b", "c", "d", "f"));
+        assertEquals(List.of("b", "d", "f"), view);
+    }
+
+    @Test
+    public void sortedTreeListSource_matchesFoundAndChangesApplied() {
+        SortedTreeList<String> treeSource = new SortedTreeList<>(String::compareTo);
+        treeSource.reset(List.of("d", "b", "e", "a", "c"));
+        IndexedFilteredList<String> treeView = new IndexedFilteredList<>(treeSource);
+        treeView.setMatches(element -> element.length() == 2, List.of(treeSource.get(3), treeSource.get(1)));
+        assertEquals(List.of("b", "d"), treeView);
+
+        treeSource.insert("ba");
+        treeSource.replace(treeSource.get(4), "ca");
+        treeSource.delete(treeSource.get(1));
+        assertEquals(List.of("ba", "ca"), treeView);
+        assertEquals(1, treeView.getSourceIndex(0));
+        assertEquals(3, treeView.getSourceIndex(1));
+    }
+}
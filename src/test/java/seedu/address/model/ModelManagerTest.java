@@ -5,19 +5,31 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROFILES;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.PRACTICE;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
 import static seedu.address.testutil.TypicalProfiles.ALICE;
 import static seedu.address.testutil.TypicalProfiles.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.StartDateWithinTimeFramePredicate;
+import seedu.address.model.event.TitleContainsKeywordsPredicate;
 import seedu.address.model.profile.NameContainsKeywordsPredicate;
+import seedu.address.model.profile.Profile;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.NuSchedulerBuilder;
+import seedu.address.testutil.ProfileBuilder;
 
 public class ModelManagerTest {
 
@@ -147,6 +159,61 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
     }
 
+    @Test
+    public void updateFilteredProfileList_withMatchingProfiles_replacedProfilesTestedWithPredicate() {
+        modelManager.addProfile(ALICE);
+        modelManager.addProfile(BENSON);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        modelManager.updateFilteredProfileList(predicate, Arrays.asList(ALICE));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredProfileList());
+
+        Profile editedAlice = new ProfileBuilder(ALICE).withPhone("90001111").build();
+        modelManager.setProfile(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredProfileList());
+    }
+
+    @Test
+    public void updateFilteredEventList_withMatchingEvents_filtersByMatchingEvents() {
+        modelManager.addEvent(PRESENTATION);
+        modelManager.addEvent(PRACTICE);
+        TitleContainsKeywordsPredicate predicate = new TitleContainsKeywordsPredicate(Arrays.asList("Practice"));
+        modelManager.updateFilteredEventList(predicate, Collections.singletonList(PRACTICE));
+        assertEquals(Arrays.asList(PRACTICE), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void getShownOccurrence_upcomingEventsShown_returnsFirstOccurrenceInTimeFrame() {
+        // Mondays 3 to 31 October
+        Event weekly = new EventBuilder().withStartDateTime("03/10/2022 09:00").withEndDateTime("03/10/2022 11:00")
+                .withAttendees().withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 5, Set.of())).build();
+        modelManager.addEvent(weekly);
+        modelManager.addEvent(PRACTICE);
+        assertEquals(weekly, modelManager.getShownOccurrence(weekly));
+
+        modelManager.updateFilteredEventList(new StartDateWithinTimeFramePredicate(LocalDate.of(2022, 10, 14),
+                LocalDate.of(2022, 10, 28)));
+        assertEquals(Arrays.asList(weekly), modelManager.getFilteredEventList());
+        assertEquals(new DateTime("17/10/2022 09:00"), modelManager.getShownOccurrence(weekly).getStartDateTime());
+        assertEquals(PRACTICE, modelManager.getShownOccurrence(PRACTICE));
+    }
+
+    @Test
+    public void updateFilteredListsWithMatches_matchesGiven_predicateNeverTested() {
+        modelManager.addProfile(ALICE);
+        modelManager.addProfile(BENSON);
+        modelManager.addEvent(PRESENTATION);
+        modelManager.addEvent(PRACTICE);
+        // the matches are shown as they are, so the find commands do not test every element
+        modelManager.updateFilteredProfileList(profile -> {
+            throw new AssertionError("Predicate should not be tested on " + profile);
+        }, Arrays.asList(BENSON));
+        modelManager.updateFilteredEventList(event -> {
+            throw new AssertionError("Predicate should not be tested on " + event);
+        }, Collections.singletonList(PRESENTATION));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredProfileList());
+        assertEquals(Arrays.asList(PRESENTATION), modelManager.getFilteredEventList());
+    }
+
     @Test
     public void equals() {
         NuScheduler nuScheduler = new NuSchedulerBuilder().withProfile(ALICE).withProfile(BENSON).build();
@@ -1,14 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
 import seedu.address.model.profile.EventsAttending;
 import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
 
 /**
  * A default model stub that has all of the methods failing.
@@ -84,6 +89,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean hasEvent(Event event, Event excludedEvent) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Profile> getProfilesWithNameContaining(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Profile> getProfilesWithTags(List<Set<Tag>> tagGroups) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteProfile(Profile target) {
         throw new AssertionError("This method should not be called.");
@@ -140,18 +160,58 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Event> getEventsOverlapping(DateTime from, DateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsStartingWithin(DateTime from, DateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsStartingOn(LocalDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsWithTitleContaining(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsWithTags(List<Set<Tag>> tagGroups) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Event getShownOccurrence(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredProfileList(Predicate<Profile> predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredProfileList(Predicate<Profile> predicate, Collection<Profile> matchingProfiles) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredEventList(Predicate<Event> predicate, Collection<Event> matchingEvents) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
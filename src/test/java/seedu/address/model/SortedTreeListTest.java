@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class SortedTreeListTest {
+
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+
+    private final SortedTreeList<String> list = new SortedTreeList<>(BY_LENGTH);
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.reset(List.of("ccc", "a", "eeeee", "bb"));
+        list.addListener((ListChangeListener<String>) c -> {
+            while (c.next()) {
+                c.getRemoved().forEach(removed -> changes.add("-" + removed + "@" + c.getFrom()));
+                c.getAddedSubList().forEach(added -> changes.add("+" + added + "@" + c.getFrom()));
+            }
+        });
+    }
+
+    @Test
+    public void reset_sortsElements() {
+        assertEquals(List.of("a", "bb", "ccc", "eeeee"), list);
+        assertEquals(2, list.indexOf("ccc"));
+    }
+
+    @Test
+    public void reset_sameElementTwice_throwsIllegalArgumentException() {
+        String element = "dddd";
+        assertThrows(IllegalArgumentException.class, () -> list.reset(List.of(element, element)));
+        assertEquals(List.of("a", "bb", "ccc", "eeeee"), list);
+    }
+
+    @Test
+    public void insert_reportsSingleAddition() {
+        list.insert("dddd");
+        assertEquals(List.of("a", "bb", "ccc", "dddd", "eeeee"), list);
+        assertEquals(List.of("+dddd@3"), changes);
+    }
+
+    @Test
+    public void insert_equalElements_keptInInsertionOrder() {
+        list.insert("x");
+        list.insert("y");
+        assertEquals(List.of("a", "x", "y", "bb", "ccc", "eeeee"), list);
+    }
+
+    @Test
+    public void insert_elementInList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> list.insert(list.get(0)));
+    }
+
+    @Test
+    public void delete_reportsSingleRemoval() {
+        list.delete(list.get(1));
+        assertEquals(List.of("a", "ccc", "eeeee"), list);
+        assertEquals(List.of("-bb@1"), changes);
+    }
+
+    @Test
+    public void delete_elementNotInList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> list.delete("dddd"));
+    }
+
+    @Test
+    public void replace_replacementSortsAtSameIndex_reportsSingleReplacement() {
+        list.replace(list.get(1), "xy");
+        assertEquals(List.of("a", "xy", "ccc", "eeeee"), list);
+        assertEquals(List.of("-bb@1", "+xy@1"), changes);
+    }
+
+    @Test
+    public void replace_replacementSortsElsewhere_reportsRemovalAndAddition() {
+        list.replace(list.get(0), "dddd");
+        assertEquals(List.of("bb", "ccc", "dddd", "eeeee"), list);
+        assertEquals(List.of("-a@0", "+dddd@2"), changes);
+    }
+
+    @Test
+    public void replace_replacementTiesWithLaterInsertedPredecessor_movedAfterIt() {
+        String later = "dddd";
+        list.insert(later);
+        list.replace(list.get(4), "wxyz");
+        assertEquals(List.of("a", "bb", "ccc", "dddd", "wxyz"), list);
+        assertEquals(List.of("+dddd@3", "-eeeee@4", "+wxyz@4"), changes);
+
+        list.delete(later);
+        assertEquals(List.of("a", "bb", "ccc", "wxyz"), list);
+    }
+
+    @Test
+    public void replace_replacementTiesWithEarlierInsertedSuccessor_movedAfterIt() {
+        String earlier = list.get(2);
+        list.insert("zz");
+        list.replace(list.get(2), "xyz");
+        assertEquals(List.of("a", "bb", "ccc", "xyz", "eeeee"), list);
+
+        list.delete(earlier);
+        assertEquals(List.of("a", "bb", "xyz", "eeeee"), list);
+        assertEquals(2, list.indexOf("xyz"));
+    }
+
+    @Test
+    public void refresh_reportsReplacementWithItself() {
+        list.refresh(list.get(2));
+        assertEquals(List.of("-ccc@2", "+ccc@2"), changes);
+    }
+
+    @Test
+    public void modifyThroughList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("dddd"));
+    }
+
+    @Test
+    public void randomChanges_matchSortedList() {
+        Random random = new Random(2103);
+        SortedTreeList<String> treeList = new SortedTreeList<>(Comparator.naturalOrder());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                String element = Integer.toString(random.nextInt(500));
+                treeList.insert(element);
+                expected.add(element);
+            } else {
+                String element = expected.remove(random.nextInt(expected.size()));
+                treeList.delete(element);
+            }
+        }
+        expected.sort(Comparator.naturalOrder());
+        assertEquals(expected, treeList);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), treeList.get(i));
+        }
+    }
+}
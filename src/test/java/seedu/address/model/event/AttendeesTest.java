@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalProfiles.ALICE;
 import static seedu.address.testutil.TypicalProfiles.FIONA;
 import static seedu.address.testutil.TypicalProfiles.GEORGE;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -91,6 +92,58 @@ public class AttendeesTest {
         assertEquals(expectedAttendees, attendees);
     }
 
+    @Test
+    public void constructor_duplicateProfiles_keepsOneOfEach() {
+        Attendees attendeesWithDuplicates = new Attendees(List.of(GEORGE, FIONA, GEORGE));
+        assertEquals(List.of(FIONA, GEORGE), attendeesWithDuplicates.getAttendeesList());
+    }
+
+    @Test
+    public void addProfile_profilesOutOfOrder_keepsAttendeesSorted() {
+        attendees.addProfile(GEORGE);
+        attendees.addProfile(ALICE);
+        attendees.addProfile(FIONA);
+        attendees.addProfile(ALICE);
+        assertEquals(List.of(ALICE, FIONA, GEORGE), attendees.getAttendeesList());
+        assertEquals(GEORGE, attendees.getAttendee(2));
+    }
+
+    @Test
+    public void removeAttendee_profileWithSameNameAndPhone_removesOnlyEqualProfile() {
+        Profile editedFiona = new ProfileBuilder(FIONA).withTags(VALID_TAG_CCA).build();
+        attendees.addProfile(FIONA);
+        attendees.addProfile(editedFiona);
+        attendees.addProfile(GEORGE);
+
+        attendees.removeAttendee(FIONA);
+        assertFalse(attendees.hasAttendee(FIONA));
+        assertTrue(attendees.hasAttendee(editedFiona));
+        assertEquals(List.of(editedFiona, GEORGE), attendees.getAttendeesList());
+    }
+
+    @Test
+    public void addProfiles_manyProfilesOutOfOrder_keepsAttendeesSorted() {
+        List<Profile> profiles = new ArrayList<>();
+        for (int i = 800; i > 0; i--) {
+            profiles.add(new ProfileBuilder().withName(String.format("Student %03d", i))
+                    .withPhone(String.format("9%07d", i)).withEmail("student" + i + "@u.nus.edu").build());
+        }
+        attendees.addProfiles(profiles);
+        attendees.removeAttendees(profiles.subList(0, 400));
+
+        assertEquals(400, attendees.size());
+        for (int i = 0; i < 400; i++) {
+            assertEquals(profiles.get(799 - i), attendees.getAttendee(i));
+        }
+    }
+
+    @Test
+    public void removeAttendee_profileNotInList_noChange() {
+        attendees.addProfile(FIONA);
+        attendees.removeAttendee(GEORGE);
+        assertEquals(new Attendees(List.of(FIONA)), attendees);
+    }
+
     @Test
     public void getAttendee_existingAttendee_success() {
         attendees.addProfile(FIONA);
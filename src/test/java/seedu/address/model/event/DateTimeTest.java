@@ -5,13 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.LegacyDateTimeParser;
+
 public class DateTimeTest {
+    private static final long RANDOM_SEED = 2103;
+    private static final int RANDOM_TRIALS = 5000;
+
 
     @Test
     public void constructor_null_throwsNullPointerException() {
@@ -225,4 +235,145 @@ public class DateTimeTest {
         // With time compared to another without time (Different Date)
         assertEquals(new DateTime("21/02/2022 06:00").compareTo(new DateTime("22/02/2022")), -1);
     }
+
+    @Test
+    public void hashCode_equalDateTimes_sameHashCode() {
+        assertEquals(new DateTime("22/02/2022 06:00").hashCode(), new DateTime("22/02/2022 06:00").hashCode());
+        assertEquals(new DateTime("22/02/2022").hashCode(), new DateTime("22/02/2022").hashCode());
+    }
+
+    @Test
+    public void constructor_dateAndTime_equalsParsed() {
+        assertEquals(new DateTime("22/02/2022 06:00"),
+                new DateTime(LocalDate.of(2022, 2, 22), Optional.of(LocalTime.of(6, 0))));
+        assertEquals(new DateTime("22/02/2022"), new DateTime(LocalDate.of(2022, 2, 22), Optional.empty()));
+    }
+
+    @Test
+    public void getDateAndTime_randomDateTimes_returnsConstructedValues() {
+        Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < RANDOM_TRIALS; i++) {
+            LocalDate date = randomDate(random);
+            Optional<LocalTime> time = randomTime(random);
+            DateTime dateTime = new DateTime(date, time);
+            assertEquals(date, dateTime.getDate());
+            assertEquals(time, dateTime.getTime());
+            assertEquals(time.isPresent(), dateTime.hasTime());
+        }
+    }
+
+    @Test
+    public void compareTo_randomDateTimes_sameOrderAsDateThenTime() {
+        Comparator<DateTime> referenceOrder = Comparator.comparing(DateTime::getDate)
+                .thenComparing(DateTime::getTime, Comparator.comparing(
+                        time -> time.orElse(null), Comparator.nullsFirst(Comparator.naturalOrder())));
+        Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < RANDOM_TRIALS; i++) {
+            DateTime first = new DateTime(randomDate(random), randomTime(random));
+            DateTime second = random.nextBoolean()
+                    ? new DateTime(first.getDate(), randomTime(random))
+                    : new DateTime(randomDate(random), randomTime(random));
+            int expected = Integer.signum(referenceOrder.compare(first, second));
+            assertEquals(expected, first.compareTo(second));
+            assertEquals(-expected, second.compareTo(first));
+            assertEquals(expected == 0, first.equals(second));
+            if (first.hasTime() == second.hasTime()) {
+                assertEquals(expected <= 0, first.isBeforeOrEqual(second));
+            }
+        }
+    }
+
+    @Test
+    public void getDifferenceString_randomDateTimes_sameAsLocalDateTimeDifference() {
+        Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < RANDOM_TRIALS; i++) {
+            boolean hasTime = random.nextBoolean();
+            LocalDate startDate = randomDate(random);
+            DateTime start = new DateTime(startDate, hasTime ? randomTime(random, true) : Optional.empty());
+            DateTime end = new DateTime(startDate.plusDays(random.nextInt(400)),
+                    hasTime ? randomTime(random, true) : Optional.empty());
+            LocalDateTime startTime = start.getDate().atTime(start.getTime().orElse(LocalTime.MIDNIGHT));
+            LocalDateTime endTime = end.getDate().atTime(end.getTime().orElse(LocalTime.MIDNIGHT));
+            long days = ChronoUnit.DAYS.between(startTime, endTime) + (hasTime ? 0 : 1);
+            long hours = ChronoUnit.HOURS.between(startTime, endTime) % 24;
+            long minutes = ChronoUnit.MINUTES.between(startTime, endTime) % 60;
+            String expected = String.join(", ", Stream.of(
+                    days != 0 ? days + (days == 1 ? " day" : " days") : "",
+                    hours != 0 ? hours + (hours == 1 ? " hour" : " hours") : "",
+                    minutes != 0 ? minutes + (minutes == 1 ? " minute" : " minutes") : "")
+                    .filter(part -> !part.isEmpty()).toArray(String[]::new));
+            assertEquals(expected.isEmpty() ? "No Duration" : expected, DateTime.getDifferenceString(start, end));
+        }
+    }
+
+    @Test
+    public void constructor_randomStrings_sameOutcomeAsLegacyParser() {
+        Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < RANDOM_TRIALS * 10; i++) {
+            String dateTime = randomDateTimeString(random);
+            assertEquals(parseWithLegacyParser(dateTime), parse(dateTime), dateTime);
+        }
+    }
+
+    private static String parse(String dateTime) {
+        try {
+            DateTime parsed = new DateTime(dateTime);
+            return parsed.getDate() + " " + parsed.getTime();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private static String parseWithLegacyParser(String dateTime) {
+        if (!LegacyDateTimeParser.isValidDateTime(dateTime)) {
+            return IllegalArgumentException.class.getSimpleName();
+        }
+        try {
+            return LegacyDateTimeParser.parseDate(dateTime) + " " + LegacyDateTimeParser.parseTime(dateTime);
+        } catch (DateTimeParseException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Returns a datetime string from parts which are mostly, but not always, in a valid format with valid values.
+     */
+    private static String randomDateTimeString(Random random) {
+        String day = random.nextInt(8) > 0
+                ? pick(random, String.valueOf(random.nextInt(33)), String.format("%02d", random.nextInt(33)))
+                : pick(random, "", "123", "x");
+        String month = random.nextInt(8) > 0
+                ? pick(random, String.valueOf(random.nextInt(14)), String.format("%02d", random.nextInt(14)),
+                        "jan", "Feb", "SEP", "march", "September")
+                : pick(random, "sept", "abc", "ja", "", "123");
+        String year = random.nextInt(8) > 0
+                ? pick(random, String.format("%04d", random.nextInt(10000)), "2024")
+                : pick(random, "0000", "999", "12345", "");
+        String separator = random.nextInt(8) > 0 ? pick(random, "/", "-") : pick(random, ".", " ");
+        String date = random.nextBoolean()
+                ? day + separator + month + (random.nextInt(4) == 0 ? "" : separator + year)
+                : year + separator + month + separator + day;
+        String hours = random.nextInt(8) > 0 ? String.format("%02d", random.nextInt(26)) : pick(random, "24", "7");
+        String minutes = random.nextInt(8) > 0 ? String.format("%02d", random.nextInt(62)) : pick(random, "00", "5");
+        String time = random.nextInt(8) > 0
+                ? pick(random, "", " " + hours + ":" + minutes, " " + hours + minutes, "  " + hours + ":" + minutes)
+                : pick(random, hours + ":" + minutes, " " + hours + "-" + minutes, " :" + minutes);
+        return date + time;
+    }
+
+    private static String pick(Random random, String... choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return LocalDate.of(1, 1, 1).plusDays(random.nextInt(9999 * 365));
+    }
+
+    private static Optional<LocalTime> randomTime(Random random) {
+        return randomTime(random, random.nextBoolean());
+    }
+
+    private static Optional<LocalTime> randomTime(Random random, boolean hasTime) {
+        return hasTime ? Optional.of(LocalTime.of(random.nextInt(24), random.nextInt(60))) : Optional.empty();
+    }
 }
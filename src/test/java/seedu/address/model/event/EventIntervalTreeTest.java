@@ -0,0 +1,167 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONVENTION;
+import static seedu.address.testutil.TypicalEvents.DINNER;
+import static seedu.address.testutil.TypicalEvents.PRACTICE;
+import static seedu.address.testutil.TypicalEvents.PRESENTATION;
+import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
+import static seedu.address.testutil.TypicalEvents.TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventIntervalTreeTest {
+
+    private final EventIntervalTree tree = new EventIntervalTree();
+
+    @Test
+    public void add_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void getEventsOverlapping_nullRange_throwsNullPointerException() {
+        DateTime dateTime = new DateTime("11/10/2022 09:00");
+        assertThrows(NullPointerException.class, () -> tree.getEventsOverlapping(null, dateTime));
+        assertThrows(NullPointerException.class, () -> tree.getEventsOverlapping(dateTime, null));
+    }
+
+    @Test
+    public void getEventsOverlapping_emptyTree_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), tree.getEventsOverlapping(
+                new DateTime("01/01/2022"), new DateTime("31/12/2022")));
+    }
+
+    @Test
+    public void getEventsOverlapping_treeOverGivenEnds_usesGivenEnds() {
+        // DINNER taken to end a week after it starts
+        EventIntervalTree treeOverLongerEnds = new EventIntervalTree(event -> event == DINNER
+                ? event.getStartDateTime().plusDays(7).getEpochMinutes()
+                : event.getEndDateTime().getEndEpochMinutes());
+        treeOverLongerEnds.setAll(Arrays.asList(PRESENTATION, PRACTICE, DINNER));
+        assertEquals(Collections.singletonList(DINNER), treeOverLongerEnds.getEventsOverlapping(
+                new DateTime("18/10/2022 20:00"), new DateTime("18/10/2022 21:00")));
+        assertTrue(treeOverLongerEnds.remove(DINNER));
+        assertEquals(Collections.emptyList(), treeOverLongerEnds.getEventsOverlapping(
+                new DateTime("18/10/2022 20:00"), new DateTime("18/10/2022 21:00")));
+    }
+
+    @Test
+    public void getEventsOverlapping_rangeWithinEvent_returnsEvent() {
+        tree.setAll(Arrays.asList(PRESENTATION, PRACTICE, DINNER));
+        assertEquals(Collections.singletonList(DINNER), tree.getEventsOverlapping(
+                new DateTime("12/10/2022 20:00"), new DateTime("12/10/2022 21:00")));
+    }
+
+    @Test
+    public void getEventsOverlapping_rangeTouchingEvents_returnsEvents() {
+        tree.setAll(Arrays.asList(DINNER, PRESENTATION, PRACTICE, PROBLEM_SET));
+        assertEquals(Arrays.asList(PRESENTATION, PRACTICE), tree.getEventsOverlapping(
+                new DateTime("11/10/2022 10:00"), new DateTime("11/10/2022 13:00")));
+    }
+
+    @Test
+    public void getEventsOverlapping_rangeBetweenEvents_returnsEmptyList() {
+        tree.setAll(Arrays.asList(PRESENTATION, PRACTICE, PROBLEM_SET));
+        assertEquals(Collections.emptyList(), tree.getEventsOverlapping(
+                new DateTime("11/10/2022 10:01"), new DateTime("11/10/2022 12:59")));
+    }
+
+    @Test
+    public void getEventsOverlapping_eventEndingOnDateWithoutTime_overlapsWholeDay() {
+        Event allDayEvent = new EventBuilder().withTitle("Hackathon").withStartDateTime("10/10/2022")
+                .withEndDateTime("12/10/2022").build();
+        Event laterEvent = new EventBuilder().withTitle("Review").withStartDateTime("12/10/2022 10:00")
+                .withEndDateTime("12/10/2022 11:00").build();
+        tree.setAll(Arrays.asList(allDayEvent, PRACTICE));
+        assertTrue(allDayEvent.isOverlapping(laterEvent));
+        assertEquals(Collections.singletonList(allDayEvent), tree.getEventsOverlapping(
+                laterEvent.getStartDateTime(), laterEvent.getEndDateTime()));
+        assertEquals(Collections.singletonList(allDayEvent), allDayEvent.getOccurrencesOverlapping(
+                laterEvent.getStartDateTime(), laterEvent.getEndDateTime()));
+    }
+
+    @Test
+    public void getEventsStartingWithin_validRange_returnsEventsInOrder() {
+        tree.setAll(Arrays.asList(TUTORIAL, DINNER, CONVENTION, PRESENTATION, PRACTICE, PROBLEM_SET));
+        assertEquals(Arrays.asList(PRACTICE, PROBLEM_SET, DINNER), tree.getEventsStartingWithin(
+                new DateTime("11/10/2022 13:00"), new DateTime("12/10/2022 19:00")));
+        assertEquals(Arrays.asList(CONVENTION, TUTORIAL), tree.getEventsStartingWithin(
+                new DateTime("29/10/2022"), new DateTime("31/10/2022 23:59")));
+    }
+
+    @Test
+    public void getEventsStartingWithin_eventStartedBeforeRange_excludesEvent() {
+        tree.setAll(Arrays.asList(CONVENTION, TUTORIAL));
+        assertEquals(Collections.singletonList(TUTORIAL), tree.getEventsStartingWithin(
+                new DateTime("30/10/2022"), new DateTime("31/10/2022 23:59")));
+    }
+
+    @Test
+    public void remove_existingEvent_eventNoLongerReturned() {
+        tree.add(PRESENTATION);
+        tree.add(PRACTICE);
+        assertTrue(tree.remove(PRESENTATION));
+        assertEquals(1, tree.size());
+        assertEquals(Collections.singletonList(PRACTICE), tree.getEventsOverlapping(
+                new DateTime("11/10/2022"), new DateTime("11/10/2022 23:59")));
+    }
+
+    @Test
+    public void remove_eventNotInTree_returnsFalse() {
+        tree.add(PRESENTATION);
+        assertFalse(tree.remove(PRACTICE));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void getEventsOverlapping_manyEvents_matchesFullScan() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int startDay = 1 + (i * 7) % 28;
+            int endDay = Math.min(28, startDay + (i % 5));
+            int hour = 10 + i % 10;
+            events.add(new EventBuilder().withTitle("Event " + i)
+                    .withStartDateTime(String.format("%02d/10/2022 %02d:00", startDay, hour))
+                    .withEndDateTime(String.format("%02d/10/2022 %02d:30", endDay, hour)).build());
+        }
+        for (Event event : events) {
+            tree.add(event);
+        }
+        for (int i = 0; i < events.size(); i += 3) {
+            tree.remove(events.get(i));
+        }
+        List<Event> remaining = events.stream().filter(event -> events.indexOf(event) % 3 != 0)
+                .collect(Collectors.toList());
+        assertEquals(remaining.size(), tree.size());
+
+        for (int day = 1; day <= 28; day += 3) {
+            DateTime from = new DateTime(String.format("%02d/10/2022 12:00", day));
+            DateTime to = new DateTime(String.format("%02d/10/2022 15:00", Math.min(28, day + 2)));
+            List<Event> expectedOverlapping = remaining.stream()
+                    .filter(event -> event.getStartDateTime().compareTo(to) <= 0
+                            && event.getEndDateTime().getEndEpochMinutes() >= from.getEpochMinutes())
+                    .collect(Collectors.toList());
+            List<Event> expectedStarting = remaining.stream()
+                    .filter(event -> event.getStartDateTime().compareTo(from) >= 0
+                            && event.getStartDateTime().compareTo(to) <= 0)
+                    .collect(Collectors.toList());
+
+            assertEquals(expectedOverlapping.size(), tree.getEventsOverlapping(from, to).size());
+            assertTrue(tree.getEventsOverlapping(from, to).containsAll(expectedOverlapping));
+            assertEquals(expectedStarting.size(), tree.getEventsStartingWithin(from, to).size());
+            assertTrue(tree.getEventsStartingWithin(from, to).containsAll(expectedStarting));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EventBuilder;
+
+public class EventTagsMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        List<Set<Tag>> firstTagGroups = Collections.singletonList(Set.of(new Tag("first")));
+        List<Set<Tag>> secondTagGroups = Arrays.asList(Set.of(new Tag("first")), Set.of(new Tag("second")));
+
+        EventTagsMatchPredicate firstPredicate = new EventTagsMatchPredicate(firstTagGroups);
+        EventTagsMatchPredicate secondPredicate = new EventTagsMatchPredicate(secondTagGroups);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EventTagsMatchPredicate(firstTagGroups)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tagsMatchEveryGroup_returnsTrue() {
+        // One group, any tag
+        EventTagsMatchPredicate predicate = new EventTagsMatchPredicate(Collections.singletonList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101"))));
+        assertTrue(predicate.test(new EventBuilder().withTags("CS2101").build()));
+
+        // Multiple groups
+        predicate = new EventTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101")), Set.of(new Tag("Y2"))));
+        assertTrue(predicate.test(new EventBuilder().withTags("CS2103T", "Y2", "CCA").build()));
+    }
+
+    @Test
+    public void test_tagsDoNotMatchEveryGroup_returnsFalse() {
+        // Zero groups
+        EventTagsMatchPredicate predicate = new EventTagsMatchPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new EventBuilder().withTags("CS2103T").build()));
+
+        // One group not matched
+        predicate = new EventTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101")), Set.of(new Tag("Y2"))));
+        assertFalse(predicate.test(new EventBuilder().withTags("CS2103T", "CS2101").build()));
+    }
+}
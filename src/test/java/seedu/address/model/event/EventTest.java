@@ -1,6 +1,8 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_END_PRACTICE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_START_PRACTICE;
@@ -12,6 +14,10 @@ import static seedu.address.testutil.TypicalEvents.PRESENTATION;
 import static seedu.address.testutil.TypicalProfiles.AMY;
 import static seedu.address.testutil.TypicalProfiles.BOB;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.EventBuilder;
@@ -110,4 +116,150 @@ public class EventTest {
                 .withTitle(VALID_TITLE_PRACTICE).build();
         assertTrue(PRESENTATION.compareTo(editedPresentation) < 0);
     }
+
+    @Test
+    public void getDisplayStrings_returnsMemoizedStrings() {
+        Event event = new EventBuilder().withStartDateTime("01/09/2022 12:00")
+                .withEndDateTime("02/09/2022 13:30").build();
+        assertEquals("01/09/2022 12:00 - 02/09/2022 13:30", event.getDateTimeString());
+        assertEquals("1 day, 1 hour, 30 minutes", event.getDurationString());
+        assertSame(event.getDateTimeString(), event.getDateTimeString());
+        assertSame(event.getDurationString(), event.getDurationString());
+    }
+
+    @Test
+    public void isOverlapping() {
+        Event morning = new EventBuilder().withStartDateTime("24/10/2022 09:00")
+                .withEndDateTime("24/10/2022 12:00").build();
+
+        // overlapping times -> returns true
+        assertTrue(morning.isOverlapping(new EventBuilder().withStartDateTime("24/10/2022 11:59")
+                .withEndDateTime("24/10/2022 13:00").build()));
+
+        // touching times -> returns false
+        assertFalse(morning.isOverlapping(new EventBuilder().withStartDateTime("24/10/2022 12:00")
+                .withEndDateTime("24/10/2022 13:00").build()));
+
+        // end date without a time lasts the whole date -> returns true
+        assertTrue(morning.isOverlapping(new EventBuilder().withStartDateTime("23/10/2022")
+                .withEndDateTime("24/10/2022").build()));
+    }
+
+    @Test
+    public void getOccurrencesOverlapping_recurringEvent_returnsOccurrencesInRange() {
+        // Mondays 3, 10, 17, 24 and 31 October, skipping 17 October
+        Event weekly = new EventBuilder().withStartDateTime("03/10/2022 09:00").withEndDateTime("03/10/2022 11:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 5, Set.of(LocalDate.of(2022, 10, 17))))
+                .build();
+
+        List<Event> occurrences = weekly.getOccurrencesOverlapping(new DateTime("10/10/2022 10:00"),
+                new DateTime("24/10/2022 09:00"));
+        assertEquals(2, occurrences.size());
+        assertEquals(new DateTime("10/10/2022 09:00"), occurrences.get(0).getStartDateTime());
+        assertEquals(new DateTime("10/10/2022 11:00"), occurrences.get(0).getEndDateTime());
+        assertEquals(new DateTime("24/10/2022 09:00"), occurrences.get(1).getStartDateTime());
+
+        // occurrences share the id and details of the event, but do not repeat
+        assertEquals(weekly.getId(), occurrences.get(0).getId());
+        assertEquals(weekly.getTitle(), occurrences.get(0).getTitle());
+        assertSame(weekly.getAttendees(), occurrences.get(0).getAttendees());
+        assertFalse(occurrences.get(0).isRecurring());
+
+        // beyond the last occurrence -> no occurrences
+        assertTrue(weekly.getOccurrencesOverlapping(new DateTime("01/11/2022 00:00"),
+                new DateTime("31/12/2022 00:00")).isEmpty());
+
+        // every occurrence
+        assertEquals(4, weekly.getOccurrences().size());
+    }
+
+    @Test
+    public void getOccurrencesOverlapping_nonRecurringEvent_returnsEventItself() {
+        Event event = new EventBuilder().withStartDateTime("03/10/2022 09:00").withEndDateTime("03/10/2022 11:00")
+                .build();
+        assertEquals(List.of(event), event.getOccurrencesOverlapping(new DateTime("03/10/2022 11:00"),
+                new DateTime("03/10/2022 12:00")));
+        assertTrue(event.getOccurrencesOverlapping(new DateTime("03/10/2022 11:01"),
+                new DateTime("03/10/2022 12:00")).isEmpty());
+        assertEquals(List.of(event), event.getOccurrences());
+    }
+
+    @Test
+    public void hasOccurrenceStartingBetween() {
+        Event biweekly = new EventBuilder().withStartDateTime("03/10/2022").withEndDateTime("03/10/2022")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.BIWEEKLY, LocalDate.of(2022, 10, 31), Set.of()))
+                .build();
+
+        assertTrue(biweekly.hasOccurrenceStartingBetween(LocalDate.of(2022, 10, 17), LocalDate.of(2022, 10, 17)));
+        assertTrue(biweekly.hasOccurrenceStartingBetween(LocalDate.of(2022, 10, 25), LocalDate.of(2022, 11, 30)));
+        assertFalse(biweekly.hasOccurrenceStartingBetween(LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 10)));
+        assertFalse(biweekly.hasOccurrenceStartingBetween(LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30)));
+        assertFalse(biweekly.hasOccurrenceStartingBetween(LocalDate.of(2022, 10, 17), LocalDate.of(2022, 10, 3)));
+    }
+
+    @Test
+    public void hasOccurrence() {
+        // Mondays 3, 10 and 17 October, skipping 10 October
+        Event weekly = new EventBuilder().withStartDateTime("03/10/2022 09:00").withEndDateTime("03/10/2022 11:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of(LocalDate.of(2022, 10, 10))))
+                .build();
+
+        assertTrue(weekly.hasOccurrence(new DateTime("03/10/2022 09:00"), new DateTime("03/10/2022 11:00")));
+        assertTrue(weekly.hasOccurrence(new DateTime("17/10/2022 09:00"), new DateTime("17/10/2022 11:00")));
+        // skipped, after the last occurrence, or a different time -> false
+        assertFalse(weekly.hasOccurrence(new DateTime("10/10/2022 09:00"), new DateTime("10/10/2022 11:00")));
+        assertFalse(weekly.hasOccurrence(new DateTime("24/10/2022 09:00"), new DateTime("24/10/2022 11:00")));
+        assertFalse(weekly.hasOccurrence(new DateTime("17/10/2022 09:00"), new DateTime("17/10/2022 12:00")));
+        assertFalse(weekly.hasOccurrence(new DateTime("17/10/2022 10:00"), new DateTime("17/10/2022 12:00")));
+
+        assertTrue(PRACTICE.hasOccurrence(PRACTICE.getStartDateTime(), PRACTICE.getEndDateTime()));
+        assertFalse(PRACTICE.hasOccurrence(PRACTICE.getStartDateTime(), PRACTICE.getStartDateTime()));
+    }
+
+    @Test
+    public void sharesOccurrenceWith() {
+        // Mondays 3 to 31 October, and every other Monday from 17 October
+        Event weekly = new EventBuilder().withStartDateTime("03/10/2022 09:00").withEndDateTime("03/10/2022 11:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 5, Set.of())).build();
+        Event biweekly = new EventBuilder(weekly).withStartDateTime("17/10/2022 09:00")
+                .withEndDateTime("17/10/2022 11:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.BIWEEKLY, 3, Set.of())).build();
+        Event onFourthMonday = new EventBuilder().withStartDateTime("24/10/2022 09:00")
+                .withEndDateTime("24/10/2022 11:00").build();
+
+        assertTrue(weekly.sharesOccurrenceWith(biweekly));
+        assertTrue(biweekly.sharesOccurrenceWith(weekly));
+        assertTrue(weekly.sharesOccurrenceWith(onFourthMonday));
+        assertTrue(onFourthMonday.sharesOccurrenceWith(weekly));
+        assertFalse(biweekly.sharesOccurrenceWith(onFourthMonday));
+
+        // different title -> returns false
+        assertFalse(weekly.sharesOccurrenceWith(new EventBuilder(onFourthMonday).withTitle("Other").build()));
+    }
+
+    @Test
+    public void getLastEndEpochMinutes() {
+        Event weekly = new EventBuilder().withStartDateTime("03/10/2022").withEndDateTime("04/10/2022")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        assertEquals(new DateTime("18/10/2022").getEndEpochMinutes(), weekly.getLastEndEpochMinutes());
+        assertEquals(PRACTICE.getEndDateTime().getEndEpochMinutes(), PRACTICE.getLastEndEpochMinutes());
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        EventBuilder builder = new EventBuilder().withStartDateTime("03/10/2022").withEndDateTime("03/10/2022");
+        assertTrue(builder.build().isValidRecurrence());
+        assertTrue(builder.withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, LocalDate.of(2022, 10, 3),
+                Set.of())).build().isValidRecurrence());
+        assertFalse(builder.withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, LocalDate.of(2022, 10, 2),
+                Set.of())).build().isValidRecurrence());
+    }
+
+    @Test
+    public void equals_differentRecurrence_returnsFalse() {
+        Event recurringPresentation = new EventBuilder(PRESENTATION)
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        assertFalse(PRESENTATION.equals(recurringPresentation));
+        assertTrue(PRESENTATION.isSameEvent(recurringPresentation));
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Recurrence.Frequency;
+
+public class RecurrenceTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2022, 10, 3);
+
+    @Test
+    public void constructor_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(Frequency.WEEKLY, 0, Set.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                new Recurrence(Frequency.WEEKLY, Recurrence.MAX_OCCURRENCES + 1, Set.of()));
+    }
+
+    @Test
+    public void isValidFrequency() {
+        assertTrue(Frequency.isValidFrequency("weekly"));
+        assertTrue(Frequency.isValidFrequency("BiWeekly"));
+        assertFalse(Frequency.isValidFrequency("daily"));
+        assertFalse(Frequency.isValidFrequency(""));
+        assertEquals(Frequency.BIWEEKLY, Frequency.of("BIWEEKLY"));
+    }
+
+    @Test
+    public void getLastOccurrenceNumber() {
+        // count -> last occurrence is one less than count
+        assertEquals(4L, new Recurrence(Frequency.WEEKLY, 5, Set.of()).getLastOccurrenceNumber(FIRST_DATE));
+
+        // until date on an occurrence -> occurrence included
+        assertEquals(4L, new Recurrence(Frequency.WEEKLY, FIRST_DATE.plusWeeks(4), Set.of())
+                .getLastOccurrenceNumber(FIRST_DATE));
+
+        // until date between occurrences -> rounded down
+        assertEquals(2L, new Recurrence(Frequency.BIWEEKLY, FIRST_DATE.plusWeeks(5), Set.of())
+                .getLastOccurrenceNumber(FIRST_DATE));
+
+        // until date before first date -> no occurrences
+        assertEquals(-1L, new Recurrence(Frequency.WEEKLY, FIRST_DATE.minusDays(1), Set.of())
+                .getLastOccurrenceNumber(FIRST_DATE));
+
+        // far away until date -> capped
+        assertEquals(Recurrence.MAX_OCCURRENCES - 1L, new Recurrence(Frequency.WEEKLY, FIRST_DATE.plusYears(100),
+                Set.of()).getLastOccurrenceNumber(FIRST_DATE));
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence(Frequency.WEEKLY, 5, Set.of(FIRST_DATE.plusWeeks(1)));
+
+        assertEquals(recurrence, new Recurrence(Frequency.WEEKLY, 5, Set.of(FIRST_DATE.plusWeeks(1))));
+        assertEquals(recurrence.hashCode(),
+                new Recurrence(Frequency.WEEKLY, 5, Set.of(FIRST_DATE.plusWeeks(1))).hashCode());
+        assertNotEquals(recurrence, new Recurrence(Frequency.BIWEEKLY, 5, Set.of(FIRST_DATE.plusWeeks(1))));
+        assertNotEquals(recurrence, new Recurrence(Frequency.WEEKLY, 6, Set.of(FIRST_DATE.plusWeeks(1))));
+        assertNotEquals(recurrence, new Recurrence(Frequency.WEEKLY, 5, Set.of()));
+        assertNotEquals(recurrence, new Recurrence(Frequency.WEEKLY, FIRST_DATE, Set.of(FIRST_DATE.plusWeeks(1))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("weekly, 5 times", new Recurrence(Frequency.WEEKLY, 5, Set.of()).toString());
+        assertEquals("biweekly until 31/10/2022, except 17/10/2022, 24/10/2022",
+                new Recurrence(Frequency.BIWEEKLY, LocalDate.of(2022, 10, 31),
+                        Set.of(LocalDate.of(2022, 10, 24), LocalDate.of(2022, 10, 17))).toString());
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +76,34 @@ public class StartDateTimeContainsDatePredicateTest {
                 .build()));
     }
 
+    @Test
+    public void test_recurringEvent_matchesOccurrenceDates() {
+        // weekly from 27 November to 11 December, skipping 4 December
+        Event weekly = new EventBuilder().withStartDateTime("27/11/2022 08:00").withEndDateTime("27/11/2022 09:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of(LocalDate.of(2022, 12, 4))))
+                .build();
+
+        assertTrue(new StartDateTimeContainsDatePredicate(Collections.singletonList(date)).test(weekly));
+        assertFalse(new StartDateTimeContainsDatePredicate(Collections.singletonList(new DateTime("04/12/2022")))
+                .test(weekly));
+        assertFalse(new StartDateTimeContainsDatePredicate(Collections.singletonList(new DateTime("18/12/2022")))
+                .test(weekly));
+    }
+
+    @Test
+    public void getFirstMatchingOccurrence_recurringEvent_returnsEarliestOccurrenceOnDates() {
+        // weekly from 27 November to 11 December, skipping 4 December
+        Event weekly = new EventBuilder().withStartDateTime("27/11/2022 08:00").withEndDateTime("27/11/2022 09:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of(LocalDate.of(2022, 12, 4))))
+                .build();
+
+        Optional<Event> occurrence = new StartDateTimeContainsDatePredicate(Arrays.asList(date,
+                new DateTime("04/12/2022"), new DateTime("27/11/2022"))).getFirstMatchingOccurrence(weekly);
+        assertEquals(new DateTime("27/11/2022 08:00"), occurrence.get().getStartDateTime());
+        assertEquals(new DateTime("11/12/2022 08:00"), new StartDateTimeContainsDatePredicate(
+                Collections.singletonList(date)).getFirstMatchingOccurrence(weekly).get().getStartDateTime());
+        assertTrue(new StartDateTimeContainsDatePredicate(Collections.singletonList(new DateTime("04/12/2022")))
+                .getFirstMatchingOccurrence(weekly).isEmpty());
+    }
+
 }
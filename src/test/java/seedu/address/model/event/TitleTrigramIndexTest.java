@@ -0,0 +1,73 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONVENTION;
+import static seedu.address.testutil.TypicalEvents.DINNER;
+import static seedu.address.testutil.TypicalEvents.PRACTICE;
+import static seedu.address.testutil.TypicalEvents.PRESENTATION;
+import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
+import static seedu.address.testutil.TypicalEvents.TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class TitleTrigramIndexTest {
+
+    private final TitleTrigramIndex index = new TitleTrigramIndex();
+
+    @Test
+    public void getEventsWithTitleContaining_emptyKeyword_throwsIllegalArgumentException() {
+        index.add(PRACTICE);
+        assertThrows(IllegalArgumentException.class, () -> index.getEventsWithTitleContaining(
+                Collections.singletonList("  ")));
+    }
+
+    @Test
+    public void getEventsWithTitleContaining_multipleWordKeyword_throwsIllegalArgumentException() {
+        index.add(PRACTICE);
+        assertThrows(IllegalArgumentException.class, () -> index.getEventsWithTitleContaining(
+                Collections.singletonList("pra ctice")));
+    }
+
+    @Test
+    public void getEventsWithTitleContaining_matchesTitleContainsKeywordsPredicate() {
+        List<Event> events = new ArrayList<>(Arrays.asList(PRESENTATION, PRACTICE, PROBLEM_SET, DINNER, TUTORIAL,
+                CONVENTION));
+        for (int i = 0; i < 50; i++) {
+            events.add(new EventBuilder().withTitle("Meeting " + i + " with CS" + (2100 + i * 7)).build());
+        }
+        index.setAll(events);
+
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("Practice"), Collections.singletonList("PRAC"),
+                Collections.singletonList("ss"), Collections.singletonList("n"), Arrays.asList("dinner", "tut"),
+                Collections.singletonList("Dinnerr"), Collections.singletonList("ntion"),
+                Collections.singletonList("cs21"), Collections.singletonList("eting"), Collections.singletonList("7"),
+                Collections.singletonList("ing4"), Collections.singletonList("dinner&"));
+
+        for (List<String> keywords : keywordLists) {
+            TitleContainsKeywordsPredicate predicate = new TitleContainsKeywordsPredicate(keywords);
+            Set<Event> expectedEvents = events.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expectedEvents, new HashSet<>(index.getEventsWithTitleContaining(keywords)));
+        }
+    }
+
+    @Test
+    public void remove_existingEvent_eventNoLongerReturned() {
+        index.setAll(Arrays.asList(PRESENTATION, PRACTICE));
+        index.remove(PRACTICE);
+        assertTrue(index.getEventsWithTitleContaining(Collections.singletonList("practice")).isEmpty());
+        assertTrue(index.getEventsWithTitleContaining(Collections.singletonList("c")).contains(PRESENTATION));
+    }
+}
@@ -2,20 +2,30 @@ package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.DINNER;
 import static seedu.address.testutil.TypicalEvents.PRACTICE;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
+import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.profile.EventsAttending;
 import seedu.address.testutil.EventBuilder;
 
 public class UniqueEventListTest {
@@ -101,6 +111,174 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_updatesTimeIndex() {
+        uniqueEventList.add(PRESENTATION);
+        uniqueEventList.add(DINNER);
+        uniqueEventList.setEvent(PRESENTATION, PRACTICE);
+        DateTime from = new DateTime("11/10/2022");
+        DateTime to = new DateTime("12/10/2022 23:59");
+        assertEquals(Arrays.asList(PRACTICE, DINNER), uniqueEventList.getEventsOverlapping(from, to));
+        uniqueEventList.remove(PRACTICE);
+        assertEquals(Collections.singletonList(DINNER), uniqueEventList.getEventsStartingWithin(from, to));
+    }
+
+    @Test
+    public void getEventsStartingOn_eventsOnDate_returnsSortedEvents() {
+        uniqueEventList.setEvents(Arrays.asList(DINNER, PRACTICE, PROBLEM_SET, PRESENTATION));
+        assertEquals(Arrays.asList(PROBLEM_SET, DINNER),
+                uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 12)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 13)));
+    }
+
+    @Test
+    public void getEventsStartingOn_eventsEditedAndRemoved_returnsCurrentEvents() {
+        uniqueEventList.add(PRESENTATION);
+        uniqueEventList.add(DINNER);
+        uniqueEventList.setEvent(PRESENTATION, PRACTICE);
+        uniqueEventList.remove(DINNER);
+        assertEquals(Collections.singletonList(PRACTICE),
+                uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 11)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 12)));
+    }
+
+    @Test
+    public void getEventsStartingOn_recurringEvents_returnsEventsWithOccurrenceOnDate() {
+        // Tuesdays 4, 11 and 18 October
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 20:00").withEndDateTime("04/10/2022 21:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        uniqueEventList.setEvents(Arrays.asList(DINNER, PRACTICE, weekly));
+        assertEquals(Arrays.asList(weekly, PRACTICE), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 11)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 25)));
+        assertEquals(Arrays.asList(weekly, PRACTICE), uniqueEventList.getEventsOverlapping(
+                new DateTime("11/10/2022 12:00"), new DateTime("11/10/2022 20:00")));
+        assertEquals(Collections.singletonList(DINNER), uniqueEventList.getEventsStartingWithin(
+                new DateTime("12/10/2022"), new DateTime("17/10/2022 23:59")));
+
+        // edited to skip 11 October
+        Event editedWeekly = new EventBuilder(weekly)
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of(LocalDate.of(2022, 10, 11))))
+                .build();
+        uniqueEventList.setEvent(weekly, editedWeekly);
+        assertEquals(Collections.singletonList(PRACTICE),
+                uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 11)));
+        assertEquals(Collections.singletonList(editedWeekly),
+                uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 18)));
+
+        uniqueEventList.remove(editedWeekly);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 18)));
+    }
+
+    @Test
+    public void getEventsStartingWithin_recurringEventsSpanningRange_returnsOnlyThoseWithOccurrenceInRange() {
+        // Tuesdays 4 October to 1 November, and Mondays 3 and 10 October
+        Event tuesdays = new EventBuilder().withTitle("Tuesdays").withStartDateTime("04/10/2022 20:00")
+                .withEndDateTime("04/10/2022 21:00").withAttendees()
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 5, Set.of())).build();
+        Event mondays = new EventBuilder().withTitle("Mondays").withStartDateTime("03/10/2022 20:00")
+                .withEndDateTime("03/10/2022 21:00").withAttendees()
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 2, Set.of())).build();
+        uniqueEventList.setEvents(Arrays.asList(tuesdays, mondays));
+
+        assertEquals(Collections.singletonList(tuesdays), uniqueEventList.getEventsStartingWithin(
+                new DateTime("24/10/2022"), new DateTime("30/10/2022 23:59")));
+        // within the span of both, but neither starts on a Wednesday
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingOn(LocalDate.of(2022, 10, 5)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsOverlapping(
+                new DateTime("02/11/2022"), new DateTime("30/11/2022 23:59")));
+    }
+
+    @Test
+    public void add_eventOnOccurrenceOfRecurringEvent_throwsDuplicateEventException() {
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 20:00").withEndDateTime("04/10/2022 21:00")
+                .withAttendees().withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        Event onSecondOccurrence = new EventBuilder().withStartDateTime("11/10/2022 20:00")
+                .withEndDateTime("11/10/2022 21:00").withAttendees().build();
+        uniqueEventList.add(weekly);
+
+        assertTrue(uniqueEventList.contains(onSecondOccurrence));
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(onSecondOccurrence));
+        // a different title, or a day the event does not repeat on, does not clash
+        uniqueEventList.add(new EventBuilder(onSecondOccurrence).withTitle("Another event").build());
+        uniqueEventList.add(new EventBuilder(onSecondOccurrence).withStartDateTime("12/10/2022 20:00")
+                .withEndDateTime("12/10/2022 21:00").build());
+    }
+
+    @Test
+    public void add_recurringEventSharingOccurrence_throwsDuplicateEventException() {
+        Event onSecondOccurrence = new EventBuilder().withStartDateTime("11/10/2022 20:00")
+                .withEndDateTime("11/10/2022 21:00").withAttendees().build();
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 20:00").withEndDateTime("04/10/2022 21:00")
+                .withAttendees().withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        Event biweeklyFromSecond = new EventBuilder(weekly).withStartDateTime("11/10/2022 20:00")
+                .withEndDateTime("11/10/2022 21:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.BIWEEKLY, 2, Set.of())).build();
+
+        uniqueEventList.add(onSecondOccurrence);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(weekly));
+
+        uniqueEventList.remove(onSecondOccurrence);
+        uniqueEventList.add(weekly);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(biweeklyFromSecond));
+    }
+
+    @Test
+    public void setEvent_editedOntoOccurrenceOfOtherRecurringEvent_throwsDuplicateEventException() {
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 20:00").withEndDateTime("04/10/2022 21:00")
+                .withAttendees().withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        Event otherDay = new EventBuilder().withStartDateTime("12/10/2022 20:00").withEndDateTime("12/10/2022 21:00")
+                .withAttendees().build();
+        uniqueEventList.setEvents(Arrays.asList(weekly, otherDay));
+
+        Event movedOntoWeekly = new EventBuilder(otherDay).withStartDateTime("18/10/2022 20:00")
+                .withEndDateTime("18/10/2022 21:00").build();
+        assertTrue(uniqueEventList.containsOtherThan(movedOntoWeekly, otherDay));
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(otherDay, movedOntoWeekly));
+
+        // an event does not clash with itself when it is edited to repeat
+        Event weeklyFromOtherDay = new EventBuilder(otherDay)
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 2, Set.of())).build();
+        assertFalse(uniqueEventList.containsOtherThan(weeklyFromOtherDay, otherDay));
+        uniqueEventList.setEvent(otherDay, weeklyFromOtherDay);
+        assertEquals(Arrays.asList(weekly, weeklyFromOtherDay), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getEventById_eventsAddedEditedAndRemoved_returnsCurrentEvents() {
+        Event editedPresentation = new Event(PRESENTATION.getId(), PRESENTATION.getTitle(),
+                PRESENTATION.getStartDateTime(), PRESENTATION.getEndDateTime(), Set.of(), new Attendees());
+        uniqueEventList.setEvents(Arrays.asList(PRESENTATION, DINNER, PRACTICE));
+        uniqueEventList.setEvent(PRESENTATION, editedPresentation);
+        uniqueEventList.remove(DINNER);
+
+        assertSame(editedPresentation, uniqueEventList.getEventById(PRESENTATION.getId()).get());
+        assertTrue(uniqueEventList.getEventById(DINNER.getId()).isEmpty());
+        assertSame(PRACTICE, uniqueEventList.getEventById(PRACTICE.getId()).get());
+    }
+
+    @Test
+    public void refreshEvents_eventsInList_notifiesChangeWithoutReplacingEvents() {
+        uniqueEventList.setEvents(Arrays.asList(PRESENTATION, DINNER, PRACTICE));
+        List<Event> changedEvents = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener((ListChangeListener<Event>) change -> {
+            while (change.next()) {
+                changedEvents.addAll(change.getRemoved());
+            }
+        });
+
+        uniqueEventList.refreshEvents(new EventsAttending(Arrays.asList(DINNER, PRESENTATION)));
+        assertTrue(changedEvents.containsAll(Arrays.asList(PRESENTATION, DINNER)));
+        assertSame(PRESENTATION, uniqueEventList.getEventById(PRESENTATION.getId()).get());
+        assertSame(DINNER, uniqueEventList.getEventById(DINNER.getId()).get());
+    }
+
+    @Test
+    public void refreshEvents_eventNotInList_throwsEventNotFoundException() {
+        uniqueEventList.add(PRESENTATION);
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.refreshEvents(
+                new EventsAttending(Collections.singletonList(DINNER))));
+    }
+
     @Test
     public void setEvent_editedEventHasNonUniqueIdentity_throwsDuplicateEventException() {
         uniqueEventList.add(PRESENTATION);
@@ -126,6 +304,54 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void remove_eventWithSameIdentityButDifferentFields_throwsEventNotFoundException() {
+        uniqueEventList.add(PRACTICE);
+        Event editedPractice = new EventBuilder(PRACTICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(editedPractice));
+    }
+
+    @Test
+    public void remove_eventNotLastInList_remainingEventsStillAccessible() {
+        uniqueEventList.add(PRACTICE);
+        uniqueEventList.add(DINNER);
+        uniqueEventList.add(PROBLEM_SET);
+        uniqueEventList.remove(PRACTICE);
+        assertFalse(uniqueEventList.contains(PRACTICE));
+        assertTrue(uniqueEventList.contains(DINNER));
+        assertTrue(uniqueEventList.contains(PROBLEM_SET));
+
+        Event editedDinner = new EventBuilder(DINNER).withTags(VALID_TAG_HUSBAND).build();
+        uniqueEventList.setEvent(DINNER, editedDinner);
+        uniqueEventList.remove(editedDinner);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(PROBLEM_SET);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+    }
+
+    @Test
+    public void equals_differentInsertionOrderSameSortedOrder_returnsTrue() {
+        uniqueEventList.add(PRACTICE);
+        uniqueEventList.add(DINNER);
+        UniqueEventList otherUniqueEventList = new UniqueEventList();
+        otherUniqueEventList.add(DINNER);
+        otherUniqueEventList.add(PRACTICE);
+        assertEquals(otherUniqueEventList, uniqueEventList);
+        assertEquals(otherUniqueEventList.hashCode(), uniqueEventList.hashCode());
+    }
+
+    @Test
+    public void equals_sameEventsInDifferentOrder_returnsFalse() {
+        // titles differing only in case sort together, so they stay in the order they were added
+        Event upperCaseDinner = new EventBuilder(DINNER).withTitle(DINNER.getTitle().title.toUpperCase()).build();
+        uniqueEventList.add(DINNER);
+        uniqueEventList.add(upperCaseDinner);
+        UniqueEventList otherUniqueEventList = new UniqueEventList();
+        otherUniqueEventList.add(upperCaseDinner);
+        otherUniqueEventList.add(DINNER);
+        assertFalse(uniqueEventList.equals(otherUniqueEventList));
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
@@ -161,6 +387,52 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void setEvents_listWithDuplicateEvents_reportsEveryDuplicatePair() {
+        Event editedPractice = new EventBuilder(PRACTICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Event> listWithDuplicateEvents = Arrays.asList(PRACTICE, DINNER, editedPractice, DINNER);
+        String expectedMessage = "Operation would result in duplicate events: "
+                + "Practice (11/10/2022 13:00 - 11/10/2022 14:00); Formal dinner (12/10/2022 19:00 - 12/10/2022 23:00)";
+        assertThrows(DuplicateEventException.class, expectedMessage, ()
+            -> uniqueEventList.setEvents(listWithDuplicateEvents));
+    }
+
+    @Test
+    public void findDuplicateEvents_listWithDuplicateEvents_returnsEveryDuplicatePair() {
+        Event editedPractice = new EventBuilder(PRACTICE).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(List.of(Map.entry(PRACTICE, editedPractice), Map.entry(DINNER, DINNER)),
+                UniqueEventList.findDuplicateEvents(Arrays.asList(PRACTICE, DINNER, editedPractice, DINNER)));
+    }
+
+    @Test
+    public void findDuplicateEvents_threeEventsWithSameIdentity_returnsEveryPair() {
+        Event taggedPractice = new EventBuilder(PRACTICE).withTags(VALID_TAG_HUSBAND).build();
+        Event friendPractice = new EventBuilder(PRACTICE).withTags(VALID_TAG_FRIEND).build();
+        assertEquals(List.of(Map.entry(PRACTICE, taggedPractice), Map.entry(PRACTICE, friendPractice),
+                        Map.entry(taggedPractice, friendPractice)),
+                UniqueEventList.findDuplicateEvents(Arrays.asList(PRACTICE, taggedPractice, friendPractice)));
+    }
+
+    @Test
+    public void findDuplicateEvents_eventsSharingOccurrence_returnsEveryPairInListOrder() {
+        Event onSecondOccurrence = new EventBuilder().withStartDateTime("11/10/2022 20:00")
+                .withEndDateTime("11/10/2022 21:00").withAttendees().build();
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 20:00").withEndDateTime("04/10/2022 21:00")
+                .withAttendees().withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).build();
+        Event biweeklyFromSecond = new EventBuilder(weekly).withStartDateTime("11/10/2022 20:00")
+                .withEndDateTime("11/10/2022 21:00")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.BIWEEKLY, 2, Set.of())).build();
+
+        assertEquals(List.of(Map.entry(onSecondOccurrence, biweeklyFromSecond),
+                        Map.entry(onSecondOccurrence, weekly), Map.entry(biweeklyFromSecond, weekly)),
+                UniqueEventList.findDuplicateEvents(Arrays.asList(onSecondOccurrence, biweeklyFromSecond, weekly)));
+    }
+
+    @Test
+    public void findDuplicateEvents_uniqueEvents_returnsEmptyList() {
+        assertTrue(UniqueEventList.findDuplicateEvents(Arrays.asList(PRACTICE, DINNER, PRESENTATION)).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
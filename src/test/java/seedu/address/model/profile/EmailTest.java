@@ -1,5 +1,6 @@
 package seedu.address.model.profile;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -65,4 +66,12 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.yale-nus.edu.sg")); // Yale-NUS email domain
         assertTrue(Email.isValidEmail("randomUser@comp.nus.edu.sg")); // SOC email domain
     }
+
+    @Test
+    public void equals_differentCase_returnsTrue() {
+        Email email = new Email("PeterJack@u.nus.edu");
+        Email lowerCaseEmail = new Email("peterjack@u.nus.edu");
+        assertTrue(email.equals(lowerCaseEmail));
+        assertEquals(email.hashCode(), lowerCaseEmail.hashCode());
+    }
 }
@@ -5,17 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONVENTION;
+import static seedu.address.testutil.TypicalEvents.DINNER;
 import static seedu.address.testutil.TypicalEvents.PRACTICE;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
+import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
 import static seedu.address.testutil.TypicalProfiles.ALICE;
 import static seedu.address.testutil.TypicalProfiles.BOB;
 import static seedu.address.testutil.TypicalProfiles.HOON;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.event.Attendees;
+import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.testutil.EventBuilder;
 
 class EventsAttendingTest {
@@ -74,6 +81,135 @@ class EventsAttendingTest {
         assertEquals(expectedEventsAttending, eventsAttending);
     }
 
+    @Test
+    public void removeEvent_eventWithSameStart_removesOnlyEqualEvent() {
+        Event otherEventAtSameTime = new EventBuilder(PRESENTATION).withTitle("Briefing").build();
+        eventsAttending.addEvent(PRESENTATION);
+        eventsAttending.addEvent(otherEventAtSameTime);
+        eventsAttending.removeEvent(PRESENTATION);
+        assertFalse(eventsAttending.hasEvent(PRESENTATION));
+        assertEquals(List.of(otherEventAtSameTime), eventsAttending.getEventsList());
+    }
+
+    @Test
+    public void getEventsList_eventsAddedOutOfOrder_returnsSortedEvents() {
+        Event otherEventAtSameTime = new EventBuilder(PRESENTATION).withTitle("Briefing").build();
+        eventsAttending.addEvent(DINNER);
+        eventsAttending.addEvent(PRESENTATION);
+        eventsAttending.addEvent(PROBLEM_SET);
+        eventsAttending.addEvent(otherEventAtSameTime);
+        eventsAttending.addEvent(PRESENTATION);
+        assertEquals(List.of(otherEventAtSameTime, PRESENTATION, PROBLEM_SET, DINNER),
+                eventsAttending.getEventsList());
+    }
+
+    @Test
+    public void getEventsList_eventAddedAfterListing_earlierListUnchanged() {
+        eventsAttending.addEvent(PRACTICE);
+        List<Event> events = eventsAttending.getEventsList();
+        eventsAttending.addEvent(PRESENTATION);
+        assertEquals(List.of(PRACTICE), events);
+        assertEquals(List.of(PRESENTATION, PRACTICE), eventsAttending.getEventsList());
+    }
+
+    @Test
+    public void getEventsStartingWithin_nullRange_throwsNullPointerException() {
+        DateTime dateTime = new DateTime("11/10/2022 09:00");
+        assertThrows(NullPointerException.class, () -> eventsAttending.getEventsStartingWithin(null, dateTime));
+        assertThrows(NullPointerException.class, () -> eventsAttending.getEventsStartingWithin(dateTime, null));
+    }
+
+    @Test
+    public void getEventsStartingWithin_validRange_returnsEventsInOrder() {
+        EventsAttending events = new EventsAttending(List.of(DINNER, PRACTICE, PRESENTATION, PROBLEM_SET));
+        assertEquals(List.of(PRACTICE, PROBLEM_SET), events.getEventsStartingWithin(
+                new DateTime("11/10/2022 13:00"), new DateTime("12/10/2022 18:59")));
+        assertEquals(List.of(), events.getEventsStartingWithin(
+                new DateTime("12/10/2022 18:59"), new DateTime("11/10/2022 13:00")));
+    }
+
+    @Test
+    public void getEventsOverlapping_validRange_returnsEventsInOrder() {
+        EventsAttending events = new EventsAttending(List.of(CONVENTION, DINNER, PRACTICE, PRESENTATION));
+        assertEquals(List.of(PRESENTATION, PRACTICE), events.getEventsOverlapping(
+                new DateTime("11/10/2022 09:30"), new DateTime("11/10/2022 13:00")));
+        assertEquals(List.of(CONVENTION), events.getEventsOverlapping(
+                new DateTime("29/10/2022 12:00"), new DateTime("30/10/2022 12:00")));
+        assertEquals(List.of(), events.getEventsOverlapping(
+                new DateTime("11/10/2022 14:01"), new DateTime("12/10/2022 18:59")));
+        assertEquals(List.of(), events.getEventsOverlapping(
+                new DateTime("11/10/2022 13:00"), new DateTime("11/10/2022 09:30")));
+    }
+
+    @Test
+    public void getEventsClashingWith_event_returnsOtherOverlappingEvents() {
+        EventsAttending events = new EventsAttending(List.of(CONVENTION, PRACTICE, PRESENTATION));
+        // the event itself, identified by its id, does not clash with its edited version
+        Event longerPresentation = new Event(PRESENTATION.getId(), PRESENTATION.getTitle(),
+                PRESENTATION.getStartDateTime(), new DateTime("11/10/2022 13:30"), PRESENTATION.getTags(),
+                new Attendees());
+        assertEquals(List.of(PRACTICE), events.getEventsClashingWith(longerPresentation));
+        assertEquals(List.of(), events.getEventsClashingWith(PRESENTATION));
+
+        Event dayAfterConvention = new EventBuilder().withStartDateTime("30/10/2022 23:00")
+                .withEndDateTime("31/10/2022 01:00").withAttendees().build();
+        assertEquals(List.of(CONVENTION), events.getEventsClashingWith(dayAfterConvention));
+    }
+
+    @Test
+    public void getEventsOverlapping_recurringEvent_returnsOccurrencesInOrder() {
+        // Tuesdays 4, 11 and 18 October
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 12:30").withEndDateTime("04/10/2022 13:30")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).withAttendees().build();
+        EventsAttending events = new EventsAttending(List.of(PRACTICE, PRESENTATION, weekly));
+
+        Event secondOccurrence = new EventBuilder().withStartDateTime("11/10/2022 12:30")
+                .withEndDateTime("11/10/2022 13:30").build();
+        assertEquals(List.of(PRESENTATION, secondOccurrence, PRACTICE), events.getEventsOverlapping(
+                new DateTime("11/10/2022 09:30"), new DateTime("11/10/2022 13:00")));
+        assertEquals(List.of(secondOccurrence), events.getEventsStartingWithin(
+                new DateTime("11/10/2022 10:00"), new DateTime("11/10/2022 12:30")));
+        assertEquals(List.of(), events.getEventsOverlapping(
+                new DateTime("18/10/2022 13:31"), new DateTime("31/12/2022 00:00")));
+
+        events.removeEvent(weekly);
+        assertEquals(List.of(PRESENTATION, PRACTICE), events.getEventsOverlapping(
+                new DateTime("11/10/2022 09:30"), new DateTime("11/10/2022 13:00")));
+    }
+
+    @Test
+    public void getEventsOverlapping_longEventAddedAndRemoved_returnsCurrentEvents() {
+        Event semester = new EventBuilder().withTitle("Semester").withStartDateTime("08/08/2022")
+                .withEndDateTime("10/12/2022").withAttendees().build();
+        Event allDay = new EventBuilder().withStartDateTime("11/10/2022").withEndDateTime("11/10/2022")
+                .withAttendees().build();
+        EventsAttending events = new EventsAttending(List.of(PRACTICE, PRESENTATION, semester, allDay));
+
+        // an end without a time is the end of that day
+        assertEquals(List.of(semester, allDay, PRACTICE), events.getEventsOverlapping(
+                new DateTime("11/10/2022 12:00"), new DateTime("11/10/2022 13:00")));
+
+        events.removeEvent(semester);
+        assertEquals(List.of(allDay, PRACTICE), events.getEventsOverlapping(
+                new DateTime("11/10/2022 12:00"), new DateTime("11/10/2022 13:00")));
+        assertEquals(List.of(), events.getEventsOverlapping(
+                new DateTime("01/11/2022 00:00"), new DateTime("30/11/2022 00:00")));
+    }
+
+    @Test
+    public void getEventsClashingWith_recurringEvent_returnsEventsClashingWithAnyOccurrence() {
+        Event weekly = new EventBuilder().withStartDateTime("04/10/2022 12:30").withEndDateTime("04/10/2022 13:30")
+                .withRecurrence(new Recurrence(Recurrence.Frequency.WEEKLY, 3, Set.of())).withAttendees().build();
+        assertEquals(List.of(PRACTICE),
+                new EventsAttending(List.of(PRACTICE, PRESENTATION)).getEventsClashingWith(weekly));
+
+        Event lunch = new EventBuilder().withStartDateTime("18/10/2022 12:00").withEndDateTime("18/10/2022 13:00")
+                .withAttendees().build();
+        Event thirdOccurrence = new EventBuilder().withStartDateTime("18/10/2022 12:30")
+                .withEndDateTime("18/10/2022 13:30").build();
+        assertEquals(List.of(thirdOccurrence), new EventsAttending(List.of(weekly)).getEventsClashingWith(lunch));
+    }
+
     @Test
     public void isEmpty_emptyList_returnsTrue() {
         assertTrue(eventsAttending.isEmpty());
@@ -0,0 +1,93 @@
+package seedu.address.model.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ProfileBuilder;
+
+public class FreeSlotFinderTest {
+
+    private static final DateTime MORNING = new DateTime("24/10/2022 09:00");
+    private static final DateTime EVENING = new DateTime("24/10/2022 18:00");
+
+    @Test
+    public void findCommonFreeSlots_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FreeSlotFinder.findCommonFreeSlots(null, MORNING, EVENING, 1));
+        assertThrows(NullPointerException.class, () -> FreeSlotFinder.findCommonFreeSlots(List.of(), null, EVENING, 1));
+        assertThrows(NullPointerException.class, () -> FreeSlotFinder.findCommonFreeSlots(List.of(), MORNING, null, 1));
+    }
+
+    @Test
+    public void findCommonFreeSlots_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FreeSlotFinder.MESSAGE_INVALID_RANGE, () ->
+                FreeSlotFinder.findCommonFreeSlots(List.of(), EVENING, MORNING, 1));
+        assertThrows(IllegalArgumentException.class, FreeSlotFinder.MESSAGE_INVALID_MINIMUM_DURATION, () ->
+                FreeSlotFinder.findCommonFreeSlots(List.of(), MORNING, EVENING, 0));
+    }
+
+    @Test
+    public void findCommonFreeSlots_noEvents_returnsWholeRange() {
+        Profile profile = new ProfileBuilder().build();
+        assertEquals(List.of(new TimeSlot(MORNING, EVENING)),
+                FreeSlotFinder.findCommonFreeSlots(List.of(profile), MORNING, EVENING, 60));
+    }
+
+    @Test
+    public void findCommonFreeSlots_overlappingEvents_returnsGapsInOrder() {
+        Profile first = profileAttending(
+                event("24/10/2022 08:00", "24/10/2022 10:00"),
+                event("24/10/2022 13:00", "24/10/2022 14:00"));
+        Profile second = profileAttending(
+                event("24/10/2022 12:00", "24/10/2022 13:30"),
+                event("24/10/2022 16:00", "24/10/2022 17:30"),
+                event("25/10/2022 09:00", "25/10/2022 10:00"));
+
+        assertEquals(List.of(
+                slot("24/10/2022 10:00", "24/10/2022 12:00"),
+                slot("24/10/2022 14:00", "24/10/2022 16:00"),
+                slot("24/10/2022 17:30", "24/10/2022 18:00")),
+                FreeSlotFinder.findCommonFreeSlots(List.of(first, second), MORNING, EVENING, 30));
+
+        // slots shorter than the minimum duration are left out
+        assertEquals(List.of(
+                slot("24/10/2022 10:00", "24/10/2022 12:00"),
+                slot("24/10/2022 14:00", "24/10/2022 16:00")),
+                FreeSlotFinder.findCommonFreeSlots(List.of(first, second), MORNING, EVENING, 31));
+    }
+
+    @Test
+    public void findCommonFreeSlots_datesWithoutTime_countWholeDays() {
+        Profile profile = profileAttending(event("23/10/2022", "24/10/2022"));
+
+        // the event lasts until the end of its end date
+        assertEquals(List.of(), FreeSlotFinder.findCommonFreeSlots(List.of(profile), MORNING, EVENING, 1));
+
+        // a range end without a time lasts until the end of that date
+        assertEquals(List.of(slot("25/10/2022 00:00", "27/10/2022 00:00")), FreeSlotFinder.findCommonFreeSlots(
+                List.of(profile), new DateTime("24/10/2022"), new DateTime("26/10/2022"), 1));
+    }
+
+    private static Event event(String start, String end) {
+        return new EventBuilder().withStartDateTime(start).withEndDateTime(end).withAttendees().build();
+    }
+
+    private static Profile profileAttending(Event... events) {
+        Profile profile = new ProfileBuilder().build();
+        for (Event event : events) {
+            profile.addAttendingEvent(event);
+        }
+        return profile;
+    }
+
+    private static TimeSlot slot(String start, String end) {
+        return new TimeSlot(new DateTime(start), new DateTime(end));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.profile;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ProfileBuilder;
+
+public class ProfileTagsMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        List<Set<Tag>> firstTagGroups = Collections.singletonList(Set.of(new Tag("first")));
+        List<Set<Tag>> secondTagGroups = Arrays.asList(Set.of(new Tag("first")), Set.of(new Tag("second")));
+
+        ProfileTagsMatchPredicate firstPredicate = new ProfileTagsMatchPredicate(firstTagGroups);
+        ProfileTagsMatchPredicate secondPredicate = new ProfileTagsMatchPredicate(secondTagGroups);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ProfileTagsMatchPredicate(firstTagGroups)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tagsMatchEveryGroup_returnsTrue() {
+        // One group, any tag
+        ProfileTagsMatchPredicate predicate = new ProfileTagsMatchPredicate(Collections.singletonList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101"))));
+        assertTrue(predicate.test(new ProfileBuilder().withTags("CS2101").build()));
+
+        // Multiple groups
+        predicate = new ProfileTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101")), Set.of(new Tag("Y2"))));
+        assertTrue(predicate.test(new ProfileBuilder().withTags("CS2103T", "Y2", "CCA").build()));
+    }
+
+    @Test
+    public void test_tagsDoNotMatchEveryGroup_returnsFalse() {
+        // Zero groups
+        ProfileTagsMatchPredicate predicate = new ProfileTagsMatchPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new ProfileBuilder().withTags("CS2103T").build()));
+
+        // One group not matched
+        predicate = new ProfileTagsMatchPredicate(Arrays.asList(
+                Set.of(new Tag("CS2103T"), new Tag("CS2101")), Set.of(new Tag("Y2"))));
+        assertFalse(predicate.test(new ProfileBuilder().withTags("CS2103T", "CS2101").build()));
+    }
+}
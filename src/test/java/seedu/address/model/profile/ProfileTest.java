@@ -143,4 +143,10 @@ public class ProfileTest {
     public void compareTo_differentNamedifferentPhone_isNotEqual() {
         assertNotEquals(0, AMY.compareTo(ALICE));
     }
+
+    @Test
+    public void hashCode_equalProfiles_sameHashCode() {
+        Profile aliceCopy = new ProfileBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.profile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -15,10 +16,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProfiles.ALICE;
 import static seedu.address.testutil.TypicalProfiles.AMY;
 import static seedu.address.testutil.TypicalProfiles.BOB;
+import static seedu.address.testutil.TypicalProfiles.getTypicalProfiles;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +60,28 @@ public class UniqueProfileListTest {
         assertTrue(uniqueProfileList.containsEmail(editedAliceSameEmail));
     }
 
+    @Test
+    public void contains_emailWithDifferentCaseInList_returnsTrue() {
+        uniqueProfileList.add(AMY);
+        Profile editedBob = new ProfileBuilder(BOB).withEmail("AMY@u.nus.edu")
+                .build();
+        assertTrue(uniqueProfileList.containsEmail(editedBob));
+    }
+
+    @Test
+    public void contains_profileInList_returnsTrue() {
+        uniqueProfileList.add(ALICE);
+        assertTrue(uniqueProfileList.contains(new ProfileBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void contains_profileWithSameEmailButDifferentFields_returnsFalse() {
+        uniqueProfileList.add(ALICE);
+        Profile editedAlice = new ProfileBuilder(ALICE).withName(VALID_NAME_BOB)
+                .build();
+        assertFalse(uniqueProfileList.contains(editedAlice));
+    }
+
     @Test
     public void add_similarEmail_throwsSimilarProfileException() {
         uniqueProfileList.add(AMY);
@@ -202,6 +230,16 @@ public class UniqueProfileListTest {
         assertThrows(SimilarProfileException.class, () -> uniqueProfileList.setProfile(ALICE, editedAlice));
     }
 
+    @Test
+    public void setProfile_editedProfileHasDifferentIdentity_releasesOldIdentity() {
+        uniqueProfileList.add(ALICE);
+        uniqueProfileList.setProfile(ALICE, BOB);
+        assertFalse(uniqueProfileList.containsEmail(ALICE));
+        assertFalse(uniqueProfileList.containsPhone(ALICE));
+        assertFalse(uniqueProfileList.containsTelegram(ALICE));
+        assertTrue(uniqueProfileList.containsEmail(BOB));
+    }
+
     @Test
     public void remove_nullProfile_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueProfileList.remove(null));
@@ -220,6 +258,32 @@ public class UniqueProfileListTest {
         assertEquals(expectedUniqueProfileList, uniqueProfileList);
     }
 
+    @Test
+    public void remove_existingProfile_allowsSimilarProfileToBeAdded() {
+        uniqueProfileList.add(ALICE);
+        uniqueProfileList.remove(ALICE);
+        assertFalse(uniqueProfileList.containsEmail(ALICE));
+        uniqueProfileList.add(new ProfileBuilder(ALICE).withName(VALID_NAME_BOB).build());
+        assertTrue(uniqueProfileList.containsPhone(ALICE));
+    }
+
+    @Test
+    public void getProfileById_profilesAddedEditedAndRemoved_returnsCurrentProfiles() {
+        Profile editedAlice = new Profile(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getTelegram(), Set.of(), new EventsAttending());
+        uniqueProfileList.add(ALICE);
+        uniqueProfileList.add(AMY);
+        uniqueProfileList.add(BOB);
+        uniqueProfileList.setProfile(ALICE, editedAlice);
+        uniqueProfileList.remove(AMY);
+
+        assertSame(editedAlice, uniqueProfileList.getProfileById(ALICE.getId()).get());
+        assertTrue(uniqueProfileList.getProfileById(AMY.getId()).isEmpty());
+        assertSame(BOB, uniqueProfileList.getProfileById(BOB.getId()).get());
+        uniqueProfileList.remove(BOB);
+        assertTrue(uniqueProfileList.getProfileById(BOB.getId()).isEmpty());
+    }
+
     @Test
     public void setProfiles_nullUniqueProfileList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueProfileList.setProfiles((UniqueProfileList) null));
@@ -247,6 +311,8 @@ public class UniqueProfileListTest {
         UniqueProfileList expectedUniqueProfileList = new UniqueProfileList();
         expectedUniqueProfileList.add(BOB);
         assertEquals(expectedUniqueProfileList, uniqueProfileList);
+        assertFalse(uniqueProfileList.containsEmail(ALICE));
+        assertTrue(uniqueProfileList.containsEmail(BOB));
     }
 
     @Test
@@ -273,6 +339,72 @@ public class UniqueProfileListTest {
         assertThrows(SimilarProfileException.class, () -> uniqueProfileList.setProfiles(listWithSimilarTelegrams));
     }
 
+    @Test
+    public void setProfiles_listWithSimilarProfiles_reportsEverySimilarPair() {
+        Profile bobWithAmyEmail = new ProfileBuilder(BOB).withEmail(VALID_EMAIL_AMY).build();
+        Profile aliceWithAmyPhone = new ProfileBuilder(ALICE).withPhone(VALID_PHONE_AMY).build();
+        List<Profile> listWithSimilarProfiles = Arrays.asList(AMY, bobWithAmyEmail, aliceWithAmyPhone);
+        String expectedMessage = "Operation would result in similar profiles: "
+                + "Amy Bee and Bob Choo; Amy Bee and Alice Pauline";
+        assertThrows(SimilarProfileException.class, expectedMessage, ()
+            -> uniqueProfileList.setProfiles(listWithSimilarProfiles));
+    }
+
+    @Test
+    public void findSimilarProfiles_uniqueProfiles_returnsEmptyList() {
+        assertTrue(UniqueProfileList.findSimilarProfiles(Arrays.asList(ALICE, AMY, BOB)).isEmpty());
+    }
+
+    @Test
+    public void findSimilarProfiles_profilesSharingSeveralFields_reportsPairOnce() {
+        Profile bobWithAmyEmailAndPhone = new ProfileBuilder(BOB).withEmail(VALID_EMAIL_AMY)
+                .withPhone(VALID_PHONE_AMY).build();
+        assertEquals(List.of(Map.entry(AMY, bobWithAmyEmailAndPhone)),
+                UniqueProfileList.findSimilarProfiles(Arrays.asList(AMY, bobWithAmyEmailAndPhone)));
+    }
+
+    @Test
+    public void findSimilarProfiles_threeProfilesSharingEmail_reportsEveryPair() {
+        Profile bobWithAmyEmail = new ProfileBuilder(BOB).withEmail(VALID_EMAIL_AMY).build();
+        Profile aliceWithAmyEmail = new ProfileBuilder(ALICE).withEmail(VALID_EMAIL_AMY).build();
+        assertEquals(List.of(Map.entry(AMY, bobWithAmyEmail), Map.entry(AMY, aliceWithAmyEmail),
+                        Map.entry(bobWithAmyEmail, aliceWithAmyEmail)),
+                UniqueProfileList.findSimilarProfiles(Arrays.asList(AMY, bobWithAmyEmail, aliceWithAmyEmail)));
+    }
+
+    @Test
+    public void getProfilesWithNameContaining_matchesNameContainsKeywordsPredicate() {
+        List<Profile> profiles = getTypicalProfiles();
+        uniqueProfileList.setProfiles(profiles);
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("Meier"), Collections.singletonList("eie"),
+                Collections.singletonList("ALICE"), Arrays.asList("ku", "nz", "best"),
+                Arrays.asList("e", "a"), Collections.singletonList("cep"),
+                Collections.singletonList("Paulinee"), Collections.singletonList("z"),
+                Collections.singletonList("George&"));
+
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Profile> expectedProfiles = profiles.stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expectedProfiles, new HashSet<>(uniqueProfileList.getProfilesWithNameContaining(keywords)));
+        }
+    }
+
+    @Test
+    public void getProfilesWithNameContaining_profilesEditedAndRemoved_returnsCurrentProfiles() {
+        uniqueProfileList.add(ALICE);
+        uniqueProfileList.add(AMY);
+        Profile editedAmy = new ProfileBuilder(AMY).withName("Amy Pauline").build();
+        uniqueProfileList.setProfile(AMY, editedAmy);
+        assertEquals(Arrays.asList(editedAmy),
+                uniqueProfileList.getProfilesWithNameContaining(Collections.singletonList("amy")));
+        assertTrue(uniqueProfileList.getProfilesWithNameContaining(Collections.singletonList("bee")).isEmpty());
+
+        uniqueProfileList.remove(ALICE);
+        assertEquals(Arrays.asList(editedAmy),
+                uniqueProfileList.getProfilesWithNameContaining(Collections.singletonList("pauline")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,155 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.DINNER;
+import static seedu.address.testutil.TypicalEvents.PRACTICE;
+import static seedu.address.testutil.TypicalEvents.PRESENTATION;
+import static seedu.address.testutil.TypicalEvents.PROBLEM_SET;
+import static seedu.address.testutil.TypicalProfiles.ALICE;
+import static seedu.address.testutil.TypicalProfiles.BENSON;
+import static seedu.address.testutil.TypicalProfiles.DANIEL;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.profile.Profile;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.ProfileBuilder;
+import seedu.address.testutil.TypicalNuScheduler;
+
+public class QueryTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2022, 10, 11);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2022, 10, 12);
+
+    private final Model model = new ModelManager(TypicalNuScheduler.getTypicalNuSchedulerWithAttendance(),
+            new UserPrefs());
+
+    @Test
+    public void findWithIndexes_termsWithIndex_answeredFromIndexes() {
+        assertTrue(EventQueries.title("dinner").findWithIndexes(model).isPresent());
+        assertTrue(ProfileQueries.name("meier").findWithIndexes(model).isPresent());
+
+        // no index over email domains
+        assertFalse(ProfileQueries.emailDomain("u.nus.edu").findWithIndexes(model).isPresent());
+    }
+
+    @Test
+    public void findWithIndexes_andQuery_answeredIfAnyQueryIndexed() {
+        Query<Profile> email = ProfileQueries.emailDomain("u.nus.edu");
+        Query<Profile> name = ProfileQueries.name("meier");
+
+        assertEquals(Set.of(BENSON, DANIEL), Query.and(List.of(email, name, Query.not(ProfileQueries.name("hoon"))))
+                .findWithIndexes(model).get());
+        assertFalse(Query.and(List.of(email, Query.not(name))).findWithIndexes(model).isPresent());
+
+        // an empty indexed result answers the whole query
+        assertEquals(Set.of(), Query.and(List.of(ProfileQueries.name("zzz"), email)).findWithIndexes(model).get());
+    }
+
+    @Test
+    public void findWithIndexes_orAndNotQueries_answeredIfEveryQueryIndexed() {
+        Query<Profile> email = ProfileQueries.emailDomain("u.nus.edu");
+        Query<Profile> name = ProfileQueries.name("meier");
+        Query<Profile> tag = ProfileQueries.tag(new Tag("owesMoney"));
+
+        assertTrue(Query.or(List.of(name, tag)).findWithIndexes(model).isPresent());
+        assertFalse(Query.or(List.of(name, email)).findWithIndexes(model).isPresent());
+        assertFalse(Query.not(name).findWithIndexes(model).isPresent());
+    }
+
+    @Test
+    public void findMatches_eventQueries_sameAsTestingEveryEvent() {
+        List<Query<Event>> queries = List.of(
+                EventQueries.title("pre"),
+                EventQueries.tag(new Tag("CS2103T")),
+                EventQueries.date(SECOND_DATE, SECOND_DATE),
+                EventQueries.attendee("alice"),
+                Query.and(List.of(EventQueries.date(FIRST_DATE, SECOND_DATE), Query.not(EventQueries.tag(
+                        new Tag("RC"))))),
+                Query.or(List.of(EventQueries.attendee("kunz"), EventQueries.tag(new Tag("CCA")))),
+                Query.not(EventQueries.title("dinner")));
+        List<Event> events = model.getNuScheduler().getEventList();
+
+        for (Query<Event> query : queries) {
+            assertEquals(events.stream().filter(query).collect(Collectors.toSet()),
+                    new HashSet<>(query.findMatches(model, events)), query.toString());
+        }
+    }
+
+    @Test
+    public void findMatches_profileQueries_sameAsTestingEveryProfile() {
+        // a new profile attending a new event, with the event also added to the profile as the commands do
+        Profile zoe = new ProfileBuilder().withName("Zoe Meier").withEmail("zoe@comp.nus.edu.sg")
+                .withPhone("81234567").withTelegram("zoemeier").withTags("friends").build();
+        Event speech = new EventBuilder(PRESENTATION).withTitle("Rehearse speech")
+                .withAttendees(zoe).build();
+        speech.addToAllAttendees();
+        model.addProfile(zoe);
+        model.addEvent(speech);
+
+        List<Query<Profile>> queries = List.of(
+                ProfileQueries.name("meier"),
+                ProfileQueries.tag(new Tag("friends")),
+                ProfileQueries.emailDomain("COMP.nus.edu.sg"),
+                ProfileQueries.attending("rehearse"),
+                Query.and(List.of(ProfileQueries.tag(new Tag("friends")), Query.not(ProfileQueries.emailDomain(
+                        "u.nus.edu")))),
+                Query.or(List.of(ProfileQueries.name("alice"), ProfileQueries.attending("rehearse"))),
+                Query.and(List.of(ProfileQueries.attending("rehearse"), ProfileQueries.emailDomain(
+                        "comp.nus.edu.sg"))));
+        List<Profile> profiles = model.getNuScheduler().getProfileList();
+
+        for (Query<Profile> query : queries) {
+            assertEquals(profiles.stream().filter(query).collect(Collectors.toSet()),
+                    new HashSet<>(query.findMatches(model, profiles)), query.toString());
+        }
+    }
+
+    @Test
+    public void findMatches_combinedQueries() {
+        List<Event> events = model.getNuScheduler().getEventList();
+        assertEquals(Set.of(PRESENTATION, PRACTICE, PROBLEM_SET), new HashSet<>(Query.and(List.of(
+                EventQueries.date(FIRST_DATE, SECOND_DATE), Query.not(EventQueries.tag(new Tag("RC")))))
+                .findMatches(model, events)));
+        assertEquals(Set.of(PRESENTATION, DINNER), new HashSet<>(Query.or(List.of(
+                EventQueries.attendee("benson"), EventQueries.title("dinner"))).findMatches(model, events)));
+
+        List<Profile> profiles = model.getNuScheduler().getProfileList();
+        assertEquals(Set.of(ALICE, DANIEL), new HashSet<>(Query.and(List.of(ProfileQueries.tag(new Tag("friends")),
+                Query.not(ProfileQueries.tag(new Tag("owesMoney"))), ProfileQueries.emailDomain("u.nus.edu")))
+                .findMatches(model, profiles)));
+    }
+
+    @Test
+    public void equals() {
+        Query<Event> query = Query.and(List.of(EventQueries.title("a"), Query.not(EventQueries.tag(new Tag("b")))));
+
+        assertEquals(query, Query.and(List.of(EventQueries.title("a"), Query.not(EventQueries.tag(new Tag("b"))))));
+        assertEquals(query.hashCode(), Query.and(List.of(EventQueries.title("a"),
+                Query.not(EventQueries.tag(new Tag("b"))))).hashCode());
+        assertNotEquals(query, Query.or(List.of(EventQueries.title("a"), Query.not(EventQueries.tag(new Tag("b"))))));
+        assertNotEquals(query, Query.and(List.of(EventQueries.title("a"), EventQueries.tag(new Tag("b")))));
+        assertNotEquals(EventQueries.title("a"), EventQueries.attendee("a"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("(title:a AND NOT tag:b)",
+                Query.and(List.of(EventQueries.title("a"), Query.not(EventQueries.tag(new Tag("b"))))).toString());
+        assertEquals("date:11/10/2022..12/10/2022", EventQueries.date(FIRST_DATE, SECOND_DATE).toString());
+    }
+}
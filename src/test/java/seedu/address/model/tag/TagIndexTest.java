@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagIndexTest {
+
+    private static final Tag CS2103T = new Tag("CS2103T");
+    private static final Tag CS2101 = new Tag("CS2101");
+    private static final Tag Y2 = new Tag("Y2");
+
+    private final TagIndex<String> tagIndex = new TagIndex<>();
+
+    @Test
+    public void add_nullItem_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.add(null, Collections.singleton(Y2)));
+    }
+
+    @Test
+    public void getMatching_noTagGroups_returnsEmptyList() {
+        tagIndex.add("alice", Collections.singleton(Y2));
+        assertTrue(tagIndex.getMatching(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getMatching_singleGroup_returnsItemsWithAnyTag() {
+        tagIndex.add("alice", Set.of(CS2103T, Y2));
+        tagIndex.add("bob", Set.of(CS2101));
+        tagIndex.add("carl", Set.of(Y2));
+        assertEquals(Set.of("alice", "bob"), matching(Set.of(CS2103T, CS2101)));
+    }
+
+    @Test
+    public void getMatching_multipleGroups_returnsItemsMatchingEveryGroup() {
+        tagIndex.add("alice", Set.of(CS2103T, Y2));
+        tagIndex.add("bob", Set.of(CS2101, Y2));
+        tagIndex.add("carl", Set.of(Y2));
+        tagIndex.add("dan", Set.of(CS2103T));
+        assertEquals(Set.of("alice", "bob"), matching(Set.of(CS2103T, CS2101), Set.of(Y2)));
+        assertEquals(Collections.emptySet(), matching(Set.of(CS2101), Set.of(new Tag("Y3"))));
+    }
+
+    @Test
+    public void remove_indexedItem_itemNoLongerReturned() {
+        tagIndex.add("alice", Set.of(CS2103T, Y2));
+        tagIndex.add("bob", Set.of(Y2));
+        tagIndex.remove("alice", Set.of(CS2103T, Y2));
+        assertEquals(Set.of("bob"), matching(Set.of(CS2103T, Y2)));
+    }
+
+    @SafeVarargs
+    private Set<String> matching(Set<Tag>... tagGroups) {
+        List<String> matches = tagIndex.getMatching(Arrays.asList(tagGroups));
+        return new HashSet<>(matches);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TagRegistryTest {
+
+    @Test
+    public void getTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagRegistry.getTag(null));
+    }
+
+    @Test
+    public void getTag_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TagRegistry.getTag(""));
+    }
+
+    @Test
+    public void getTag_sameTagName_returnsSameInstance() {
+        assertSame(TagRegistry.getTag("registryFriends"), TagRegistry.getTag("registryFriends"));
+    }
+
+    @Test
+    public void getTag_shortcut_returnsExpandedTag() {
+        Tag tutorial = TagRegistry.getTag("tutorial");
+        assertSame(tutorial, TagRegistry.getTag("tut"));
+        assertEquals("tutorial", tutorial.tagName);
+    }
+
+    @Test
+    public void intern_equalTags_returnsFirstInterned() {
+        Tag first = new Tag("registryColleagues");
+        assertSame(first, TagRegistry.intern(first));
+        assertSame(first, TagRegistry.intern(new Tag("registryColleagues")));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsOneOfEach() {
+        TagSet tagSet = TagSet.of(List.of(new Tag("friends"), new Tag("family"), new Tag("friends")));
+        assertEquals(2, tagSet.size());
+    }
+
+    @Test
+    public void of_tags_sortedByNameAndInterned() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("neighbours"), new Tag("colleagues"), new Tag("family")));
+        List<Tag> tags = new ArrayList<>(tagSet);
+        assertEquals(List.of(new Tag("colleagues"), new Tag("family"), new Tag("neighbours")), tags);
+        assertSame(TagRegistry.getTag("family"), tags.get(1));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends"), new Tag("colleagues")));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_returnsTrue() {
+        Set<Tag> tags = Set.of(new Tag("friends"), new Tag("colleagues"));
+        TagSet tagSet = TagSet.of(tags);
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, tags);
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("friends")));
+    }
+}
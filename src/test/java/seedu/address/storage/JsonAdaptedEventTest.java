@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.PRESENTATION;
 import static seedu.address.testutil.TypicalNuScheduler.getTypicalNuScheduler;
 import static seedu.address.testutil.TypicalProfiles.AMY;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.NuScheduler;
 import seedu.address.model.event.DateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
+import seedu.address.model.event.Recurrence.Frequency;
 import seedu.address.model.event.Title;
+import seedu.address.model.profile.Profile;
+import seedu.address.testutil.EventBuilder;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_START = "+651234";
@@ -25,6 +34,7 @@ public class JsonAdaptedEventTest {
     private static final List<JsonAdaptedProfile> NON_EXISTENT_ATTENDEES = List.of(
             new JsonAdaptedProfile(AMY));
 
+    private static final Long VALID_ID = PRESENTATION.getId();
     private static final String VALID_TITLE = PRESENTATION.getTitle().toString();
     private static final String VALID_START = PRESENTATION.getStartDateTime().toString();
     private static final String VALID_END = PRESENTATION.getEndDateTime().toString();
@@ -44,7 +54,8 @@ public class JsonAdaptedEventTest {
 
     @Test
     public void toModelType_nullTitle_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES);
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_ID, null, VALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(NUS_SCHEDULER));
     }
@@ -52,14 +63,16 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidStartDateTime_throwsIllegalValueException() {
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(VALID_TITLE, INVALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES);
+                new JsonAdaptedEvent(VALID_ID, VALID_TITLE, INVALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES,
+                        null);
         String expectedMessage = DateTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(NUS_SCHEDULER));
     }
 
     @Test
     public void toModelType_nullStartDateTime_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, null, VALID_END, VALID_TAGS, VALID_ATTENDEES);
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_ID, VALID_TITLE, null, VALID_END, VALID_TAGS, VALID_ATTENDEES, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DateTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(NUS_SCHEDULER));
     }
@@ -67,24 +80,56 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidEndDateTime_throwsIllegalValueException() {
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(VALID_TITLE, VALID_START, INVALID_END, VALID_TAGS, VALID_ATTENDEES);
+                new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, INVALID_END, VALID_TAGS, VALID_ATTENDEES,
+                        null);
         String expectedMessage = DateTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(NUS_SCHEDULER));
     }
 
     @Test
     public void toModelType_nullEndDateTime_throwsIllegalValueException() {
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, null, VALID_TAGS, VALID_ATTENDEES);
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, null, VALID_TAGS, VALID_ATTENDEES, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DateTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(NUS_SCHEDULER));
     }
 
+    @Test
+    public void toModelType_validEventDetails_keepsId() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(PRESENTATION);
+        assertEquals(PRESENTATION.getId(), event.toModelType(NUS_SCHEDULER).getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsEventWithNewId() throws Exception {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(null, VALID_TITLE, VALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES, null);
+        Event modelEvent = event.toModelType(NUS_SCHEDULER);
+        assertEquals(PRESENTATION, modelEvent);
+        assertNotEquals(PRESENTATION.getId(), modelEvent.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedEvent event =
+                new JsonAdaptedEvent(0L, VALID_TITLE, VALID_START, VALID_END, VALID_TAGS, VALID_ATTENDEES, null);
+        assertThrows(IllegalValueException.class, Event.MESSAGE_ID_CONSTRAINTS, () -> event.toModelType(NUS_SCHEDULER));
+    }
+
+    @Test
+    public void toModelType_attendeeWithId_returnsEventWithProfileInNuScheduler() throws Exception {
+        Profile attendee = NUS_SCHEDULER.getProfileList().get(0);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END, VALID_TAGS,
+                List.of(new JsonAdaptedProfile(attendee)), null);
+        assertSame(attendee, event.toModelType(NUS_SCHEDULER).getAttendee(0));
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedEvent event =
-                new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, invalidTags, VALID_ATTENDEES);
+                new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END, invalidTags, VALID_ATTENDEES, null);
         assertThrows(IllegalValueException.class, () -> event.toModelType(NUS_SCHEDULER));
     }
 
@@ -92,8 +137,8 @@ public class JsonAdaptedEventTest {
     public void toModelType_nonExistentAttendees_returnsEventWithValidAttendees() {
         List<JsonAdaptedProfile> invalidProfiles = new ArrayList<>(VALID_ATTENDEES);
         invalidProfiles.addAll(NON_EXISTENT_ATTENDEES);
-        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_TITLE, VALID_START, VALID_END, VALID_TAGS,
-                invalidProfiles);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END, VALID_TAGS,
+                invalidProfiles, null);
 
         try {
             assertEquals(PRESENTATION, event.toModelType(NUS_SCHEDULER));
@@ -102,4 +147,33 @@ public class JsonAdaptedEventTest {
         }
 
     }
+
+    @Test
+    public void toModelType_recurringEvent_returnsRecurringEvent() throws Exception {
+        Event recurringPresentation = new EventBuilder(PRESENTATION).withRecurrence(new Recurrence(Frequency.WEEKLY,
+                LocalDate.of(2022, 12, 31), Set.of(LocalDate.of(2022, 10, 18)))).build();
+        assertEquals(recurringPresentation, new JsonAdaptedEvent(recurringPresentation).toModelType(NUS_SCHEDULER));
+
+        recurringPresentation = new EventBuilder(PRESENTATION)
+                .withRecurrence(new Recurrence(Frequency.BIWEEKLY, 4, Set.of())).build();
+        assertEquals(recurringPresentation, new JsonAdaptedEvent(recurringPresentation).toModelType(NUS_SCHEDULER));
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END, VALID_TAGS,
+                VALID_ATTENDEES, new JsonAdaptedRecurrence("daily", null, 3, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS, () ->
+                event.toModelType(NUS_SCHEDULER));
+
+        JsonAdaptedEvent eventWithoutEnd = new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END,
+                VALID_TAGS, VALID_ATTENDEES, new JsonAdaptedRecurrence("weekly", null, null, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_END_CONSTRAINTS, () ->
+                eventWithoutEnd.toModelType(NUS_SCHEDULER));
+
+        JsonAdaptedEvent eventUntilBeforeStart = new JsonAdaptedEvent(VALID_ID, VALID_TITLE, VALID_START, VALID_END,
+                VALID_TAGS, VALID_ATTENDEES, new JsonAdaptedRecurrence("weekly", "01/01/2022", null, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_UNTIL_BEFORE_START, () ->
+                eventUntilBeforeStart.toModelType(NUS_SCHEDULER));
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedProfile.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProfiles.BENSON;
@@ -15,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.profile.Email;
 import seedu.address.model.profile.Name;
 import seedu.address.model.profile.Phone;
+import seedu.address.model.profile.Profile;
 import seedu.address.model.profile.Telegram;
 
 public class JsonAdaptedProfileTest {
@@ -25,10 +27,11 @@ public class JsonAdaptedProfileTest {
     private static final String INVALID_TELEGRAM = "_username";
     private static final String INVALID_TAG = "#friend";
 
+    private static final Long VALID_ID = BENSON.getId();
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
-    private static final String VALID_TELEGRAM = BENSON.getTelegram().toString();
+    private static final String VALID_TELEGRAM = BENSON.getTelegram().value;
 
     private static final List<JsonAdaptedTag> VALID_TAGS = BENSON.getTags().stream()
             .map(JsonAdaptedTag::new)
@@ -40,10 +43,32 @@ public class JsonAdaptedProfileTest {
         assertEquals(BENSON, profile.toModelType());
     }
 
+    @Test
+    public void toModelType_validProfileDetails_keepsId() throws Exception {
+        JsonAdaptedProfile profile = new JsonAdaptedProfile(BENSON);
+        assertEquals(BENSON.getId(), profile.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsProfileWithNewId() throws Exception {
+        JsonAdaptedProfile profile =
+                new JsonAdaptedProfile(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+        Profile modelProfile = profile.toModelType();
+        assertEquals(BENSON, modelProfile);
+        assertNotEquals(BENSON.getId(), modelProfile.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedProfile profile =
+                new JsonAdaptedProfile(-1L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Profile.MESSAGE_ID_CONSTRAINTS, profile::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedProfile profile =
-                new JsonAdaptedProfile(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+                new JsonAdaptedProfile(VALID_ID, INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -51,7 +76,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedProfile profile = new JsonAdaptedProfile(
-                null, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+                VALID_ID, null, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -59,7 +84,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedProfile profile =
-                new JsonAdaptedProfile(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+                new JsonAdaptedProfile(VALID_ID, VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -67,7 +92,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedProfile profile = new JsonAdaptedProfile(
-                VALID_NAME, null, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+                VALID_ID, VALID_NAME, null, VALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -75,7 +100,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedProfile profile =
-                new JsonAdaptedProfile(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
+                new JsonAdaptedProfile(VALID_ID, VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -83,7 +108,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedProfile profile = new JsonAdaptedProfile(
-                VALID_NAME, VALID_PHONE, null, VALID_TELEGRAM, VALID_TAGS);
+                VALID_ID, VALID_NAME, VALID_PHONE, null, VALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -91,7 +116,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_invalidTelegram_throwsIllegalValueException() {
         JsonAdaptedProfile profile = new JsonAdaptedProfile(
-                VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_TELEGRAM, VALID_TAGS);
+                VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_TELEGRAM, VALID_TAGS);
         String expectedMessage = Telegram.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -99,7 +124,7 @@ public class JsonAdaptedProfileTest {
     @Test
     public void toModelType_nullTelegram_throwsIllegalValueException() {
         JsonAdaptedProfile profile = new JsonAdaptedProfile(
-                VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_TAGS);
+                VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Telegram.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, profile::toModelType);
     }
@@ -109,7 +134,7 @@ public class JsonAdaptedProfileTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedProfile profile =
-                new JsonAdaptedProfile(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, invalidTags);
+                new JsonAdaptedProfile(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEGRAM, invalidTags);
         assertThrows(IllegalValueException.class, profile::toModelType);
     }
 }
@@ -21,6 +21,8 @@ public class JsonSerializableNuSchedulerTest {
     private static final Path SIMILAR_EMAIL_FILE = TEST_DATA_FOLDER.resolve("similarEmailNuScheduler.json");
     private static final Path SIMILAR_PHONE_FILE = TEST_DATA_FOLDER.resolve("similarPhoneNuScheduler.json");
     private static final Path SIMILAR_TELEGRAM_FILE = TEST_DATA_FOLDER.resolve("similarTelegramNuScheduler.json");
+    private static final Path DUPLICATE_PROFILE_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateProfileIdNuScheduler.json");
 
     @Test
     public void toModelType_typicalProfilesFile_success() throws Exception {
@@ -62,4 +64,12 @@ public class JsonSerializableNuSchedulerTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateProfileId_throwsIllegalValueException() throws Exception {
+        JsonSerializableNuScheduler dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PROFILE_ID_FILE,
+                JsonSerializableNuScheduler.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableNuScheduler.MESSAGE_DUPLICATE_PROFILE_ID,
+                dataFromFile::toModelType);
+    }
+
 }
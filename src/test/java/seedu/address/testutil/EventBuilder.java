@@ -5,11 +5,13 @@ import static seedu.address.testutil.TypicalProfiles.BENSON;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.event.Attendees;
 import seedu.address.model.event.DateTime;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.Recurrence;
 import seedu.address.model.event.Title;
 import seedu.address.model.profile.Profile;
 import seedu.address.model.tag.Tag;
@@ -30,6 +32,7 @@ public class EventBuilder {
     private DateTime endDateTime;
     private Attendees attendees;
     private Set<Tag> tags;
+    private Optional<Recurrence> recurrence;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -40,6 +43,7 @@ public class EventBuilder {
         endDateTime = new DateTime(DEFAULT_END);
         tags = new HashSet<>();
         attendees = new Attendees();
+        recurrence = Optional.empty();
     }
 
     /**
@@ -51,6 +55,7 @@ public class EventBuilder {
         endDateTime = eventToCopy.getEndDateTime();
         tags = new HashSet<>(eventToCopy.getTags());
         attendees = eventToCopy.getAttendees();
+        recurrence = eventToCopy.getRecurrence();
     }
 
     /**
@@ -94,8 +99,16 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Event} that we are building.
+     */
+    public EventBuilder withRecurrence(Recurrence recurrence) {
+        this.recurrence = Optional.of(recurrence);
+        return this;
+    }
+
     public Event build() {
-        return new Event(title, startDateTime, endDateTime, tags, attendees);
+        return new Event(title, startDateTime, endDateTime, tags, attendees, recurrence);
     }
 
 }
@@ -0,0 +1,85 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.event.DateTime;
+
+/**
+ * The datetime parser as it was before {@code DateTime} was made to match a single format, kept as a reference:
+ * {@code DateTime} must accept and reject the same strings, and benchmarks compare against its speed.
+ */
+public class LegacyDateTimeParser {
+
+    private LegacyDateTimeParser() {}
+
+    /**
+     * Returns true if an input string satisfies the required format. Does not validate the values.
+     */
+    public static boolean isValidDateTime(String dateString) {
+        for (String regex : DateTime.REGEX_DATES) {
+            if (dateString.toLowerCase().matches(regex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a LocalDate from a given date time string.
+     */
+    public static LocalDate parseDate(String dateString) throws DateTimeParseException {
+        Matcher matcher = matchLast(dateString);
+        return generateLocalDate(matcher.group("yearGroup"), matcher.group("monthGroup"), matcher.group("dayGroup"));
+    }
+
+    /**
+     * Returns the time in a given date time string, or an empty Optional if it has none.
+     */
+    public static Optional<LocalTime> parseTime(String dateString) {
+        Matcher matcher = matchLast(dateString);
+        if (matcher.group("timeGroup") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalTime.parse(matcher.group("hoursGroup") + ":" + matcher.group("minutesGroup"),
+                DateTimeFormatter.ofPattern("HH:mm")));
+    }
+
+    private static Matcher matchLast(String dateString) {
+        Pattern pattern = Pattern.compile("");
+        for (String regex : DateTime.REGEX_DATES) {
+            if (dateString.toLowerCase().matches(regex)) {
+                pattern = Pattern.compile(regex);
+            }
+        }
+        Matcher matcher = pattern.matcher(dateString.toLowerCase());
+        matcher.matches();
+        return matcher;
+    }
+
+    private static LocalDate generateLocalDate(String year, String month, String day) {
+        String formatter = "d/";
+        if (month.length() >= 3) {
+            month = month.substring(0, 1).toUpperCase() + month.substring(1).toLowerCase();
+            formatter += month.length() == 3 ? "MMM/" : "MMMM/";
+        } else {
+            formatter += "M/";
+        }
+        formatter += "uuuu";
+        if (year == null) {
+            year = String.valueOf(LocalDate.now().getYear());
+        }
+        if (year.equals("0000")) {
+            throw new DateTimeParseException("0000 is not a valid year!", day + month + year,
+                    day.length() + month.length());
+        }
+        return LocalDate.parse(day + "/" + month + "/" + year,
+                DateTimeFormatter.ofPattern(formatter).withResolverStyle(ResolverStyle.STRICT));
+    }
+}
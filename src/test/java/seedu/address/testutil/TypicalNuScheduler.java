@@ -1,5 +1,8 @@
 package seedu.address.testutil;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import seedu.address.model.NuScheduler;
 import seedu.address.model.event.Event;
 import seedu.address.model.profile.Profile;
@@ -26,4 +29,27 @@ public class TypicalNuScheduler {
         return ab;
     }
 
+    /**
+     * Returns an {@code NuScheduler} with copies of all the typical profiles and events, in which each event is also
+     * added to its attendees, as when a NUScheduler is read from storage.
+     * The typical profiles and events themselves are not changed, and only the typical profiles are kept as attendees,
+     * as other tests may have added more attendees to the typical events.
+     */
+    public static NuScheduler getTypicalNuSchedulerWithAttendance() {
+        NuScheduler ab = new NuScheduler();
+        Map<Profile, Profile> copies = new HashMap<>();
+        for (Profile profile : TypicalProfiles.getTypicalProfiles()) {
+            Profile copy = new ProfileBuilder(profile).build();
+            copies.put(profile, copy);
+            ab.addProfile(copy);
+        }
+        for (Event event : TypicalEvents.getTypicalEvents()) {
+            Event copy = new EventBuilder(event).withAttendees(event.getAttendeesList().stream()
+                    .filter(copies::containsKey).map(copies::get).toArray(Profile[]::new)).build();
+            copy.addToAllAttendees();
+            ab.addEvent(copy);
+        }
+        return ab;
+    }
+
 }